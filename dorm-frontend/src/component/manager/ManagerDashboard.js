@@ -32,70 +32,73 @@ const ManagerDashboard = () => {
 
   useEffect(() => {
     fetchDashboardData();
-    fetchPendingCheckInsForDorm();
-    fetchPendingComplaintsForDorm();
   }, [managerId, announcementsUpdateTrigger]);
 
+  // One batch request instead of separate dashboard, check-in/out and complaint calls
   const fetchDashboardData = async () => {
     try {
       setLoading(true);
-      const response = await managerAPI.getDashboard(user.id);
-      setDashboardData(response.data);
+      const response = await managerAPI.getBatch(user.id, ['dashboard', 'checkinout', 'complaints']);
+      const { dashboard, checkinout, complaints } = response.data;
+
+      if (dashboard.status === 200) {
+        setDashboardData(dashboard.body);
+      } else {
+        setError('Failed to fetch dashboard data');
+        console.error('Error fetching dashboard:', dashboard.error);
+      }
+      if (checkinout.status !== 200) {
+        console.error('Error fetching check-in/out requests:', checkinout.error);
+      }
+      if (complaints.status !== 200) {
+        console.error('Error fetching complaints:', complaints.error);
+      }
+      countPendingCheckIns(checkinout.body);
+      countPendingComplaints(complaints.body);
     } catch (err) {
       setError('Failed to fetch dashboard data');
       console.error('Error fetching dashboard:', err);
+      countPendingCheckIns(null);
+      countPendingComplaints(null);
     } finally {
       setLoading(false);
     }
   };
 
-  const fetchPendingCheckInsForDorm = async () => {
-    try {
-      const response = await managerAPI.getAllCheckInOutRequests(user.id);
-      if (response.data && Array.isArray(response.data)) {
-        const pendingRequests = response.data.filter(request => 
-          request.status === 'PENDING'
-        );
-        setPendingCheckIns(pendingRequests.length);
+  const countPendingCheckIns = (requests) => {
+    if (requests && Array.isArray(requests)) {
+      const pendingRequests = requests.filter(request => 
+        request.status === 'PENDING'
+      );
+      setPendingCheckIns(pendingRequests.length);
+      
+      // Calculate expiring requests (within 24 hours)
+      const now = new Date();
+      const expiringRequests = pendingRequests.filter(request => {
+        if (!request.date) return false;
         
-        // Calculate expiring requests (within 24 hours)
-        const now = new Date();
-        const expiringRequests = pendingRequests.filter(request => {
-          if (!request.date) return false;
-          
-          const requestDate = new Date(request.date);
-          const timeDiff = requestDate.getTime() - now.getTime();
-          const hoursDiff = timeDiff / (1000 * 60 * 60);
-          
-          // Requests that are within 24 hours from now
-          return hoursDiff <= 24 && hoursDiff >= 0;
-        });
+        const requestDate = new Date(request.date);
+        const timeDiff = requestDate.getTime() - now.getTime();
+        const hoursDiff = timeDiff / (1000 * 60 * 60);
         
-        setExpiringRequestsCount(expiringRequests.length);
-      } else {
-        setPendingCheckIns(0);
-        setExpiringRequestsCount(0);
-      }
-    } catch (err) {
-      console.error('Error fetching check-in/out requests:', err);
+        // Requests that are within 24 hours from now
+        return hoursDiff <= 24 && hoursDiff >= 0;
+      });
+      
+      setExpiringRequestsCount(expiringRequests.length);
+    } else {
       setPendingCheckIns(0);
       setExpiringRequestsCount(0);
     }
   };
 
-  const fetchPendingComplaintsForDorm = async () => {
-    try {
-      const response = await managerAPI.getAllComplaints(user.id);
-      if (response.data && Array.isArray(response.data)) {
-        const pendingComplaints = response.data.filter(complaint => 
-          complaint.status === 'PENDING'
-        );
-        setActiveComplaints(pendingComplaints.length);
-      } else {
-        setActiveComplaints(0);
-      }
-    } catch (err) {
-      console.error('Error fetching complaints:', err);
+  const countPendingComplaints = (complaints) => {
+    if (complaints && Array.isArray(complaints)) {
+      const pendingComplaints = complaints.filter(complaint => 
+        complaint.status === 'PENDING'
+      );
+      setActiveComplaints(pendingComplaints.length);
+    } else {
       setActiveComplaints(0);
     }
   };
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { useAuth } from '../../context/AuthContext';
 import { managerAPI } from '../../service/api';
 import { useLocation, useParams } from 'react-router-dom';
@@ -27,9 +27,13 @@ const ManagerRooms = () => {
   const [studentsToRemove, setStudentsToRemove] = useState([]);
   const [studentSearch, setStudentSearch] = useState('');
   const [availableStudents, setAvailableStudents] = useState([]);
+  const [availableCursor, setAvailableCursor] = useState(null);
+  const [totalMatching, setTotalMatching] = useState(0);
+  const [loadingStudents, setLoadingStudents] = useState(false);
   const [selectedStudent, setSelectedStudent] = useState(null);
   const [currentPage, setCurrentPage] = useState(1);
   const roomsPerPage = 6;
+  const studentsPerPage = 200;
   const [filterStatus, setFilterStatus] = useState(
     location.state?.initialFilter || 'all'  // ? This goes in ManagerRooms
   );
@@ -131,18 +135,48 @@ const ManagerRooms = () => {
     return pages;
   };
 
-  const handleAddStudent = async (room) => {
+  const handleAddStudent = (room) => {
     setSelectedRoom(room);
     setShowAssignModal(true);
     setStudentSearch('');
     setSelectedStudent(null);
+    setAvailableStudents([]);
+    setAvailableCursor(null);
+  };
+
+  // A name is filtered on the server (namePrefix); digits search the IDs of the loaded pages
+  const isIdSearch = /^\d+$/.test(studentSearch.trim());
+  const namePrefix = isIdSearch ? '' : studentSearch.trim();
+
+  // Reload from the first page once typing pauses, and when the modal opens
+  useEffect(() => {
+    if (!showAssignModal) return;
+    const timer = setTimeout(() => loadAvailableStudents(null), namePrefix ? 300 : 0);
+    return () => clearTimeout(timer);
+  }, [showAssignModal, namePrefix]);
 
+  // Only the latest request may update the list, an older one can answer after it
+  const studentRequest = useRef(0);
+
+  // Keyset pages: the response's nextCursor is passed back as `after`, null means no more
+  const loadAvailableStudents = async (after) => {
+    const request = ++studentRequest.current;
     try {
-      const response = await managerAPI.getAvailableStudents(user.id);
-      setAvailableStudents(response.data);
+      setLoadingStudents(true);
+      const params = { size: studentsPerPage };
+      if (after != null) params.after = after;
+      if (namePrefix) params.namePrefix = namePrefix;
+      const response = await managerAPI.getAvailableStudents(user.id, params);
+      if (request !== studentRequest.current) return;
+      setAvailableStudents(prev => after != null ? [...prev, ...response.data.students] : response.data.students);
+      setAvailableCursor(response.data.nextCursor);
+      setTotalMatching(response.data.totalMatching);
     } catch (err) {
+      if (request !== studentRequest.current) return;
       console.error('Error fetching available students:', err);
       alert('Failed to load available students');
+    } finally {
+      if (request === studentRequest.current) setLoadingStudents(false);
     }
   };
 
@@ -193,10 +227,9 @@ const ManagerRooms = () => {
     }
   };
 
-  const filteredStudents = availableStudents.filter(student => 
-    student.id.toString().includes(studentSearch) ||
-    student.name.toLowerCase().includes(studentSearch.toLowerCase())
-  );
+  const filteredStudents = isIdSearch
+    ? availableStudents.filter(student => student.id.toString().includes(studentSearch.trim()))
+    : availableStudents;
 
   // Card style consistent with Student Room Page
   const cardStyle = {
@@ -769,6 +802,27 @@ const ManagerRooms = () => {
                       No students found
                     </div>
                   )}
+                  {availableCursor != null && (
+                    <button
+                      type="button"
+                      style={{
+                        width: '100%',
+                        padding: '0.75rem 1rem',
+                        border: 'none',
+                        backgroundColor: '#faf7f5',
+                        color: '#69301cff',
+                        fontSize: '0.875rem',
+                        fontWeight: 500,
+                        cursor: loadingStudents ? 'default' : 'pointer',
+                      }}
+                      disabled={loadingStudents}
+                      onClick={() => loadAvailableStudents(availableCursor)}
+                    >
+                      {loadingStudents
+                        ? 'Loading...'
+                        : `Load more students (${availableStudents.length} of ${totalMatching} loaded)`}
+                    </button>
+                  )}
                 </div>
               )}
 
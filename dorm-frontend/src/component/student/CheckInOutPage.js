@@ -68,6 +68,18 @@ const CheckInOutPage = () => {
     return () => window.removeEventListener('scroll', handleScroll);
   }, [studentId]);
 
+  // Approvals and rejections arrive as they happen instead of on refresh
+  useEffect(() => {
+    const close = studentAPI.subscribeStatus(studentId, (name, update) => {
+      if (name !== 'checkinout') return;
+      const applyStatus = (requests) =>
+        requests.map((request) => (request.id === update.id ? { ...request, status: update.status } : request));
+      setHistory(applyStatus);
+      setExistingRequests(applyStatus);
+    });
+    return close;
+  }, [studentId]);
+
   useEffect(() => {
     filterAndSortHistory();
   }, [history, statusFilter]);
@@ -98,6 +98,17 @@ const ServicePage = () => {
     return () => window.removeEventListener('scroll', handleScroll);
   }, [studentId]);
 
+  // Status changes arrive as the manager makes them instead of on refresh
+  useEffect(() => {
+    const close = studentAPI.subscribeStatus(studentId, (name, update) => {
+      if (name !== 'complaint') return;
+      setServiceRequests((requests) =>
+        requests.map((request) => (request.id === update.id ? { ...request, status: update.status } : request))
+      );
+    });
+    return close;
+  }, [studentId]);
+
   useEffect(() => {
     // Check if navigated from dashboard with scroll intent
     if (location.state?.scrollToRequests) {
@@ -9,12 +9,12 @@ const api = axios.create({
   },
 });
 
-// Request interceptor (optional token)
+// Request interceptor (session token issued at login)
 api.interceptors.request.use(
   (config) => {
     const token = localStorage.getItem('token');
     if (token) {
-      // config.headers.Authorization = `Bearer ${token}`;
+      config.headers.Authorization = `Bearer ${token}`;
     }
     return config;
   },
@@ -30,6 +30,55 @@ api.interceptors.response.use(
   }
 );
 
+// Server-sent events over fetch, since EventSource can't send the Authorization header.
+// Reconnects after the server ends the stream or the connection drops.
+const STREAM_RETRY_MS = 3000;
+
+const openEventStream = (url, onEvent) => {
+  const controller = new AbortController();
+
+  const dispatch = (block) => {
+    let name = 'message';
+    const data = [];
+    block.split('\n').forEach((line) => {
+      if (line.startsWith('event:')) name = line.slice(6).trim();
+      else if (line.startsWith('data:')) data.push(line.slice(5).trim());
+    });
+    if (data.length > 0) onEvent(name, JSON.parse(data.join('\n')));
+  };
+
+  const connect = async () => {
+    try {
+      const token = localStorage.getItem('token');
+      const response = await fetch(url, {
+        headers: { Accept: 'text/event-stream', ...(token ? { Authorization: `Bearer ${token}` } : {}) },
+        signal: controller.signal,
+      });
+      if (!response.ok || !response.body) throw new Error(`Status stream failed: ${response.status}`);
+      const reader = response.body.getReader();
+      const decoder = new TextDecoder();
+      let buffer = '';
+      for (;;) {
+        const { done, value } = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, { stream: true }).replace(/\r/g, '');
+        let end;
+        while ((end = buffer.indexOf('\n\n')) >= 0) {
+          dispatch(buffer.slice(0, end));
+          buffer = buffer.slice(end + 2);
+        }
+      }
+    } catch (err) {
+      if (controller.signal.aborted) return;
+      console.error('Status stream error:', err);
+    }
+    if (!controller.signal.aborted) setTimeout(connect, STREAM_RETRY_MS);
+  };
+
+  connect();
+  return () => controller.abort();
+};
+
 // Auth API
 export const authAPI = {
   login: (id, password, userType) =>
@@ -39,6 +88,9 @@ export const authAPI = {
 // Student APIs
 export const studentAPI = {
   getDashboard: (studentId) => api.get(`/student/${studentId}/dashboard`),
+  // Several read endpoints in one request, e.g. ['dashboard', 'service/history']
+  getBatch: (studentId, parts) =>
+    api.get(`/student/${studentId}/batch`, { params: { part: parts.join(',') } }),
   getRoomInfo: (studentId) => api.get(`/student/${studentId}/room`),
   createServiceRequest: (studentId, requestData) =>
     api.post(`/student/${studentId}/service/request`, requestData),
@@ -51,17 +103,24 @@ export const studentAPI = {
   getAllAnnouncements: (studentId) => api.get(`/student/${studentId}/announcements`),
   getAllAnnouncementsByAsc: (studentId) => api.get(`/student/${studentId}/announcements/dateAsc`),
   getAllAnnouncementsByDesc: (studentId) => api.get(`/student/${studentId}/announcements/dateDesc`),
+  // Live status changes; onEvent(name, data) gets 'checkinout' / 'complaint' with { id, status }.
+  // Returns a function that closes the stream.
+  subscribeStatus: (studentId, onEvent) =>
+    openEventStream(`${API_BASE_URL}/student/${studentId}/status/stream`, onEvent),
 };
 
 // Manager APIs
 export const managerAPI = {
   getDashboard: (managerId) =>
     api.get(`/manager/${managerId}/dashboard`),
+  // Several read endpoints in one request, e.g. ['dashboard', 'checkinout']
+  getBatch: (managerId, parts) =>
+    api.get(`/manager/${managerId}/batch`, { params: { part: parts.join(',') } }),
   getAllRooms: (managerId) => api.get(`/manager/${managerId}/rooms`),
   assignRoom: (managerId, assignmentData) =>
     api.post(`/manager/${managerId}/rooms/assign`, assignmentData),
-  getAvailableStudents: (managerId) =>
-    api.get(`/manager/${managerId}/students/available`),
+  getAvailableStudents: (managerId, params) =>
+    api.get(`/manager/${managerId}/students/available`, { params }),
   reassignRoom: (managerId, reassignmentData) =>
     api.put(`/manager/${managerId}/rooms/reassign`, reassignmentData),
   removeStudentFromRoom: (managerId, studentId) =>
@@ -0,0 +1,119 @@
+package com.project.dormitory.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.dormitory.DormitoryApplication;
+import com.project.dormitory.model.CheckInOut;
+import com.project.dormitory.model.CheckInOutStatus;
+import com.project.dormitory.model.CheckInOutType;
+import com.project.dormitory.repository.CheckInOutRepo;
+import com.project.dormitory.repository.StudentRepo;
+
+/**
+ * Bulk insert throughput of check-in/out requests in rows per millisecond, with the pooled
+ * table ids the entities use now against the IDENTITY ids they used before (restored by
+ * identity-ids.xml). Each invocation saves ROWS requests in one transaction with
+ * hibernate.jdbc.batch_size as configured; IDENTITY makes Hibernate ignore it and insert
+ * row by row. H2 has no network round trip, so the gap is far wider against MySQL, e.g.
+ * -jvmArgsAppend "-Dspring.datasource.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true
+ *                 -Dspring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver
+ *                 -Dspring.datasource.username=... -Dspring.datasource.password=..."
+ * against a scratch schema (ddl-auto=create drops its tables).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BulkInsertBenchmarks {
+
+    private static final int ROWS = 1000;
+    private static final long STUDENT_ID = 6731500000L;
+
+    @Param({"identity", "pooled"})
+    private String ids;
+
+    private ConfigurableApplicationContext context;
+    private CheckInOutRepo checkInOutRepo;
+    private StudentRepo studentRepo;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+
+    @Setup(Level.Trial)
+    public void start() {
+        List<String> properties = new ArrayList<>(List.of(
+            "spring.datasource.url=jdbc:h2:mem:inserts;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "spring.datasource.driver-class-name=org.h2.Driver",
+            "spring.datasource.username=sa",
+            "spring.datasource.password=",
+            "spring.jpa.hibernate.ddl-auto=create",
+            "spring.sql.init.mode=never",
+            "logging.level.root=warn"));
+        if ("identity".equals(ids)) {
+            properties.add("spring.jpa.mapping-resources=identity-ids.xml");
+        }
+        context = new SpringApplicationBuilder(DormitoryApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(properties.toArray(String[]::new))
+            .run();
+        checkInOutRepo = context.getBean(CheckInOutRepo.class);
+        studentRepo = context.getBean(StudentRepo.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate.update("INSERT INTO student (id, name) VALUES (?, ?)", STUDENT_ID, "Bulk Insert");
+    }
+
+    // Keeps the table, and the index maintenance per row, the same size in every iteration
+    @Setup(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM check_in_out");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertCheckInOuts() {
+        transaction.executeWithoutResult(status -> {
+            LocalDate date = LocalDate.of(2024, 8, 1);
+            List<CheckInOut> rows = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                CheckInOut row = new CheckInOut();
+                row.setStudent(studentRepo.getReferenceById(STUDENT_ID));
+                row.setType(i % 2 == 0 ? CheckInOutType.CHECK_IN : CheckInOutType.CHECK_OUT);
+                row.setStatus(CheckInOutStatus.PENDING);
+                row.setDate(date.plusDays(i % 120));
+                rows.add(row);
+            }
+            checkInOutRepo.saveAll(rows);
+        });
+    }
+}
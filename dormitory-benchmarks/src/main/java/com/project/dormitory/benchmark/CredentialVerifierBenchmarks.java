@@ -0,0 +1,65 @@
+package com.project.dormitory.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.dormitory.security.CredentialVerifier;
+import com.project.dormitory.security.PasswordHasher;
+
+/**
+ * Logins per second on one core: a full BCrypt check against a check served from the
+ * verified-credential cache. The pool is pinned to one thread so the bcrypt score is
+ * the per-core capacity to plan the 8am login peak with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class CredentialVerifierBenchmarks {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private CredentialVerifier uncached;
+    private CredentialVerifier cached;
+    private String stored;
+
+    @Setup
+    public void setUp() {
+        PasswordHasher hasher = new PasswordHasher(10);
+        stored = hasher.hash(PASSWORD);
+        uncached = new CredentialVerifier(hasher, 1, 16, 60_000, 0, 1);
+        cached = new CredentialVerifier(hasher, 1, 16, 60_000, 3600, 1000);
+        cached.verify("student:1", PASSWORD, stored);
+    }
+
+    @TearDown
+    public void tearDown() {
+        uncached.destroy();
+        cached.destroy();
+    }
+
+    @Benchmark
+    public boolean bcrypt() {
+        return uncached.verify("student:1", PASSWORD, stored);
+    }
+
+    @Benchmark
+    public boolean cachedVerification() {
+        return cached.verify("student:1", PASSWORD, stored);
+    }
+}
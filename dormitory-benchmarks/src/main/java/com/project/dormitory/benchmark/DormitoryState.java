@@ -0,0 +1,62 @@
+package com.project.dormitory.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.dormitory.DormitoryApplication;
+import com.project.dormitory.dataset.DatasetGenerator;
+import com.project.dormitory.dataset.DatasetSpec;
+import com.project.dormitory.dataset.DatasetSummary;
+import com.project.dormitory.dataset.JdbcDatasetSink;
+import com.project.dormitory.security.PasswordHasher;
+
+/**
+ * Boots the application once per trial against an in-memory H2 database in MySQL mode
+ * and fills it with the synthetic dataset generator, 10k students unless overridden with
+ * e.g. -jvmArgsAppend -Ddormitory.dataset.students=100000. No web server is started;
+ * benchmarks call the service beans directly.
+ */
+@State(Scope.Benchmark)
+public class DormitoryState {
+
+    ConfigurableApplicationContext context;
+    DatasetSummary dataset;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(DormitoryApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create",
+                "spring.sql.init.mode=never",
+                "logging.level.root=warn",
+                "dormitory.dataset.students=10000",
+                "dormitory.dataset.rooms-per-dorm=400",
+                "dormitory.dataset.check-in-outs-per-student=20")
+            .run();
+        DatasetSpec spec = DatasetSpec.from(context.getEnvironment());
+        String password = context.getBean(PasswordHasher.class).hash(spec.getPassword());
+        dataset = new DatasetGenerator(spec, password)
+            .generate(new JdbcDatasetSink(context.getBean(JdbcTemplate.class), spec.getBatchSize()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.dormitory.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.dormitory.cache.RoomHandleRegistry;
+import com.project.dormitory.model.RoomId;
+
+/**
+ * Room lookups by handle against the RoomId-keyed HashMap they replace. Run with
+ * -Djmh.args="RoomHandleBenchmarks -prof gc": handleOf should show a
+ * gc.alloc.rate.norm of about 0 B/op, roomIdHashMap one RoomId per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomHandleBenchmarks {
+
+    private static final int DORMS = 13;
+    private static final int ROOMS_PER_DORM = 400;
+
+    private RoomHandleRegistry registry;
+    private Map<RoomId, Integer> roomIdMap;
+    private long[] dormIds;
+    private String[] roomNums;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        registry = new RoomHandleRegistry();
+        roomIdMap = new HashMap<>();
+        dormIds = new long[DORMS * ROOMS_PER_DORM];
+        roomNums = new String[DORMS * ROOMS_PER_DORM];
+        int i = 0;
+        for (int d = 0; d < DORMS; d++) {
+            for (int r = 0; r < ROOMS_PER_DORM; r++) {
+                dormIds[i] = 101 + d;
+                // Built at runtime like a request parameter, with its hash already cached
+                roomNums[i] = String.valueOf(1000 + r);
+                roomNums[i].hashCode();
+                roomIdMap.put(new RoomId(roomNums[i], dormIds[i]), registry.intern(dormIds[i], roomNums[i]));
+                i++;
+            }
+        }
+    }
+
+    @Benchmark
+    public int handleOf() {
+        int i = next();
+        return registry.handleOf(dormIds[i], roomNums[i]);
+    }
+
+    @Benchmark
+    public Integer roomIdHashMap() {
+        int i = next();
+        return roomIdMap.get(new RoomId(roomNums[i], dormIds[i]));
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = i + 1 == dormIds.length ? 0 : i + 1;
+        return i;
+    }
+}
@@ -0,0 +1,153 @@
+package com.project.dormitory.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.dormitory.model.Announcement;
+import com.project.dormitory.model.CheckInOutDto;
+import com.project.dormitory.model.CheckInOutStatus;
+import com.project.dormitory.model.CheckInOutType;
+import com.project.dormitory.model.ComplaintRepairDto;
+import com.project.dormitory.model.ComplaintStatus;
+import com.project.dormitory.model.PriorityLevel;
+import com.project.dormitory.model.ServiceType;
+import com.project.dormitory.model.ManagerDashboardResponse;
+
+/**
+ * Jackson serialization of the DTO lists returned by the manager check-in/out and
+ * complaint screens and of the manager dashboard, with the same ObjectMapper defaults
+ * Spring MVC uses, in each format the API negotiates. Decoding reads the bytes into a
+ * tree, as a client without the server's classes would. The encoded size of each
+ * payload is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmarks {
+
+    @Param({"50", "1000"})
+    private int size;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter checkInOutWriter;
+    private ObjectWriter complaintWriter;
+    private List<CheckInOutDto> checkInOuts;
+    private List<ComplaintRepairDto> complaints;
+    private ManagerDashboardResponse dashboard;
+    private byte[] encodedCheckInOuts;
+    private byte[] encodedComplaints;
+    private byte[] encodedDashboard;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Built like BinaryFormatsConfig: Boot's builder with the format's factory
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        } else if ("smile".equals(format)) {
+            builder.factory(new SmileFactory());
+        }
+        objectMapper = builder.build();
+        checkInOutWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, CheckInOutDto.class));
+        complaintWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, ComplaintRepairDto.class));
+
+        LocalDate start = LocalDate.of(2024, 6, 1);
+        checkInOuts = new ArrayList<>(size);
+        complaints = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            checkInOuts.add(new CheckInOutDto((long) i, i % 2 == 0 ? CheckInOutType.CHECK_IN : CheckInOutType.CHECK_OUT,
+                CheckInOutStatus.PENDING,
+                start.plusDays(i % 120), "Student " + i, String.valueOf(1000 + i % 400)));
+
+            ComplaintRepairDto complaint = new ComplaintRepairDto();
+            complaint.setId((long) i);
+            complaint.setDescription("Air conditioner is leaking water onto the desk");
+            complaint.setStatus(ComplaintStatus.PENDING);
+            complaint.setStudentName("Student " + i);
+            complaint.setStudentId(6731500000L + i);
+            complaint.setPriorityLvl(PriorityLevel.HIGH);
+            complaint.setType(ServiceType.ELECTRICAL);
+            complaint.setRoomNumber(String.valueOf(1000 + i % 400));
+            complaints.add(complaint);
+        }
+
+        List<Announcement> announcements = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Announcement announcement = new Announcement();
+            announcement.setId((long) i);
+            announcement.setTitle("Water outage in block " + (char) ('A' + i));
+            announcement.setDescription("Water will be off from 9:00 to 12:00 for pipe maintenance. "
+                + "Please store water in advance and report any leaks to the dormitory office.");
+            announcement.setDateTime(LocalDateTime.of(2024, 6, 1, 9, 0).plusDays(i));
+            announcements.add(announcement);
+        }
+        dashboard = new ManagerDashboardResponse((long) size, 120L, (long) size / 10, (long) size / 20, announcements);
+
+        encodedCheckInOuts = checkInOutDtos();
+        encodedComplaints = complaintRepairDtos();
+        encodedDashboard = managerDashboard();
+        System.out.printf("%n%s, %d rows: check-in/outs %d bytes, complaints %d bytes, dashboard %d bytes%n",
+            format, size, encodedCheckInOuts.length, encodedComplaints.length, encodedDashboard.length);
+    }
+
+    @Benchmark
+    public byte[] checkInOutDtos() throws JsonProcessingException {
+        return checkInOutWriter.writeValueAsBytes(checkInOuts);
+    }
+
+    @Benchmark
+    public byte[] complaintRepairDtos() throws JsonProcessingException {
+        return complaintWriter.writeValueAsBytes(complaints);
+    }
+
+    @Benchmark
+    public byte[] managerDashboard() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dashboard);
+    }
+
+    @Benchmark
+    public JsonNode decodeCheckInOutDtos() throws IOException {
+        return objectMapper.readTree(encodedCheckInOuts);
+    }
+
+    @Benchmark
+    public JsonNode decodeComplaintRepairDtos() throws IOException {
+        return objectMapper.readTree(encodedComplaints);
+    }
+
+    @Benchmark
+    public JsonNode decodeManagerDashboard() throws IOException {
+        return objectMapper.readTree(encodedDashboard);
+    }
+}
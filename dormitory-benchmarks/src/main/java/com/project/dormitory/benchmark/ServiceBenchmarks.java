@@ -0,0 +1,116 @@
+package com.project.dormitory.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.dormitory.dataset.DatasetSummary;
+import com.project.dormitory.model.CheckInOut;
+import com.project.dormitory.model.DashboardResponse;
+import com.project.dormitory.model.ManagerDashboardResponse;
+import com.project.dormitory.service.CheckInOutService;
+import com.project.dormitory.service.DashboardService;
+import com.project.dormitory.service.ManagerDashboardService;
+import com.project.dormitory.service.RoomService;
+
+/**
+ * Service calls behind the busiest screens, each cycling through dormitories and
+ * students so no single row stays hot in the database buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ServiceBenchmarks {
+
+    private ManagerDashboardService managerDashboardService;
+    private DashboardService dashboardService;
+    private CheckInOutService checkInOutService;
+    private RoomService roomService;
+    private DatasetSummary dataset;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(DormitoryState state) {
+        managerDashboardService = state.bean(ManagerDashboardService.class);
+        dashboardService = state.bean(DashboardService.class);
+        checkInOutService = state.bean(CheckInOutService.class);
+        roomService = state.bean(RoomService.class);
+        dataset = state.dataset;
+    }
+
+    @Benchmark
+    public ManagerDashboardResponse managerDashboard() {
+        return managerDashboardService.getDashboardStats(dataset.managerId(next()));
+    }
+
+    @Benchmark
+    public DashboardResponse studentDashboard() {
+        return dashboardService.getStudentDashboard(dataset.assignedStudentId(next()));
+    }
+
+    @Benchmark
+    public List<CheckInOut> searchCheckInOutRequests() {
+        int i = next();
+        return checkInOutService.searchCheckInOutRequests(dataset.dormId(i), i % 2 == 0 ? "mary" : "10" + (i % 10));
+    }
+
+    @Benchmark
+    public void assignRoomToStudent(Assignment assignment) {
+        roomService.assignRoomToStudent(assignment.studentId, assignment.roomNum, assignment.dormId);
+    }
+
+    private int next() {
+        return cursor++ & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Picks a fresh unassigned student and an empty room before each call and takes the
+     * student out again afterwards, so rooms never fill up. Kept in its own state so the
+     * per-invocation fixtures don't run around the other benchmarks.
+     */
+    @State(Scope.Thread)
+    public static class Assignment {
+        private RoomService roomService;
+        private DatasetSummary dataset;
+        private int cursor;
+
+        long studentId;
+        String roomNum;
+        long dormId;
+
+        @Setup(Level.Trial)
+        public void setUp(DormitoryState state) {
+            roomService = state.bean(RoomService.class);
+            dataset = state.dataset;
+        }
+
+        @Setup(Level.Invocation)
+        public void pick() {
+            int i = cursor++ & Integer.MAX_VALUE;
+            int room = dataset.emptyRoom(i);
+            studentId = dataset.unassignedStudentId(i);
+            roomNum = dataset.getRooms().roomNumOf(room);
+            dormId = dataset.getRooms().dormIdOf(room);
+        }
+
+        @TearDown(Level.Invocation)
+        public void undo() {
+            roomService.removeStudentFromRoom(studentId);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.dormitory.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dormitory.controller.ManagerController;
+import com.project.dormitory.dataset.DatasetSummary;
+import com.project.dormitory.security.SessionPrincipal;
+
+/**
+ * The manager list endpoints with and without ?fields=, from the controller method to
+ * JSON bytes, each inside a read-only transaction as under open-in-view. The payload size of one response
+ * per variant is printed at setup, so the byte savings can be read next to the timings.
+ * The sparse field lists are the columns the manager screens actually show.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SparseFieldsBenchmarks {
+
+    private static final Map<String, String> SPARSE_FIELDS = Map.of(
+        "rooms", "roomNum,occupancy",
+        "complaints", "id,status,studentName,roomNumber",
+        "announcements", "id,title,dateTime");
+
+    @Param({"rooms", "complaints", "announcements"})
+    private String endpoint;
+
+    @Param({"full", "sparse"})
+    private String shape;
+
+    private ObjectMapper objectMapper;
+    private TransactionTemplate readOnlyTransaction;
+    private DatasetSummary dataset;
+    private LongFunction<ResponseEntity<?>> list;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(DormitoryState state) {
+        objectMapper = state.bean(ObjectMapper.class);
+        readOnlyTransaction = new TransactionTemplate(state.bean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        dataset = state.dataset;
+
+        ManagerController controller = state.bean(ManagerController.class);
+        String fields = "sparse".equals(shape) ? SPARSE_FIELDS.get(endpoint) : null;
+        switch (endpoint) {
+            case "rooms":
+                list = dormId -> controller.getAllRooms(dataset.managerIdOfDorm(dormId), principal(dormId), fields);
+                break;
+            case "complaints":
+                list = dormId -> controller.getAllComplaints(dataset.managerIdOfDorm(dormId), principal(dormId), fields);
+                break;
+            default:
+                list = dormId -> controller.getAllAnnouncements(dataset.managerIdOfDorm(dormId), fields);
+        }
+        System.out.printf("%n%s (%s) payload: %d bytes%n", endpoint, shape, request().length);
+    }
+
+    private SessionPrincipal principal(long dormId) {
+        return new SessionPrincipal(dataset.managerIdOfDorm(dormId), SessionPrincipal.MANAGER, dormId);
+    }
+
+    @Benchmark
+    public byte[] request() {
+        long dormId = dataset.dormId(cursor++ & Integer.MAX_VALUE);
+        return readOnlyTransaction.execute(status -> {
+            try {
+                ResponseEntity<?> response = list.apply(dormId);
+                if (!response.getStatusCode().is2xxSuccessful()) {
+                    throw new IllegalStateException(endpoint + " answered " + response.getBody());
+                }
+                return objectMapper.writeValueAsBytes(response.getBody());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.dormitory.loadtest;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.dormitory.dataset.DatasetSummary;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenService;
+
+/**
+ * What the scenarios need to build requests: the seeded ids, session tokens and the
+ * pending check-in/out requests managers can approve. Tokens are minted with the app's own
+ * SessionTokenService so only LOGIN_STORM pays for BCrypt.
+ */
+final class Fixtures {
+
+    record PendingRequest(long requestId, long managerId) {
+    }
+
+    private final String baseUrl;
+    private final DatasetSummary dataset;
+    private final String password;
+    private final SessionTokenService tokenService;
+    private final List<PendingRequest> pending;
+    private final String today = LocalDate.now().toString();
+    private final Map<Long, String> studentTokens = new ConcurrentHashMap<>();
+    private final Map<Long, String> managerTokens = new ConcurrentHashMap<>();
+
+    Fixtures(int port, DatasetSummary dataset, String password, SessionTokenService tokenService,
+             JdbcTemplate jdbcTemplate) {
+        this.baseUrl = "http://localhost:" + port;
+        this.dataset = dataset;
+        this.password = password;
+        this.tokenService = tokenService;
+        this.pending = jdbcTemplate.query(
+            "SELECT c.id, s.dorm_id FROM check_in_out c JOIN student s ON s.id = c.stu_id "
+                + "WHERE c.status = 'PENDING' ORDER BY c.id",
+            (rs, row) -> new PendingRequest(rs.getLong(1), dataset.managerIdOfDorm(rs.getLong(2))));
+        if (pending.isEmpty()) {
+            throw new IllegalStateException("The dataset has no pending check-in/out requests to approve");
+        }
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    DatasetSummary dataset() {
+        return dataset;
+    }
+
+    String password() {
+        return password;
+    }
+
+    String today() {
+        return today;
+    }
+
+    String studentToken(long studentId) {
+        return studentTokens.computeIfAbsent(studentId,
+            id -> tokenService.issue(id, SessionPrincipal.STUDENT, null));
+    }
+
+    String managerToken(long managerId) {
+        return managerTokens.computeIfAbsent(managerId,
+            id -> tokenService.issue(id, SessionPrincipal.MANAGER, dataset.dormId((int) (id - 1))));
+    }
+
+    // Wraps around once every request was approved; later approvals just re-approve
+    PendingRequest pending(long n) {
+        return pending.get((int) (n % pending.size()));
+    }
+}
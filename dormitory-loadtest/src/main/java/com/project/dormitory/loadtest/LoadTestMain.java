@@ -0,0 +1,140 @@
+package com.project.dormitory.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.dormitory.DormitoryApplication;
+import com.project.dormitory.dataset.DatasetGenerator;
+import com.project.dormitory.dataset.DatasetSpec;
+import com.project.dormitory.dataset.DatasetSummary;
+import com.project.dormitory.dataset.JdbcDatasetSink;
+import com.project.dormitory.security.PasswordHasher;
+import com.project.dormitory.security.SessionTokenService;
+
+/**
+ * Starts the application on a random port with an in-memory H2 database, seeds it, and
+ * replays the move-in day mix against it.
+ *
+ * Options (all --name=value):
+ *   scenarios      comma-separated subset of login-storm, check-in, approval, dashboard (default all)
+ *   duration       measured seconds (default 60)
+ *   warmup         seconds of the same load before measuring (default 15)
+ *   {scenario}.rate  requests per second for that scenario
+ *   max-in-flight  requests allowed outstanding before new ones are dropped (default 10000)
+ *   rate-limits    keep the app's per-user/per-address throttling on (default false; the
+ *                  load comes from one address)
+ * Any other --dormitory.* or --spring.* option is passed to the application, e.g.
+ * --dormitory.dataset.students=100000.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        Map<String, Object> appProperties = new LinkedHashMap<>();
+        appProperties.put("server.port", "0");
+        appProperties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        appProperties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        appProperties.put("spring.datasource.username", "sa");
+        appProperties.put("spring.datasource.password", "");
+        appProperties.put("spring.jpa.hibernate.ddl-auto", "create");
+        appProperties.put("spring.sql.init.mode", "never");
+        appProperties.put("logging.level.root", "warn");
+        appProperties.put("dormitory.dataset.students", "20000");
+        appProperties.put("dormitory.dataset.rooms-per-dorm", "800");
+        appProperties.put("dormitory.dataset.check-in-outs-per-student", "10");
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (name.startsWith("dormitory.") || name.startsWith("spring.") || name.startsWith("server.")) {
+                appProperties.put(name, value);
+            } else {
+                options.put(name, value);
+            }
+        }
+        if (!Boolean.parseBoolean(options.getOrDefault("rate-limits", "false"))) {
+            for (String route : new String[] {"login", "checkinout", "service-request"}) {
+                appProperties.put("dormitory.rate-limit." + route + ".per-user", "0");
+                appProperties.put("dormitory.rate-limit." + route + ".per-address", "0");
+            }
+        }
+
+        Map<Scenario, Integer> rates = new LinkedHashMap<>();
+        String scenarios = options.getOrDefault("scenarios", "login-storm,check-in,approval,dashboard");
+        for (String key : scenarios.split(",")) {
+            Scenario scenario = Scenario.fromKey(key);
+            int rate = Integer.parseInt(options.getOrDefault(scenario.getKey() + ".rate",
+                String.valueOf(scenario.getDefaultRate())));
+            if (rate <= 0) {
+                throw new IllegalArgumentException(scenario.getKey() + ".rate must be positive");
+            }
+            rates.put(scenario, rate);
+        }
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DormitoryApplication.class)
+                .properties(appProperties)
+                .run()) {
+            DatasetSpec spec = DatasetSpec.from(context.getEnvironment());
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            System.out.printf("Seeding %d students...%n", spec.getStudents());
+            DatasetSummary dataset = new DatasetGenerator(spec, context.getBean(PasswordHasher.class).hash(spec.getPassword()))
+                .generate(new JdbcDatasetSink(jdbcTemplate, spec.getBatchSize()));
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Fixtures fixtures = new Fixtures(port, dataset, spec.getPassword(),
+                context.getBean(SessionTokenService.class), jdbcTemplate);
+            OpenLoadGenerator generator = new OpenLoadGenerator(fixtures, maxInFlight);
+
+            if (!warmup.isZero()) {
+                System.out.printf("Warming up for %ds at %s%n", warmup.toSeconds(), rates);
+                generator.run(rates, warmup);
+            }
+            System.out.printf("Measuring for %ds at %s%n", duration.toSeconds(), rates);
+            report(generator.run(rates, duration), duration);
+        }
+    }
+
+    private static void report(List<ScenarioResult> results, Duration duration) {
+        System.out.println();
+        System.out.printf("%-12s %8s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+            "scenario", "requests", "req/s", "error%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "mean ms");
+        for (ScenarioResult result : results) {
+            Histogram histogram = result.histogram();
+            long total = result.total();
+            System.out.printf("%-12s %8d %8.1f %6.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                result.scenario().getKey(), total, total / (double) duration.toSeconds(),
+                total == 0 ? 0 : 100.0 * result.errors() / total,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()), histogram.getMean() / 1000);
+        }
+        System.out.println();
+        System.out.printf("%-12s %8s %8s %8s %8s %8s %8s%n",
+            "scenario", "2xx", "4xx", "429/503", "5xx", "io-error", "dropped");
+        for (ScenarioResult result : results) {
+            System.out.printf("%-12s %8d %8d %8d %8d %8d %8d%n", result.scenario().getKey(), result.ok(),
+                result.clientErrors(), result.throttled(), result.serverErrors(), result.failures(), result.dropped());
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.dormitory.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: each scenario gets requests started at a fixed arrival rate whether
+ * or not earlier ones have finished, every request on its own virtual thread. A closed
+ * loop of N users would slow down with the server and hide the queueing a real spike
+ * causes.
+ */
+final class OpenLoadGenerator {
+
+    private final HttpClient client;
+    private final Fixtures fixtures;
+    private final Semaphore inFlight;
+
+    OpenLoadGenerator(Fixtures fixtures, int maxInFlight) {
+        this.fixtures = fixtures;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    /**
+     * Runs all scenarios side by side for the given duration and waits for the stragglers.
+     */
+    List<ScenarioResult> run(Map<Scenario, Integer> rates, Duration duration) throws InterruptedException {
+        List<ScenarioResult> results = new ArrayList<>();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> pacers = new ArrayList<>();
+            for (Map.Entry<Scenario, Integer> entry : rates.entrySet()) {
+                ScenarioResult result = new ScenarioResult(entry.getKey());
+                results.add(result);
+                pacers.add(Thread.ofVirtual().name("pacer-" + entry.getKey().getKey())
+                    .start(() -> pace(result, entry.getValue(), duration, requests)));
+            }
+            for (Thread pacer : pacers) {
+                pacer.join();
+            }
+        }
+        return results;
+    }
+
+    private void pace(ScenarioResult result, int ratePerSecond, Duration duration, ExecutorService requests) {
+        long interval = 1_000_000_000L / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long n = 0; ; n++) {
+            long scheduled = start + n * interval;
+            if (scheduled >= end) {
+                return;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                result.recordDropped();
+                continue;
+            }
+            long request = n;
+            requests.execute(() -> {
+                try {
+                    send(result, request, scheduled);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void send(ScenarioResult result, long n, long scheduled) {
+        try {
+            HttpResponse<Void> response = client.send(result.scenario().request(fixtures, n),
+                HttpResponse.BodyHandlers.discarding());
+            result.record(scheduled, response.statusCode());
+        } catch (IOException e) {
+            result.recordFailure(scheduled);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.recordFailure(scheduled);
+        }
+    }
+}
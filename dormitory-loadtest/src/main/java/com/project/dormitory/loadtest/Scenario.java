@@ -0,0 +1,101 @@
+package com.project.dormitory.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * One kind of request in the move-in day traffic mix, with its default arrival rate in
+ * requests per second.
+ */
+public enum Scenario {
+
+    // Everyone opens the app at 8am; distinct students so the verified-credential cache doesn't help
+    LOGIN_STORM("login-storm", 100) {
+        @Override
+        HttpRequest request(Fixtures fixtures, long n) {
+            long studentId = fixtures.dataset().assignedStudentId((int) n);
+            return post(fixtures.uri("/api/auth/login"), null,
+                "{\"id\":" + studentId + ",\"password\":\"" + fixtures.password() + "\",\"userType\":\"student\"}");
+        }
+    },
+
+    CHECK_IN("check-in", 200) {
+        @Override
+        HttpRequest request(Fixtures fixtures, long n) {
+            long studentId = fixtures.dataset().assignedStudentId((int) n);
+            return post(fixtures.uri("/api/student/" + studentId + "/checkinout"), fixtures.studentToken(studentId),
+                "{\"type\":\"Check-in\",\"date\":\"" + fixtures.today() + "\"}");
+        }
+    },
+
+    APPROVAL("approval", 50) {
+        @Override
+        HttpRequest request(Fixtures fixtures, long n) {
+            Fixtures.PendingRequest pending = fixtures.pending(n);
+            return post(fixtures.uri("/api/manager/" + pending.managerId() + "/checkinout/" + pending.requestId()
+                + "/approve"), fixtures.managerToken(pending.managerId()), "");
+        }
+    },
+
+    // Managers keep the dashboard open and it refreshes; students reload theirs after submitting
+    DASHBOARD("dashboard", 100) {
+        @Override
+        HttpRequest request(Fixtures fixtures, long n) {
+            if (n % 4 == 0) {
+                long managerId = fixtures.dataset().managerId((int) (n / 4));
+                return get(fixtures.uri("/api/manager/" + managerId + "/dashboard"), fixtures.managerToken(managerId));
+            }
+            long studentId = fixtures.dataset().assignedStudentId((int) n);
+            return get(fixtures.uri("/api/student/" + studentId + "/dashboard"), fixtures.studentToken(studentId));
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String key;
+    private final int defaultRate;
+
+    Scenario(String key, int defaultRate) {
+        this.key = key;
+        this.defaultRate = defaultRate;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getDefaultRate() {
+        return defaultRate;
+    }
+
+    abstract HttpRequest request(Fixtures fixtures, long n);
+
+    public static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key.trim())) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + key);
+    }
+
+    private static HttpRequest post(URI uri, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+            .timeout(TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static HttpRequest get(URI uri, String token) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(TIMEOUT)
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.dormitory.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency and outcome counts for one scenario. Latency is measured from the request's
+ * scheduled start, not from when it was actually sent, so a stalled server shows up in
+ * the percentiles instead of silently lowering the request rate.
+ */
+final class ScenarioResult {
+
+    private final Scenario scenario;
+    // Microseconds, 3 significant digits
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    ScenarioResult(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    Scenario scenario() {
+        return scenario;
+    }
+
+    void record(long scheduledNanos, int status) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos)));
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else if (status == 429 || status == 503) {
+            throttled.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else {
+            clientErrors.increment();
+        }
+    }
+
+    // Timeouts and connection errors
+    void recordFailure(long scheduledNanos) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos)));
+        failures.increment();
+    }
+
+    // Not sent because too many requests were already in flight
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long ok() { return ok.sum(); }
+    long clientErrors() { return clientErrors.sum(); }
+    long throttled() { return throttled.sum(); }
+    long serverErrors() { return serverErrors.sum(); }
+    long failures() { return failures.sum(); }
+    long dropped() { return dropped.sum(); }
+
+    long total() {
+        return ok() + clientErrors() + throttled() + serverErrors() + failures() + dropped();
+    }
+
+    long errors() {
+        return total() - ok();
+    }
+}
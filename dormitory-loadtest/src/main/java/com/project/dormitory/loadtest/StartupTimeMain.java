@@ -0,0 +1,100 @@
+package com.project.dormitory.loadtest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-request: starts the given command, polls a URL until it answers
+ * 2xx, and reports the elapsed time over several runs. Compare a plain start with the
+ * fast-startup image, e.g.
+ *
+ *   -Dexec.mainClass=com.project.dormitory.loadtest.StartupTimeMain
+ *   -Dexec.args="--runs=5 -- java -jar ../dormitory/target/dormitory-0.0.1-SNAPSHOT-exec.jar"
+ *   -Dexec.args="--runs=5 -- docker run --rm -p 8081:8081 -e SPRING_DATASOURCE_URL=... dormitory"
+ *
+ * Options (all --name=value, before the --):
+ *   url      polled until it returns 2xx (default http://localhost:8081/actuator/health)
+ *   runs     number of starts (default 5)
+ *   timeout  seconds to wait for one start (default 120)
+ */
+public final class StartupTimeMain {
+
+    private static final long POLL_MILLIS = 20;
+
+    private StartupTimeMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException("Usage: [--url=..] [--runs=..] [--timeout=..] -- <command...>");
+        }
+        Map<String, String> options = new HashMap<>();
+        for (String arg : Arrays.copyOfRange(args, 0, separator)) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8081/actuator/health"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "120")));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        List<Long> millis = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            long elapsed = timeStart(client, command, url, timeout);
+            millis.add(elapsed);
+            System.out.printf("run %d: first request answered after %d ms%n", run, elapsed);
+        }
+        millis.sort(null);
+        System.out.printf("time-to-first-request over %d runs: min %d ms, median %d ms, max %d ms%n",
+            runs, millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+    }
+
+    private static long timeStart(HttpClient client, List<String> command, URI url, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(1)).GET().build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Command exited with " + process.exitValue() + " before answering");
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException | HttpTimeoutException e) {
+                    // not listening yet
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            throw new IllegalStateException("No 2xx from " + url + " within " + timeout.toSeconds() + "s");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+}
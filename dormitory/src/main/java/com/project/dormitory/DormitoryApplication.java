@@ -2,10 +2,8 @@ package com.project.dormitory;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.ComponentScan;
 
 @SpringBootApplication
-@ComponentScan(basePackages = {"com.project.dormitory"}) 
 public class DormitoryApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,135 @@
+package com.project.dormitory.batch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dormitory.datasource.ReadYourWrites;
+import com.project.dormitory.metrics.DormitoryTier;
+import com.project.dormitory.metrics.SqlStatementCounter;
+import com.project.dormitory.model.BatchPartResponse;
+
+/**
+ * Runs the parts of a batch GET side by side, so a dashboard costs one round trip and
+ * roughly its slowest part instead of the sum of several requests.
+ *
+ * Each part runs in its own read-only transaction on a pool thread and is turned into
+ * JSON before that transaction ends, so lazy associations are read while their session
+ * is still open. A JDBC transaction belongs to one connection and one thread, so parts
+ * can't share one; they share what the caller resolved up front (the principal's
+ * dormitory) and the request's SQL counts, metric tier and read-your-writes session.
+ * When the pool is saturated a part runs on the request thread instead.
+ *
+ * A part still running at dormitory.batch.timeout-ms is answered 504 and its thread is
+ * interrupted. JDBC doesn't always notice an interrupt, so each part's transaction also
+ * carries the batch timeout, which Hibernate passes on as the query timeout.
+ */
+@Component
+public class BatchGetExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchGetExecutor.class);
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BatchGetExecutor(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                            @Value("${dormitory.batch.threads:8}") int threads,
+                            @Value("${dormitory.batch.queue:64}") int queueSize,
+                            @Value("${dormitory.batch.timeout-ms:5000}") long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+        this.timeoutMillis = timeoutMillis;
+
+        // Parts wait on the database, so the pool is sized against the connection pool, not cores
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "batch-get-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs every part and returns their responses keyed and ordered like parts. A part
+     * that rejects its arguments (IllegalArgumentException) answers 400 with the message,
+     * one that fails otherwise 500 without it, one that returns null 404, one that is
+     * still running when the batch times out 504.
+     */
+    public Map<String, BatchPartResponse> run(Map<String, Supplier<?>> parts) {
+        Map<String, Future<JsonNode>> running = new LinkedHashMap<>();
+        parts.forEach((name, part) -> {
+            Supplier<JsonNode> task = propagate(() -> readJson(part));
+            running.put(name, executor.submit(task::get));
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Map<String, BatchPartResponse> responses = new LinkedHashMap<>();
+        running.forEach((name, future) -> responses.put(name, await(future, deadline)));
+        return responses;
+    }
+
+    private JsonNode readJson(Supplier<?> part) {
+        return readOnlyTransaction.execute(status -> {
+            Object body = part.get();
+            return body != null ? objectMapper.valueToTree(body) : null;
+        });
+    }
+
+    private BatchPartResponse await(Future<JsonNode> future, long deadline) {
+        try {
+            JsonNode body = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return body != null
+                ? new BatchPartResponse(HttpStatus.OK.value(), body, null)
+                : new BatchPartResponse(HttpStatus.NOT_FOUND.value(), null, "Not found");
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return new BatchPartResponse(HttpStatus.GATEWAY_TIMEOUT.value(), null, "Timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return new BatchPartResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), null, "Interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException invalid) {
+                return new BatchPartResponse(HttpStatus.BAD_REQUEST.value(), null, invalid.getMessage());
+            }
+            // Service, JPA and SQL messages stay in the log
+            log.error("Batch part failed", e.getCause());
+            return new BatchPartResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), null, "Internal error");
+        }
+    }
+
+    private static <T> Supplier<T> propagate(Supplier<T> task) {
+        return SqlStatementCounter.propagate(DormitoryTier.propagate(ReadYourWrites.propagate(task)));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
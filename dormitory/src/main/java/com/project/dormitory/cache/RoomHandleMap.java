@@ -0,0 +1,103 @@
+package com.project.dormitory.cache;
+
+/**
+ * Open-addressing map from (dormId, roomNum) to an int handle.
+ * Keys are stored in parallel primitive arrays so lookups never box or allocate.
+ * Not thread-safe on its own, see RoomHandleRegistry.
+ */
+final class RoomHandleMap {
+
+    static final int NO_HANDLE = -1;
+
+    // Swapped as a whole on resize so a reader always sees arrays of the same length
+    private static final class Table {
+        final long[] dormIds;
+        final String[] roomNums;
+        final int[] handles;
+
+        Table(int capacity) {
+            this.dormIds = new long[capacity];
+            this.roomNums = new String[capacity];
+            this.handles = new int[capacity];
+        }
+    }
+
+    private Table table;
+    private int size;
+
+    RoomHandleMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    int get(long dormId, String roomNum) {
+        Table t = table;
+        int mask = t.roomNums.length - 1;
+        int slot = hash(dormId, roomNum) & mask;
+        while (true) {
+            String key = t.roomNums[slot];
+            if (key == null) {
+                return NO_HANDLE;
+            }
+            if (t.dormIds[slot] == dormId && key.equals(roomNum)) {
+                return t.handles[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    void put(long dormId, String roomNum, int handle) {
+        // Keep the load factor at or below 0.5 so probe chains stay short
+        if ((size + 1) * 2 > table.roomNums.length) {
+            resize();
+        }
+        if (insert(table, dormId, roomNum, handle)) {
+            size++;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        Table old = table;
+        Table grown = new Table(old.roomNums.length * 2);
+        for (int i = 0; i < old.roomNums.length; i++) {
+            if (old.roomNums[i] != null) {
+                insert(grown, old.dormIds[i], old.roomNums[i], old.handles[i]);
+            }
+        }
+        table = grown;
+    }
+
+    private static boolean insert(Table t, long dormId, String roomNum, int handle) {
+        int mask = t.roomNums.length - 1;
+        int slot = hash(dormId, roomNum) & mask;
+        while (t.roomNums[slot] != null) {
+            if (t.dormIds[slot] == dormId && t.roomNums[slot].equals(roomNum)) {
+                t.handles[slot] = handle;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        t.dormIds[slot] = dormId;
+        t.handles[slot] = handle;
+        // Key last, a slot only counts as occupied once it is fully written
+        t.roomNums[slot] = roomNum;
+        return true;
+    }
+
+    private static int hash(long dormId, String roomNum) {
+        // String caches its hash code, so this is allocation-free after the first call
+        int h = roomNum.hashCode() * 31 + Long.hashCode(dormId);
+        return h ^ (h >>> 16);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
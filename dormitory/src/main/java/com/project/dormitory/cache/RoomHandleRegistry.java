@@ -0,0 +1,107 @@
+package com.project.dormitory.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Interns a room's composite key (dormId, roomNum) into a dense int handle.
+ * In-memory room indexes (DatasetSummary's empty rooms, for one) are keyed by the handle
+ * instead of RoomId, so they can use plain int arrays and look rooms up without
+ * allocating. Hibernate's room cache region keeps its own entity keys.
+ */
+public class RoomHandleRegistry {
+
+    public static final int NO_HANDLE = RoomHandleMap.NO_HANDLE;
+
+    private final StampedLock lock = new StampedLock();
+    private final RoomHandleMap handles = new RoomHandleMap(256);
+
+    // Reverse lookup, indexed by handle
+    private long[] dormIds = new long[256];
+    private String[] roomNums = new String[256];
+    private int nextHandle;
+
+    /**
+     * Returns the handle for the room, or NO_HANDLE if it was never interned.
+     * Does not allocate.
+     */
+    public int handleOf(long dormId, String roomNum) {
+        long stamp = lock.tryOptimisticRead();
+        int handle = handles.get(dormId, roomNum);
+        if (lock.validate(stamp)) {
+            return handle;
+        }
+        stamp = lock.readLock();
+        try {
+            return handles.get(dormId, roomNum);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the handle for the room, assigning the next free one if needed.
+     */
+    public int intern(long dormId, String roomNum) {
+        int handle = handleOf(dormId, roomNum);
+        if (handle != NO_HANDLE) {
+            return handle;
+        }
+        long stamp = lock.writeLock();
+        try {
+            handle = handles.get(dormId, roomNum);
+            if (handle != NO_HANDLE) {
+                return handle;
+            }
+            handle = nextHandle++;
+            if (handle == dormIds.length) {
+                dormIds = Arrays.copyOf(dormIds, handle * 2);
+                roomNums = Arrays.copyOf(roomNums, handle * 2);
+            }
+            dormIds[handle] = dormId;
+            roomNums[handle] = roomNum;
+            handles.put(dormId, roomNum, handle);
+            return handle;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public long dormIdOf(int handle) {
+        long stamp = lock.readLock();
+        try {
+            checkHandle(handle);
+            return dormIds[handle];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public String roomNumOf(int handle) {
+        long stamp = lock.readLock();
+        try {
+            checkHandle(handle);
+            return roomNums[handle];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Number of handles handed out so far. Handles are always in [0, size()).
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return nextHandle;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void checkHandle(int handle) {
+        if (handle < 0 || handle >= nextHandle) {
+            throw new IllegalArgumentException("Unknown room handle " + handle);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.dormitory.cache;
+
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Publishes Hibernate second-level and query cache statistics per region, e.g.
+ * /actuator/metrics/hibernate.cache.region.hits?tag=region:room.
+ * Needs hibernate.generate_statistics=true.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final String QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (QUERY_REGION.equals(region) || TIMESTAMPS_REGION.equals(region)) {
+                continue;
+            }
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            if (regionStatistics != null) {
+                bindRegion(registry, region, regionStatistics);
+            }
+        }
+        CacheRegionStatistics queryStatistics = statistics.getQueryRegionStatistics(QUERY_REGION);
+        if (queryStatistics != null) {
+            bindRegion(registry, QUERY_REGION, queryStatistics);
+        }
+
+        Gauge.builder("hibernate.statements.prepared", statistics, Statistics::getPrepareStatementCount)
+                .description("JDBC statements prepared since startup")
+                .register(registry);
+    }
+
+    private static void bindRegion(MeterRegistry registry, String region, CacheRegionStatistics regionStatistics) {
+        counter(registry, "hibernate.cache.region.hits", region, regionStatistics, CacheRegionStatistics::getHitCount);
+        counter(registry, "hibernate.cache.region.misses", region, regionStatistics, CacheRegionStatistics::getMissCount);
+        counter(registry, "hibernate.cache.region.puts", region, regionStatistics, CacheRegionStatistics::getPutCount);
+        Gauge.builder("hibernate.cache.region.entries", regionStatistics, CacheRegionStatistics::getElementCountInMemory)
+                .description("Entries held in memory, -1 if the provider does not report it")
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, String region,
+                                CacheRegionStatistics regionStatistics, ToDoubleFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder(name, regionStatistics, count)
+                .tag("region", region)
+                .register(registry);
+    }
+}
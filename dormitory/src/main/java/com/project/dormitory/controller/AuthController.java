@@ -3,6 +3,8 @@ package com.project.dormitory.controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 import com.project.dormitory.model.*;
+import com.project.dormitory.ratelimit.RateLimiter;
+import com.project.dormitory.security.LoginOverloadedException;
 import com.project.dormitory.service.AuthenticationService;
 
 @RestController
@@ -11,13 +13,25 @@ import com.project.dormitory.service.AuthenticationService;
 public class AuthController {
 
     private AuthenticationService authenticationService;
+    private RateLimiter rateLimiter;
 
-    public AuthController(AuthenticationService authenticationService) {
+    public AuthController(AuthenticationService authenticationService, RateLimiter rateLimiter) {
         this.authenticationService = authenticationService;
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping("/login")
     public ResponseEntity<AuthenticationResponse> login(@RequestBody AuthenticationRequest request) {
+        if (request.getId() != null) {
+            // Per-account limit; manager ids are complemented so they don't share buckets with student ids
+            long accountKey = "manager".equalsIgnoreCase(request.getUserType()) ? ~request.getId() : request.getId();
+            long wait = rateLimiter.acquireForUser(RateLimiter.Route.LOGIN, accountKey);
+            if (wait > 0) {
+                return ResponseEntity.status(429)
+                        .header("Retry-After", String.valueOf(RateLimiter.retryAfterSeconds(wait)))
+                        .body(new AuthenticationResponse(false, "Too many login attempts, please retry later"));
+            }
+        }
         try {
             AuthenticationResponse response = authenticationService.authenticate(request);
             
@@ -26,6 +40,10 @@ public class AuthController {
             } else {
                 return ResponseEntity.status(401).body(response);
             }
+        } catch (LoginOverloadedException e) {
+            return ResponseEntity.status(503)
+                    .header("Retry-After", "1")
+                    .body(new AuthenticationResponse(false, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(500)
                     .body(new AuthenticationResponse(false, "Login failed: " + e.getMessage()));
@@ -0,0 +1,54 @@
+package com.project.dormitory.controller;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.dormitory.importer.ImportType;
+import com.project.dormitory.model.ImportReport;
+import com.project.dormitory.service.BulkImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/import")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    public ImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    // Body is the raw CSV (text/csv), read straight from the request stream
+    @PostMapping("/{type}")
+    public ResponseEntity<?> importCsv(@PathVariable String type,
+                                       @RequestParam(required = false) String jobId,
+                                       HttpServletRequest request) {
+        try {
+            ImportReport report = bulkImportService.importCsv(jobId, ImportType.fromName(type),
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error importing " + type + ": " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getProgress(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(bulkImportService.getProgress(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching import progress: " + e.getMessage());
+        }
+    }
+}
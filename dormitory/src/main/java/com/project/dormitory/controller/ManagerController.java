@@ -1,10 +1,15 @@
 package com.project.dormitory.controller;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -13,28 +18,37 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.project.dormitory.batch.BatchGetExecutor;
+import com.project.dormitory.json.JsonArrayStreamer;
+import com.project.dormitory.json.JsonRows;
 import com.project.dormitory.model.Announcement;
+import com.project.dormitory.model.AvailableStudentsResponse;
 import com.project.dormitory.model.CheckInOut;
 import com.project.dormitory.model.CheckInOutDto;
 import com.project.dormitory.model.ComplaintRepair;
 import com.project.dormitory.model.ComplaintRepairDto;
+import com.project.dormitory.model.ComplaintStatus;
 import com.project.dormitory.model.ManagerDashboardResponse;
 import com.project.dormitory.model.Room;
 import com.project.dormitory.model.RoomAssignmentRequest;
-import com.project.dormitory.model.Student;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenFilter;
 import com.project.dormitory.service.AnnouncementService;
 import com.project.dormitory.service.CheckInOutService;
 import com.project.dormitory.service.ComplaintRepairService;
 import com.project.dormitory.service.ManagerDashboardService;
-import com.project.dormitory.service.ManagerService;
 import com.project.dormitory.service.RoomService;
 import com.project.dormitory.service.StudentService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/manager")
 @CrossOrigin(origins = "http://localhost:3000")
@@ -59,13 +73,18 @@ public class ManagerController {
     private StudentService studentService;
 
     @Autowired
-    private ManagerService managerService;
+    private JsonArrayStreamer jsonArrayStreamer;
+
+    @Autowired
+    private BatchGetExecutor batchGetExecutor;
 
     // Dashboard Endpoints
     @GetMapping("/{managerId}/dashboard")
-    public ResponseEntity<?> getManagerDashboard(@PathVariable Long managerId) {
+    public ResponseEntity<?> getManagerDashboard(@PathVariable Long managerId,
+                                                 @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal) {
         try {
-            ManagerDashboardResponse dashboardStats = managerDashboardService.getDashboardStats(managerId);
+            ManagerDashboardResponse dashboardStats =
+                managerDashboardService.getDashboardStats(managerId, dormitoryIdOf(principal));
             
             return ResponseEntity.ok(dashboardStats);
         } catch (Exception e) {
@@ -73,11 +92,64 @@ public class ManagerController {
         }
     }
 
+    // Batch GET: several read endpoints in one round trip, e.g. ?part=dashboard,checkinout,complaints
+    @GetMapping("/{managerId}/batch")
+    public ResponseEntity<?> getBatch(@PathVariable Long managerId,
+                                      @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
+                                      @RequestParam("part") List<String> partNames) {
+        try {
+            Long dormId = dormitoryIdOf(principal);
+            Map<String, Supplier<?>> parts = new LinkedHashMap<>();
+            for (String name : partNames) {
+                Supplier<?> part = batchPart(name, managerId, dormId);
+                if (part == null) {
+                    return ResponseEntity.badRequest().body("Unknown batch part: " + name);
+                }
+                parts.put(name, part);
+            }
+            return ResponseEntity.ok(batchGetExecutor.run(parts));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error fetching batch: " + e.getMessage());
+        }
+    }
+
+    // Same bodies as the endpoints of the same path; null for an unknown part
+    private Supplier<?> batchPart(String name, Long managerId, Long dormId) {
+        switch (name) {
+            case "dashboard":
+                return () -> managerDashboardService.getDashboardStats(managerId, dormId);
+            case "rooms":
+                return () -> roomService.getRoomsByDormitory(dormId);
+            case "checkinout":
+                return () -> {
+                    try (Stream<CheckInOutDto> rows = checkInOutService.streamCheckInOutRequests(dormId)) {
+                        return rows.toList();
+                    }
+                };
+            case "checkinout/pending":
+                return () -> checkInOutService.getPendingRequests();
+            case "complaints":
+                return () -> toComplaintDtos(complaintRepairService.getComplaintsByDormitory(dormId));
+            case "complaints/pending":
+                return () -> complaintRepairService.getPendingComplaints();
+            case "announcements":
+                return () -> announcementService.getAllAnnouncementsByManager(managerId);
+            default:
+                return null;
+        }
+    }
+
     // Rooms Management Endpoints
     @GetMapping("/{managerId}/rooms")
-    public ResponseEntity<?> getAllRooms(@PathVariable Long managerId) {
+    public ResponseEntity<?> getAllRooms(@PathVariable Long managerId,
+                                         @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
+                                         @RequestParam(required = false) String fields) {
         try {
-            Long dormId = managerService.getDormitoryIdByManagerId(managerId);
+            Long dormId = dormitoryIdOf(principal);
+            if (fields != null) {
+                return ResponseEntity.ok(roomService.getRoomFieldsByDormitory(dormId,
+                    RoomService.ROOM_FIELDS.select(fields)));
+            }
             List<Room> rooms = roomService.getRoomsByDormitory(dormId);
             return ResponseEntity.ok(rooms);
         } catch (Exception e) {
@@ -86,10 +158,11 @@ public class ManagerController {
     }
 
     @PostMapping("/{managerId}/rooms/assign")
-    public ResponseEntity<?> assignRoom(@PathVariable Long managerId, 
+    public ResponseEntity<?> assignRoom(@PathVariable Long managerId,
+                                        @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
                                       @RequestBody RoomAssignmentRequest assignmentRequest) {
         try {
-            Long dormId = managerService.getDormitoryIdByManagerId(managerId);
+            Long dormId = dormitoryIdOf(principal);
             roomService.assignRoomToStudent(assignmentRequest.getStudentId(), 
                                           assignmentRequest.getRoomNum(), dormId);
             return ResponseEntity.ok("Room assigned successfully");
@@ -99,9 +172,14 @@ public class ManagerController {
     }
 
     @GetMapping("/{managerId}/students/available")
-    public ResponseEntity<?> getAvailableStudents(@PathVariable Long managerId) {
+    public ResponseEntity<?> getAvailableStudents(@PathVariable Long managerId,
+                                                 @RequestParam(required = false) Long after,
+                                                 @RequestParam(defaultValue = "50") int size,
+                                                 @RequestParam(required = false) String major,
+                                                 @RequestParam(required = false) String namePrefix) {
         try {
-            List<Student> availableStudents = studentService.getStudentsWithoutRoom();
+            AvailableStudentsResponse availableStudents =
+                studentService.getStudentsWithoutRoom(after, size, major, namePrefix);
             return ResponseEntity.ok(availableStudents);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error fetching available students: " + e.getMessage());
@@ -111,13 +189,14 @@ public class ManagerController {
 
     @PutMapping("/{managerId}/rooms/reassign")
     public ResponseEntity<?> reassignRoom(@PathVariable Long managerId,
+                                          @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
                                         @RequestBody RoomAssignmentRequest reassignmentRequest) {
         try {
             // First remove student from current room
             roomService.removeStudentFromRoom(reassignmentRequest.getStudentId());
             
             // Then assign to new room
-            Long dormId = managerService.getDormitoryIdByManagerId(managerId);
+            Long dormId = dormitoryIdOf(principal);
             roomService.assignRoomToStudent(reassignmentRequest.getStudentId(),
                                           reassignmentRequest.getRoomNum(), dormId);
             return ResponseEntity.ok("Room reassigned successfully");
@@ -139,9 +218,10 @@ public class ManagerController {
 
     @GetMapping("/{managerId}/rooms/search")
     public ResponseEntity<?> searchRooms(@PathVariable Long managerId,
+                                         @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
                                        @RequestParam String searchTerm) {
         try {
-            Long dormId = managerService.getDormitoryIdByManagerId(managerId);
+            Long dormId = dormitoryIdOf(principal);
             Room room = roomService.searchRoom(searchTerm, dormId);
             return ResponseEntity.ok(room != null ? room : "No room found");
         } catch (Exception e) {
@@ -151,34 +231,33 @@ public class ManagerController {
 
     // Check-in/Check-out Management Endpoints
     @GetMapping("/{managerId}/checkinout")
-    public ResponseEntity<?> getAllCheckInOutRequests(@PathVariable Long managerId) {
+    public void getAllCheckInOutRequests(@PathVariable Long managerId,
+                                         @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
+                                         @RequestParam(required = false) String fields,
+                                         HttpServletRequest request, HttpServletResponse response) throws IOException {
         try {
-            Long dormId = managerService.getDormitoryIdByManagerId(managerId);
-            List<CheckInOut> requests = checkInOutService.getCheckInOutRequests(dormId);
-            List<CheckInOutDto> dtoList = requests.stream()
-            .map(req -> new CheckInOutDto(
-                req.getId(),
-                req.getType(),
-                req.getStatus(),
-                req.getDate(),
-                req.getStudent() != null ? req.getStudent().getName() : "N/A",
-                req.getStudent() != null && req.getStudent().getRoom() != null
-                    ? req.getStudent().getRoom().getRoomNum()
-                    : "N/A"
-            ))
-            .toList();
-            return ResponseEntity.ok(dtoList);
+            Long dormId = dormitoryIdOf(principal);
+            if (fields != null) {
+                List<String> selected = CheckInOutService.CHECK_IN_OUT_DTO_FIELDS.select(fields);
+                jsonArrayStreamer.write(request, response,
+                    () -> checkInOutService.streamCheckInOutRequestFields(dormId, selected), JsonRows::fields);
+                return;
+            }
+            // Rows go from the database cursor straight to the response
+            jsonArrayStreamer.write(request, response, () -> checkInOutService.streamCheckInOutRequests(dormId), JsonRows::checkInOut);
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error fetching check-in/out requests: " + e.getMessage());
+            jsonArrayStreamer.sendError(response, HttpStatus.BAD_REQUEST,
+                "Error fetching check-in/out requests: " + e.getMessage());
         }
     }
 
     @GetMapping("/{managerId}/checkinout/search")
     public ResponseEntity<?> searchCheckInOutRequests(
         @PathVariable Long managerId,
+        @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
         @RequestParam(required = false) String searchTerm) {
     try {
-        Long dormId = managerService.getDormitoryIdByManagerId(managerId);
+        Long dormId = dormitoryIdOf(principal);
         List<CheckInOut> requests;
         
         if (searchTerm != null && !searchTerm.trim().isEmpty()) {
@@ -227,26 +306,17 @@ public class ManagerController {
 
     // Complaints Management Endpoints
     @GetMapping("/{managerId}/complaints")
-    public ResponseEntity<?> getAllComplaints(@PathVariable Long managerId) {
+    public ResponseEntity<?> getAllComplaints(@PathVariable Long managerId,
+                                              @RequestAttribute(SessionTokenFilter.PRINCIPAL) SessionPrincipal principal,
+                                              @RequestParam(required = false) String fields) {
         try {
-            Long dormId = managerService.getDormitoryIdByManagerId(managerId);
-            List<ComplaintRepair> complaints = complaintRepairService.getComplaintsByDormitory(dormId);
-            List<ComplaintRepairDto> dtoList = complaints.stream().map(c -> {
-            ComplaintRepairDto dto = new ComplaintRepairDto();
-            dto.setId(c.getId());
-            dto.setDescription(c.getDescription());
-            dto.setPriorityLvl(c.getPriorityLvl());
-            dto.setType(c.getServiceType());
-            dto.setStatus(c.getStatus());
-            if (c.getStudent() != null) {
-                dto.setStudentId(c.getStudent().getId());
-                dto.setStudentName(c.getStudent().getName());
-                if (c.getStudent().getRoom() != null) {
-                    dto.setRoomNumber(c.getStudent().getRoom().getRoomNum());
-                }
+            Long dormId = dormitoryIdOf(principal);
+            if (fields != null) {
+                return ResponseEntity.ok(complaintRepairService.getComplaintFieldsByDormitory(dormId,
+                    ComplaintRepairService.COMPLAINT_DTO_FIELDS.select(fields)));
             }
-            return dto;
-        }).toList();
+            List<ComplaintRepair> complaints = complaintRepairService.getComplaintsByDormitory(dormId);
+            List<ComplaintRepairDto> dtoList = toComplaintDtos(complaints);
             return ResponseEntity.ok(dtoList);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error fetching complaints: " + e.getMessage());
@@ -267,7 +337,8 @@ public class ManagerController {
     public ResponseEntity<?> updateComplaintStatus(@PathVariable Long managerId,
                                                  @PathVariable Long complaintId,@PathVariable String status) {
         try {
-            complaintRepairService.updateComplaintStatus(complaintId, status);
+            // Path labels as the client sends them, e.g. "IN PROGRESS"
+            complaintRepairService.updateComplaintStatus(complaintId, ComplaintStatus.fromLabel(status));
             return ResponseEntity.ok("Complaint status updated successfully");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error updating complaint status: " + e.getMessage());
@@ -275,8 +346,13 @@ public class ManagerController {
     }
 
     @GetMapping("/{managerId}/announcements")
-public ResponseEntity<?> getAllAnnouncements(@PathVariable Long managerId) {
+public ResponseEntity<?> getAllAnnouncements(@PathVariable Long managerId,
+                                             @RequestParam(required = false) String fields) {
     try {
+        if (fields != null) {
+            return ResponseEntity.ok(announcementService.getAnnouncementFieldsByManager(managerId,
+                AnnouncementService.ANNOUNCEMENT_FIELDS.select(fields)));
+        }
         List<Announcement> announcements = announcementService.getAllAnnouncementsByManager(managerId);
         return ResponseEntity.ok(announcements);
     } catch (Exception e) {
@@ -331,4 +407,31 @@ public ResponseEntity<?> searchAnnouncements(@PathVariable Long managerId,
     }
     
 
+    private static List<ComplaintRepairDto> toComplaintDtos(List<ComplaintRepair> complaints) {
+        return complaints.stream().map(c -> {
+            ComplaintRepairDto dto = new ComplaintRepairDto();
+            dto.setId(c.getId());
+            dto.setDescription(c.getDescription());
+            dto.setPriorityLvl(c.getPriorityLvl());
+            dto.setType(c.getServiceType());
+            dto.setStatus(c.getStatus());
+            if (c.getStudent() != null) {
+                dto.setStudentId(c.getStudent().getId());
+                dto.setStudentName(c.getStudent().getName());
+                if (c.getStudent().getRoom() != null) {
+                    dto.setRoomNumber(c.getStudent().getRoom().getRoomNum());
+                }
+            }
+            return dto;
+        }).toList();
+    }
+
+    // The dormitory comes from the verified session token, no lookup needed
+    private Long dormitoryIdOf(SessionPrincipal principal) {
+        if (principal.getDormitoryId() == null) {
+            throw new RuntimeException("Manager with ID " + principal.getUserId() + " is not assigned to any dormitory");
+        }
+        return principal.getDormitoryId();
+    }
+
 }
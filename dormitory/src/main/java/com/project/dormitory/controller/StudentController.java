@@ -1,13 +1,28 @@
 package com.project.dormitory.controller;
 
+import com.project.dormitory.batch.BatchGetExecutor;
+import com.project.dormitory.json.JsonArrayStreamer;
+import com.project.dormitory.json.JsonRows;
+import com.project.dormitory.live.StudentStatusStreams;
 import com.project.dormitory.model.*;
 import com.project.dormitory.service.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Comparator;
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/student")
@@ -20,16 +35,24 @@ public class StudentController {
     private final ComplaintRepairService complaintRepairService;
     private final AnnouncementService announcementService;
     private final DashboardService dashboardService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final BatchGetExecutor batchGetExecutor;
+    private final StudentStatusStreams statusStreams;
 
     public StudentController(StudentService studentService, RoomService roomService, 
                            CheckInOutService checkInOutService, ComplaintRepairService complaintRepairService,
-                           AnnouncementService announcementService, DashboardService dashboardService) {
+                           AnnouncementService announcementService, DashboardService dashboardService,
+                           JsonArrayStreamer jsonArrayStreamer, BatchGetExecutor batchGetExecutor,
+                           StudentStatusStreams statusStreams) {
         this.studentService = studentService;
         this.roomService = roomService;
         this.checkInOutService = checkInOutService;
         this.complaintRepairService = complaintRepairService;
         this.announcementService = announcementService;
         this.dashboardService = dashboardService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.batchGetExecutor = batchGetExecutor;
+        this.statusStreams = statusStreams;
     }
 
     // Dashboard - Get student dashboard data
@@ -47,6 +70,54 @@ public class StudentController {
         }
     }
 
+    // Batch GET: several read endpoints in one round trip, e.g. ?part=dashboard,service/history,checkinout/history
+    @GetMapping("/{studentId}/batch")
+    public ResponseEntity<?> getBatch(@PathVariable Long studentId, @RequestParam("part") List<String> partNames) {
+        try {
+            // Resolved once, and only when a part needs it
+            Long dormId = partNames.contains("announcements")
+                ? roomService.getDormitoryIdOfStudent(studentId).orElse(null)
+                : null;
+            Map<String, Supplier<?>> parts = new LinkedHashMap<>();
+            for (String name : partNames) {
+                Supplier<?> part = batchPart(name, studentId, dormId);
+                if (part == null) {
+                    return ResponseEntity.badRequest().body("Unknown batch part: " + name);
+                }
+                parts.put(name, part);
+            }
+            return ResponseEntity.ok(batchGetExecutor.run(parts));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Same bodies as the endpoints of the same path; null for an unknown part
+    private Supplier<?> batchPart(String name, Long studentId, Long dormId) {
+        switch (name) {
+            case "dashboard":
+                return () -> dashboardService.getStudentDashboard(studentId);
+            case "room":
+                return () -> roomService.getStudentRoomInfo(studentId);
+            case "service/history":
+                return () -> complaintRepairService.getRequestsByStudentId(studentId);
+            case "checkinout/history":
+                return () -> checkInOutService.getActivitiesByStudentId(studentId);
+            case "announcements":
+                if (dormId == null) {
+                    return List::of; // No room assigned
+                }
+                return () -> {
+                    try (Stream<AnnouncementDto> rows =
+                             announcementService.streamAnnouncementsByDormitory(dormId, Sort.Direction.DESC)) {
+                        return rows.toList();
+                    }
+                };
+            default:
+                return null;
+        }
+    }
+
     // Room Information
     @GetMapping("/{studentId}/room")
     public ResponseEntity<RoomInfoResponse> getRoomInfo(@PathVariable Long studentId) {
@@ -87,10 +158,17 @@ public class StudentController {
 
     // Service - Get complaint/repair history
     @GetMapping("/{studentId}/service/history")
-    public ResponseEntity<List<ComplaintRepair>> getServiceHistory(@PathVariable Long studentId) {
+    public ResponseEntity<?> getServiceHistory(@PathVariable Long studentId,
+                                               @RequestParam(required = false) String fields) {
         try {
+            if (fields != null) {
+                return ResponseEntity.ok(complaintRepairService.getRequestFieldsByStudentId(studentId,
+                    ComplaintRepairService.COMPLAINT_FIELDS.select(fields)));
+            }
             List<ComplaintRepair> history = complaintRepairService.getRequestsByStudentId(studentId);
             return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -120,65 +198,75 @@ public class StudentController {
 
     // CheckInOut - Get recent activities
     @GetMapping("/{studentId}/checkinout/history")
-    public ResponseEntity<List<CheckInOut>> getCheckInOutHistory(@PathVariable Long studentId) {
+    public ResponseEntity<?> getCheckInOutHistory(@PathVariable Long studentId,
+                                                  @RequestParam(required = false) String fields) {
         try {
+            if (fields != null) {
+                return ResponseEntity.ok(checkInOutService.getActivityFieldsByStudentId(studentId,
+                    CheckInOutService.CHECK_IN_OUT_FIELDS.select(fields)));
+            }
             List<CheckInOut> history = checkInOutService.getActivitiesByStudentId(studentId);
             return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-   @GetMapping("/{studentId}/announcements")
-    public ResponseEntity<List<Announcement>> getAllAnnouncements(@PathVariable Long studentId) {
-        try {
-            // Get student's room and dormitory
-            RoomInfoResponse roomInfo = roomService.getStudentRoomInfo(studentId);
-            if (roomInfo == null || roomInfo.getRoom() == null) {
-                return ResponseEntity.ok(List.of()); // No room assigned, return empty list
-            }
-            
-            Long dormId = roomInfo.getRoom().getDormitory().getId();
-            List<Announcement> announcements = announcementService.getAllAnnouncementsByDormitory(dormId);
-            return ResponseEntity.ok(announcements);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    // Status changes of the student's check-in/outs and service requests, as server-sent events
+    @GetMapping(path = "/{studentId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStatus(@PathVariable Long studentId) {
+        SseEmitter emitter = statusStreams.open(studentId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
+        return ResponseEntity.ok(emitter);
+    }
+
+    // Announcements are streamed from a cursor, newest first unless asked otherwise
+    @GetMapping("/{studentId}/announcements")
+    public void getAllAnnouncements(@PathVariable Long studentId, @RequestParam(required = false) String fields,
+                                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        streamAnnouncements(studentId, Sort.Direction.DESC, fields, request, response);
     }
     
     @GetMapping("/{studentId}/announcements/dateAsc")
-    public ResponseEntity<List<Announcement>> getAllAnnouncementsByAsc(@PathVariable Long studentId) {
-        try {
-            RoomInfoResponse roomInfo = roomService.getStudentRoomInfo(studentId);
-            if (roomInfo == null || roomInfo.getRoom() == null) {
-                return ResponseEntity.ok(List.of());
-            }
-            
-            Long dormId = roomInfo.getRoom().getDormitory().getId();
-            List<Announcement> announcements = announcementService.getAllAnnouncementsByDormitory(dormId);
-            // Sort ascending by date
-            announcements.sort(Comparator.comparing(Announcement::getDateTime));
-            return ResponseEntity.ok(announcements);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public void getAllAnnouncementsByAsc(@PathVariable Long studentId, @RequestParam(required = false) String fields,
+                                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        streamAnnouncements(studentId, Sort.Direction.ASC, fields, request, response);
     }
     
     @GetMapping("/{studentId}/announcements/dateDesc")
-    public ResponseEntity<List<Announcement>> getAllAnnouncementsByDesc(@PathVariable Long studentId) {
+    public void getAllAnnouncementsByDesc(@PathVariable Long studentId, @RequestParam(required = false) String fields,
+                                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        streamAnnouncements(studentId, Sort.Direction.DESC, fields, request, response);
+    }
+
+    private void streamAnnouncements(Long studentId, Sort.Direction direction, String fields,
+                                     HttpServletRequest request, HttpServletResponse response) throws IOException {
         try {
+            List<String> selected = fields != null ? AnnouncementService.ANNOUNCEMENT_FIELDS.select(fields) : null;
+            // Get student's room and dormitory
             RoomInfoResponse roomInfo = roomService.getStudentRoomInfo(studentId);
             if (roomInfo == null || roomInfo.getRoom() == null) {
-                return ResponseEntity.ok(List.of());
+                jsonArrayStreamer.write(request, response, Stream::empty, JsonRows::announcement); // No room assigned
+                return;
             }
-            
+
             Long dormId = roomInfo.getRoom().getDormitory().getId();
-            List<Announcement> announcements = announcementService.getAllAnnouncementsByDormitory(dormId);
-            // Sort descending by date (already done in repo, but ensure it)
-            announcements.sort(Comparator.comparing(Announcement::getDateTime).reversed());
-            return ResponseEntity.ok(announcements);
+            if (selected != null) {
+                jsonArrayStreamer.write(request, response,
+                    () -> announcementService.streamAnnouncementFieldsByDormitory(dormId, direction, selected),
+                    JsonRows::fields);
+                return;
+            }
+            jsonArrayStreamer.write(request, response,
+                () -> announcementService.streamAnnouncementsByDormitory(dormId, direction), JsonRows::announcement);
+        } catch (IllegalArgumentException e) {
+            jsonArrayStreamer.sendError(response, HttpStatus.BAD_REQUEST, e.getMessage());
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            jsonArrayStreamer.sendError(response, HttpStatus.INTERNAL_SERVER_ERROR, "Error fetching announcements");
         }
     }
 
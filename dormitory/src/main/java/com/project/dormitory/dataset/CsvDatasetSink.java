@@ -0,0 +1,121 @@
+package com.project.dormitory.dataset;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import com.project.dormitory.model.IdAllocation;
+
+/**
+ * Writes one CSV file per table plus a load.sql that bulk-loads them into MySQL with
+ * LOAD DATA LOCAL INFILE (run it with mysql --local-infile=1). Nulls are written as \N.
+ * Foreign key checks are switched off for the load because roommates reference each other.
+ */
+public class CsvDatasetSink implements DatasetSink, Closeable {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+    private final StringBuilder loadScript = new StringBuilder("SET FOREIGN_KEY_CHECKS = 0;\n");
+    private DatasetTable currentTable;
+    private BufferedWriter writer;
+
+    public CsvDatasetSink(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public void rows(DatasetTable table, List<Object[]> rows) {
+        try {
+            if (table != currentTable) {
+                open(table);
+            }
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeValue(writer, row[i]);
+                }
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void endTable(DatasetTable table) {
+        try {
+            if (table != currentTable) {
+                open(table); // a table without rows still gets its header and load statement
+            }
+            writer.close();
+            writer = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        loadScript.append("LOAD DATA LOCAL INFILE '").append(file(table).toAbsolutePath().toString().replace("\\", "/"))
+            .append("' INTO TABLE ").append(table.getTable())
+            .append(" CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'")
+            .append(" LINES TERMINATED BY '\\n' IGNORE 1 LINES (")
+            .append(String.join(", ", table.getColumns())).append(");\n");
+    }
+
+    @Override
+    public void idsUsed(DatasetTable table, long lastId) {
+        loadScript.append("INSERT INTO ").append(IdAllocation.TABLE).append(" (").append(IdAllocation.SEGMENT_COLUMN)
+            .append(", ").append(IdAllocation.VALUE_COLUMN).append(") VALUES ('").append(table.getTable()).append("', ")
+            .append(IdAllocation.nextValueAfter(lastId)).append(") ON DUPLICATE KEY UPDATE ")
+            .append(IdAllocation.VALUE_COLUMN).append(" = VALUES(").append(IdAllocation.VALUE_COLUMN).append(");\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        loadScript.append("SET FOREIGN_KEY_CHECKS = 1;\n");
+        Files.writeString(directory.resolve("load.sql"), loadScript, StandardCharsets.UTF_8);
+    }
+
+    private void open(DatasetTable table) throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        currentTable = table;
+        writer = Files.newBufferedWriter(file(table), StandardCharsets.UTF_8);
+        writer.write(String.join(",", table.getColumns()));
+        writer.write('\n');
+    }
+
+    private Path file(DatasetTable table) {
+        return directory.resolve(table.getTable() + ".csv");
+    }
+
+    private static void writeValue(Writer out, Object value) throws IOException {
+        if (value == null) {
+            out.write("\\N");
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.write(DATE_TIME.format(dateTime));
+        } else if (value instanceof String text) {
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+                out.write('"');
+                out.write(text.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(text);
+            }
+        } else {
+            out.write(value.toString());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.dormitory.dataset;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.project.dormitory.security.PasswordHasher;
+
+/**
+ * Generates a synthetic dataset and exits, either straight into the configured database
+ * or as bulk-load files, e.g.
+ * java -jar dormitory.jar --spring.main.web-application-type=none
+ *      --dormitory.dataset.output=jdbc --dormitory.dataset.students=100000
+ * java -jar dormitory.jar --spring.main.web-application-type=none
+ *      --dormitory.dataset.output=csv --dormitory.dataset.dir=dataset
+ * The database must be empty; see DatasetSpec for the shape settings.
+ */
+@Component
+@ConditionalOnProperty(name = "dormitory.dataset.output")
+public class DatasetCommandLineRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(DatasetCommandLineRunner.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordHasher passwordHasher;
+    private final Environment environment;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${dormitory.dataset.output}")
+    private String output;
+
+    @Value("${dormitory.dataset.dir:dataset}")
+    private String dir;
+
+    public DatasetCommandLineRunner(JdbcTemplate jdbcTemplate, PasswordHasher passwordHasher,
+                                    Environment environment, ConfigurableApplicationContext context) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordHasher = passwordHasher;
+        this.environment = environment;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DatasetSpec spec = DatasetSpec.from(environment);
+        // Hashed once, so every generated account logs in with spec.password
+        DatasetGenerator generator = new DatasetGenerator(spec, passwordHasher.hash(spec.getPassword()));
+
+        long start = System.nanoTime();
+        DatasetSummary summary;
+        if ("csv".equalsIgnoreCase(output)) {
+            try (CsvDatasetSink sink = new CsvDatasetSink(Path.of(dir))) {
+                summary = generator.generate(sink);
+            }
+            log.info("Dataset written to {}, load it with: mysql --local-infile=1 dormitorydb < {}",
+                Path.of(dir).toAbsolutePath(), Path.of(dir, "load.sql"));
+        } else if ("jdbc".equalsIgnoreCase(output)) {
+            summary = generator.generate(new JdbcDatasetSink(jdbcTemplate, spec.getBatchSize()));
+        } else {
+            throw new IllegalArgumentException("dormitory.dataset.output must be jdbc or csv, not " + output);
+        }
+        log.info("Generated {} dormitories, {} assigned and {} unassigned students in {} ms",
+            summary.getDormitories(), summary.getAssignedStudents(), summary.getUnassignedStudents(),
+            (System.nanoTime() - start) / 1_000_000);
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
@@ -0,0 +1,293 @@
+package com.project.dormitory.dataset;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.project.dormitory.cache.RoomHandleRegistry;
+import com.project.dormitory.model.CheckInOutStatus;
+import com.project.dormitory.model.CheckInOutType;
+import com.project.dormitory.model.ComplaintStatus;
+import com.project.dormitory.model.PriorityLevel;
+import com.project.dormitory.model.ServiceType;
+
+/**
+ * Generates a campus-sized dataset from a DatasetSpec. The same spec always yields the
+ * same rows, so results from different machines or commits are comparable.
+ *
+ * Students are spread over dormitories by a Zipf weight (dormSkew) and fill rooms two at
+ * a time, the two occupants of a room being each other's roommate. Check-in/out dates
+ * cluster in the move-in and move-out weeks, and requests from the last pendingDays are
+ * still PENDING. Rows are handed to the sink in batches of batchSize, so memory does not
+ * grow with the dataset.
+ */
+public class DatasetGenerator {
+
+    public static final long FIRST_DORM_ID = 101;
+    public static final long FIRST_STUDENT_ID = 6731500000L;
+
+    private static final String[] FIRST_NAMES = {"Anan", "Benja", "Chai", "Dao", "Ekkachai", "Fah", "Ging",
+        "Hathai", "Jane", "Kanya", "Lek", "Mali", "Mary", "Nok", "Orn", "Pim", "Somchai", "Tida", "Wan", "Yui"};
+    private static final String[] LAST_NAMES = {"Srisuk", "Wongsa", "Chaiyo", "Boonmee", "Kaewta", "Smith",
+        "Rattana", "Thongdee", "Jaidee", "Suwan", "Phromma", "Intarasuk"};
+    private static final String[] MAJORS = {"Software Engineering", "Computer Engineering", "Law", "Nursing",
+        "Management", "Cosmetic Science", "Digital Communication", "Medicine", "Dentistry", "Chinese Studies"};
+    private static final ServiceType[] SERVICE_TYPES = {
+        ServiceType.PLUMBING, ServiceType.ELECTRICAL, ServiceType.FURNITURE, ServiceType.WIFI,
+        ServiceType.CLEANING, ServiceType.OTHER
+    };
+    private static final String[] BLOCKS = {"A", "B", "C", "D"};
+
+    private final DatasetSpec spec;
+    private final String storedPassword;
+    private final SplittableRandom random;
+    private final LocalDate semesterEnd;
+
+    /**
+     * @param storedPassword the value written to every password column, normally a hash of
+     *                       spec.getPassword() computed once by the caller
+     */
+    public DatasetGenerator(DatasetSpec spec, String storedPassword) {
+        this.spec = spec;
+        this.storedPassword = storedPassword;
+        this.random = new SplittableRandom(spec.getSeed());
+        this.semesterEnd = spec.getSemesterStart().plusDays(spec.getSemesterDays() - 1);
+    }
+
+    public DatasetSummary generate(DatasetSink sink) {
+        int[] quotas = dormQuotas();
+        int assigned = Arrays.stream(quotas).sum();
+
+        dormitories(sink);
+        managers(sink);
+        RoomHandleRegistry rooms = new RoomHandleRegistry();
+        int[] emptyRooms = rooms(sink, quotas, rooms);
+        students(sink, quotas);
+        checkInOuts(sink, assigned);
+        complaints(sink, assigned);
+        announcements(sink);
+
+        return new DatasetSummary(FIRST_DORM_ID, spec.getDormitories(), FIRST_STUDENT_ID, assigned,
+            spec.getStudents() - assigned, rooms, emptyRooms);
+    }
+
+    // Students with a room per dormitory, proportional to 1 / rank^dormSkew and capped by beds
+    int[] dormQuotas() {
+        int dorms = spec.getDormitories();
+        int beds = spec.getRoomsPerDorm() * 2;
+        int assigned = (int) Math.min((long) beds * dorms, Math.round(spec.getStudents() * spec.getAssignedRatio()));
+
+        double[] weights = new double[dorms];
+        double total = 0;
+        for (int d = 0; d < dorms; d++) {
+            weights[d] = 1 / Math.pow(d + 1, spec.getDormSkew());
+            total += weights[d];
+        }
+        int[] quotas = new int[dorms];
+        int placed = 0;
+        for (int d = 0; d < dorms; d++) {
+            quotas[d] = (int) Math.min(beds, Math.floor(assigned * weights[d] / total));
+            placed += quotas[d];
+        }
+        // Rounding and full dormitories leave a remainder, hand it out busiest first
+        for (int d = 0; placed < assigned; d = (d + 1) % dorms) {
+            if (quotas[d] < beds) {
+                quotas[d]++;
+                placed++;
+            }
+        }
+        return quotas;
+    }
+
+    private void dormitories(DatasetSink sink) {
+        Batch batch = new Batch(sink, DatasetTable.DORMITORY);
+        for (int d = 0; d < spec.getDormitories(); d++) {
+            long id = FIRST_DORM_ID + d;
+            batch.add(id, String.valueOf(d + 1), d % 2 == 0 ? "lamduan" : "F", "MFU",
+                "02" + (1234567 + d), "dormitory" + id + "@lamduan.mfu.ac.th");
+        }
+        batch.finish();
+    }
+
+    private void managers(DatasetSink sink) {
+        Batch batch = new Batch(sink, DatasetTable.DORMITORY_MANAGER);
+        for (int d = 0; d < spec.getDormitories(); d++) {
+            long id = d + 1;
+            batch.add(id, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], "09" + (10000000 + d),
+                "manager" + id + "@lamduan.mfu.ac.th", storedPassword, FIRST_DORM_ID + d);
+        }
+        batch.finish();
+    }
+
+    private int[] rooms(DatasetSink sink, int[] quotas, RoomHandleRegistry handles) {
+        int[] emptyRooms = new int[quotas.length * spec.getRoomsPerDorm()];
+        int empty = 0;
+        Batch batch = new Batch(sink, DatasetTable.ROOM);
+        for (int d = 0; d < quotas.length; d++) {
+            long dormId = FIRST_DORM_ID + d;
+            for (int r = 0; r < spec.getRoomsPerDorm(); r++) {
+                int occupancy = Math.max(0, Math.min(2, quotas[d] - 2 * r));
+                int handle = handles.intern(dormId, roomNum(r));
+                if (occupancy == 0) {
+                    emptyRooms[empty++] = handle;
+                }
+                batch.add(roomNum(r), dormId, r / spec.getRoomsPerFloor() + 1, BLOCKS[r % BLOCKS.length], occupancy);
+            }
+        }
+        batch.finish();
+        return Arrays.copyOf(emptyRooms, empty);
+    }
+
+    private void students(DatasetSink sink, int[] quotas) {
+        Batch batch = new Batch(sink, DatasetTable.STUDENT);
+        long id = FIRST_STUDENT_ID;
+        for (int d = 0; d < quotas.length; d++) {
+            long dormId = FIRST_DORM_ID + d;
+            for (int placed = 0, r = 0; placed < quotas[d]; placed += 2, r++) {
+                String roomNum = roomNum(r);
+                if (quotas[d] - placed == 1) {
+                    batch.add(student(id++, roomNum, dormId, null));
+                } else {
+                    batch.add(student(id, roomNum, dormId, id + 1));
+                    batch.add(student(id + 1, roomNum, dormId, id));
+                    id += 2;
+                }
+            }
+        }
+        long last = FIRST_STUDENT_ID + spec.getStudents();
+        while (id < last) {
+            batch.add(student(id++, null, null, null));
+        }
+        batch.finish();
+    }
+
+    private Object[] student(long id, String roomNum, Long dormId, Long roommateId) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return new Object[] {id, name, MAJORS[random.nextInt(MAJORS.length)], id + "@lamduan.mfu.ac.th",
+            "08" + (10000000 + id % 90000000), storedPassword, roomNum, dormId, roommateId};
+    }
+
+    private void checkInOuts(DatasetSink sink, int assigned) {
+        Batch batch = new Batch(sink, DatasetTable.CHECK_IN_OUT);
+        long id = 1;
+        for (int i = 0; i < assigned; i++) {
+            long studentId = FIRST_STUDENT_ID + i;
+            int count = skewedCount(spec.getCheckInOutsPerStudent());
+            LocalDate[] dates = new LocalDate[count];
+            for (int j = 0; j < count; j++) {
+                dates[j] = burstyDate();
+            }
+            Arrays.sort(dates);
+            for (int j = 0; j < count; j++) {
+                CheckInOutStatus status = dates[j].isAfter(semesterEnd.minusDays(spec.getPendingDays()))
+                    ? CheckInOutStatus.PENDING
+                    : random.nextInt(10) == 0 ? CheckInOutStatus.REJECTED : CheckInOutStatus.APPROVED;
+                CheckInOutType type = j % 2 == 0 ? CheckInOutType.CHECK_IN : CheckInOutType.CHECK_OUT;
+                batch.add(id++, studentId, dates[j], type.getCode(), status.getCode());
+            }
+        }
+        batch.finish();
+        sink.idsUsed(DatasetTable.CHECK_IN_OUT, id - 1);
+    }
+
+    private void complaints(DatasetSink sink, int assigned) {
+        Batch batch = new Batch(sink, DatasetTable.COMPLAINT_REPAIR);
+        long id = 1;
+        for (int i = 0; i < assigned; i++) {
+            long studentId = FIRST_STUDENT_ID + i;
+            int count = skewedCount(spec.getComplaintsPerStudent());
+            for (int j = 0; j < count; j++) {
+                LocalDate day = spec.getSemesterStart().plusDays(random.nextInt(spec.getSemesterDays()));
+                // Most problems get reported in the evening, when students are back in their rooms
+                LocalDateTime reportedAt = day.atTime(8 + (int) (14 * Math.sqrt(random.nextDouble())),
+                    random.nextInt(60));
+                ServiceType serviceType = SERVICE_TYPES[random.nextInt(SERVICE_TYPES.length)];
+                batch.add(id++, serviceType.getLabel() + " problem in room", serviceType.getCode(), reportedAt,
+                    priority().getCode(), complaintStatus(day).getCode(), studentId);
+            }
+        }
+        batch.finish();
+        sink.idsUsed(DatasetTable.COMPLAINT_REPAIR, id - 1);
+    }
+
+    private void announcements(DatasetSink sink) {
+        Batch batch = new Batch(sink, DatasetTable.ANNOUNCEMENT);
+        long id = 1;
+        int perDorm = spec.getAnnouncementsPerDorm();
+        for (int d = 0; d < spec.getDormitories(); d++) {
+            for (int j = 0; j < perDorm; j++) {
+                LocalDateTime postedAt = spec.getSemesterStart()
+                    .plusDays((long) j * spec.getSemesterDays() / Math.max(1, perDorm))
+                    .atTime(9, 0);
+                batch.add(id++, "Notice " + (j + 1), "Water will be off on floor " + (j % 10 + 1) + " from 10:00 to 14:00",
+                    postedAt, (long) d + 1);
+            }
+        }
+        batch.finish();
+        sink.idsUsed(DatasetTable.ANNOUNCEMENT, id - 1);
+    }
+
+    // Exponentially distributed around the mean: a few heavy users, many light ones
+    private int skewedCount(double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        return (int) Math.min(mean * 10, Math.floor(-mean * Math.log(1 - random.nextDouble())));
+    }
+
+    private LocalDate burstyDate() {
+        double u = random.nextDouble();
+        if (u < spec.getBurstFraction()) {
+            int day = random.nextInt(Math.max(1, spec.getMoveInDays()));
+            return u < spec.getBurstFraction() / 2 ? spec.getSemesterStart().plusDays(day) : semesterEnd.minusDays(day);
+        }
+        return spec.getSemesterStart().plusDays(random.nextInt(spec.getSemesterDays()));
+    }
+
+    private PriorityLevel priority() {
+        int p = random.nextInt(10);
+        return p < 5 ? PriorityLevel.LOW : p < 8 ? PriorityLevel.MEDIUM : PriorityLevel.HIGH;
+    }
+
+    private ComplaintStatus complaintStatus(LocalDate reportedOn) {
+        int p = random.nextInt(20);
+        if (reportedOn.isBefore(semesterEnd.minusDays(14))) {
+            return p < 17 ? ComplaintStatus.RESOLVED : p < 19 ? ComplaintStatus.IN_PROGRESS : ComplaintStatus.PENDING;
+        }
+        return p < 12 ? ComplaintStatus.PENDING : ComplaintStatus.IN_PROGRESS;
+    }
+
+    private static String roomNum(int room) {
+        return String.valueOf(1000 + room);
+    }
+
+    private final class Batch {
+        private final DatasetSink sink;
+        private final DatasetTable table;
+        private List<Object[]> rows;
+
+        Batch(DatasetSink sink, DatasetTable table) {
+            this.sink = sink;
+            this.table = table;
+            this.rows = new ArrayList<>(spec.getBatchSize());
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= spec.getBatchSize()) {
+                sink.rows(table, rows);
+                rows = new ArrayList<>(spec.getBatchSize());
+            }
+        }
+
+        void finish() {
+            if (!rows.isEmpty()) {
+                sink.rows(table, rows);
+            }
+            sink.endTable(table);
+        }
+    }
+}
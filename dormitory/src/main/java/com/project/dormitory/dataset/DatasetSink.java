@@ -0,0 +1,25 @@
+package com.project.dormitory.dataset;
+
+import java.util.List;
+
+/**
+ * Receives generated rows table by table, in DatasetTable order. Row arrays follow
+ * DatasetTable.getColumns() and are not reused after the call returns.
+ */
+public interface DatasetSink {
+
+    void rows(DatasetTable table, List<Object[]> rows);
+
+    /**
+     * Called once all rows of a table have been passed to rows().
+     */
+    default void endTable(DatasetTable table) {
+    }
+
+    /**
+     * Called after a table whose ids come from IdAllocation, with the highest id the
+     * generated rows took, so ids Hibernate allocates afterwards do not collide.
+     */
+    default void idsUsed(DatasetTable table, long lastId) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.project.dormitory.dataset;
+
+import java.time.LocalDate;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * Shape of a generated dataset. Every value can be set as dormitory.dataset.{kebab-name},
+ * e.g. dormitory.dataset.dorm-skew=1.2; the defaults describe a 100k-student campus.
+ */
+public class DatasetSpec {
+
+    private static final String PREFIX = "dormitory.dataset.";
+
+    private long seed = 42;
+    private int dormitories = 13;
+    private int roomsPerDorm = 4000;
+    private int roomsPerFloor = 40;
+    private int students = 100_000;
+    // Share of students that have a room; the rest form the unassigned pool
+    private double assignedRatio = 0.85;
+    // Zipf exponent over dormitories, 0 spreads students evenly
+    private double dormSkew = 0.8;
+    private double checkInOutsPerStudent = 30;
+    private double complaintsPerStudent = 1.5;
+    private int announcementsPerDorm = 40;
+    private LocalDate semesterStart = LocalDate.of(2024, 6, 1);
+    private int semesterDays = 120;
+    // Share of check-in/outs that fall in the move-in and move-out windows
+    private double burstFraction = 0.5;
+    private int moveInDays = 7;
+    // Requests in the last pendingDays of the semester are still waiting for a manager
+    private int pendingDays = 7;
+    private String password = "password";
+    private int batchSize = 5000;
+
+    public static DatasetSpec from(Environment environment) {
+        DatasetSpec spec = new DatasetSpec();
+        spec.seed = environment.getProperty(PREFIX + "seed", Long.class, spec.seed);
+        spec.dormitories = environment.getProperty(PREFIX + "dormitories", Integer.class, spec.dormitories);
+        spec.roomsPerDorm = environment.getProperty(PREFIX + "rooms-per-dorm", Integer.class, spec.roomsPerDorm);
+        spec.roomsPerFloor = environment.getProperty(PREFIX + "rooms-per-floor", Integer.class, spec.roomsPerFloor);
+        spec.students = environment.getProperty(PREFIX + "students", Integer.class, spec.students);
+        spec.assignedRatio = environment.getProperty(PREFIX + "assigned-ratio", Double.class, spec.assignedRatio);
+        spec.dormSkew = environment.getProperty(PREFIX + "dorm-skew", Double.class, spec.dormSkew);
+        spec.checkInOutsPerStudent = environment.getProperty(PREFIX + "check-in-outs-per-student", Double.class,
+            spec.checkInOutsPerStudent);
+        spec.complaintsPerStudent = environment.getProperty(PREFIX + "complaints-per-student", Double.class,
+            spec.complaintsPerStudent);
+        spec.announcementsPerDorm = environment.getProperty(PREFIX + "announcements-per-dorm", Integer.class,
+            spec.announcementsPerDorm);
+        spec.semesterStart = LocalDate.parse(environment.getProperty(PREFIX + "semester-start",
+            spec.semesterStart.toString()));
+        spec.semesterDays = environment.getProperty(PREFIX + "semester-days", Integer.class, spec.semesterDays);
+        spec.burstFraction = environment.getProperty(PREFIX + "burst-fraction", Double.class, spec.burstFraction);
+        spec.moveInDays = environment.getProperty(PREFIX + "move-in-days", Integer.class, spec.moveInDays);
+        spec.pendingDays = environment.getProperty(PREFIX + "pending-days", Integer.class, spec.pendingDays);
+        spec.password = environment.getProperty(PREFIX + "password", spec.password);
+        spec.batchSize = environment.getProperty(PREFIX + "batch-size", Integer.class, spec.batchSize);
+        return spec;
+    }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getDormitories() { return dormitories; }
+    public void setDormitories(int dormitories) { this.dormitories = dormitories; }
+
+    public int getRoomsPerDorm() { return roomsPerDorm; }
+    public void setRoomsPerDorm(int roomsPerDorm) { this.roomsPerDorm = roomsPerDorm; }
+
+    public int getRoomsPerFloor() { return roomsPerFloor; }
+    public void setRoomsPerFloor(int roomsPerFloor) { this.roomsPerFloor = roomsPerFloor; }
+
+    public int getStudents() { return students; }
+    public void setStudents(int students) { this.students = students; }
+
+    public double getAssignedRatio() { return assignedRatio; }
+    public void setAssignedRatio(double assignedRatio) { this.assignedRatio = assignedRatio; }
+
+    public double getDormSkew() { return dormSkew; }
+    public void setDormSkew(double dormSkew) { this.dormSkew = dormSkew; }
+
+    public double getCheckInOutsPerStudent() { return checkInOutsPerStudent; }
+    public void setCheckInOutsPerStudent(double checkInOutsPerStudent) { this.checkInOutsPerStudent = checkInOutsPerStudent; }
+
+    public double getComplaintsPerStudent() { return complaintsPerStudent; }
+    public void setComplaintsPerStudent(double complaintsPerStudent) { this.complaintsPerStudent = complaintsPerStudent; }
+
+    public int getAnnouncementsPerDorm() { return announcementsPerDorm; }
+    public void setAnnouncementsPerDorm(int announcementsPerDorm) { this.announcementsPerDorm = announcementsPerDorm; }
+
+    public LocalDate getSemesterStart() { return semesterStart; }
+    public void setSemesterStart(LocalDate semesterStart) { this.semesterStart = semesterStart; }
+
+    public int getSemesterDays() { return semesterDays; }
+    public void setSemesterDays(int semesterDays) { this.semesterDays = semesterDays; }
+
+    public double getBurstFraction() { return burstFraction; }
+    public void setBurstFraction(double burstFraction) { this.burstFraction = burstFraction; }
+
+    public int getMoveInDays() { return moveInDays; }
+    public void setMoveInDays(int moveInDays) { this.moveInDays = moveInDays; }
+
+    public int getPendingDays() { return pendingDays; }
+    public void setPendingDays(int pendingDays) { this.pendingDays = pendingDays; }
+
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+}
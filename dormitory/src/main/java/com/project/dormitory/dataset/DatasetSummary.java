@@ -0,0 +1,62 @@
+package com.project.dormitory.dataset;
+
+import com.project.dormitory.cache.RoomHandleRegistry;
+
+/**
+ * Ids of a generated dataset, so benchmarks and load tests can address its rows without
+ * querying for them. Assigned students have the lowest ids, the unassigned pool follows.
+ * Rooms are addressed by their handle in getRooms().
+ */
+public class DatasetSummary {
+
+    private final long firstDormId;
+    private final int dormitories;
+    private final long firstStudentId;
+    private final int assignedStudents;
+    private final int unassignedStudents;
+    private final RoomHandleRegistry rooms;
+    private final int[] emptyRooms;
+
+    DatasetSummary(long firstDormId, int dormitories, long firstStudentId, int assignedStudents,
+                   int unassignedStudents, RoomHandleRegistry rooms, int[] emptyRooms) {
+        this.firstDormId = firstDormId;
+        this.dormitories = dormitories;
+        this.firstStudentId = firstStudentId;
+        this.assignedStudents = assignedStudents;
+        this.unassignedStudents = unassignedStudents;
+        this.rooms = rooms;
+        this.emptyRooms = emptyRooms;
+    }
+
+    public int getDormitories() { return dormitories; }
+    public int getAssignedStudents() { return assignedStudents; }
+    public int getUnassignedStudents() { return unassignedStudents; }
+    public RoomHandleRegistry getRooms() { return rooms; }
+    public int getEmptyRoomCount() { return emptyRooms.length; }
+
+    public long dormId(int i) {
+        return firstDormId + Math.floorMod(i, dormitories);
+    }
+
+    // Manager n runs dormitory n
+    public long managerId(int i) {
+        return 1 + Math.floorMod(i, dormitories);
+    }
+
+    public long managerIdOfDorm(long dormId) {
+        return 1 + dormId - firstDormId;
+    }
+
+    public long assignedStudentId(int i) {
+        return firstStudentId + Math.floorMod(i, assignedStudents);
+    }
+
+    public long unassignedStudentId(int i) {
+        return firstStudentId + assignedStudents + Math.floorMod(i, unassignedStudents);
+    }
+
+    // Handle of an empty room
+    public int emptyRoom(int i) {
+        return emptyRooms[Math.floorMod(i, emptyRooms.length)];
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.dormitory.dataset;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The tables a generated dataset fills, in foreign key order. Every row carries its id;
+ * tables whose ids Hibernate allocates are reported through DatasetSink.idsUsed().
+ */
+public enum DatasetTable {
+    DORMITORY("dormitory", "id", "building_num", "building_name", "address", "phone_num", "email"),
+    DORMITORY_MANAGER("dormitory_manager", "id", "name", "phone", "email", "password", "dorm_id"),
+    ROOM("room", "room_num", "dorm_id", "floor", "block", "occupacy"),
+    STUDENT("student", "id", "name", "major", "email", "phone_num", "password", "room_num", "dorm_id", "roommate_id"),
+    CHECK_IN_OUT("check_in_out", "id", "stu_id", "date", "type", "status"),
+    COMPLAINT_REPAIR("complaint_repair", "id", "description", "service_type", "date_time", "priority_lvl", "status", "stu_id"),
+    ANNOUNCEMENT("announcement", "id", "title", "description", "date_time", "mgr_id");
+
+    private final String table;
+    private final List<String> columns;
+
+    DatasetTable(String table, String... columns) {
+        this.table = table;
+        this.columns = List.of(columns);
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public int columnIndex(String column) {
+        return columns.indexOf(column);
+    }
+
+    public String insertSql() {
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.dormitory.dataset;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.dormitory.model.IdAllocation;
+
+/**
+ * Loads generated rows with JDBC batch inserts (combine with rewriteBatchedStatements=true
+ * on MySQL). Roommates point at each other, so students are inserted without roommate_id
+ * and the pairs are linked by a batched update once every student exists.
+ */
+public class JdbcDatasetSink implements DatasetSink {
+
+    private static final String LINK_ROOMMATE = "UPDATE student SET roommate_id = ? WHERE id = ?";
+    private static final String UPDATE_NEXT_ID = "UPDATE " + IdAllocation.TABLE + " SET " + IdAllocation.VALUE_COLUMN
+        + " = ? WHERE " + IdAllocation.SEGMENT_COLUMN + " = ?";
+    private static final String INSERT_NEXT_ID = "INSERT INTO " + IdAllocation.TABLE + " (" + IdAllocation.VALUE_COLUMN
+        + ", " + IdAllocation.SEGMENT_COLUMN + ") VALUES (?, ?)";
+    private static final int ROOMMATE_INDEX = DatasetTable.STUDENT.columnIndex("roommate_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final List<Object[]> roommates = new ArrayList<>();
+
+    public JdbcDatasetSink(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void rows(DatasetTable table, List<Object[]> rows) {
+        if (table == DatasetTable.STUDENT) {
+            for (Object[] row : rows) {
+                if (row[ROOMMATE_INDEX] != null) {
+                    roommates.add(new Object[] {row[ROOMMATE_INDEX], row[0]});
+                    row[ROOMMATE_INDEX] = null;
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(table.insertSql(), rows);
+    }
+
+    @Override
+    public void endTable(DatasetTable table) {
+        if (table != DatasetTable.STUDENT) {
+            return;
+        }
+        for (int from = 0; from < roommates.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(LINK_ROOMMATE, roommates.subList(from, Math.min(from + batchSize, roommates.size())));
+        }
+        roommates.clear();
+    }
+
+    @Override
+    public void idsUsed(DatasetTable table, long lastId) {
+        long nextValue = IdAllocation.nextValueAfter(lastId);
+        if (jdbcTemplate.update(UPDATE_NEXT_ID, nextValue, table.getTable()) == 0) {
+            jdbcTemplate.update(INSERT_NEXT_ID, nextValue, table.getTable());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.dormitory.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits reads from writes once dormitory.datasource.replica.url is set. The replica
+ * takes the same keys as spring.datasource (url, username, password, hikari.*) under
+ * dormitory.datasource.replica; username and password default to the primary's.
+ * Without a replica url Boot's single datasource is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty("dormitory.datasource.replica.url")
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    private static final String REPLICA = "dormitory.datasource.replica";
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${dormitory.datasource.replica.read-your-writes-ms:5000}") long windowMillis,
+                                         @Value("${dormitory.datasource.replica.read-your-writes-sessions:100000}") int maxSessions) {
+        return new ReadYourWrites(windowMillis, maxSessions);
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties(REPLICA + ".hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, Environment environment) {
+        DataSourceProperties properties = Binder.get(environment).bind(REPLICA, DataSourceProperties.class).get();
+        if (properties.getUsername() == null) {
+            properties.setUsername(primary.determineUsername());
+            properties.setPassword(primary.determinePassword());
+        }
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadYourWrites readYourWrites) {
+        return new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, readYourWrites));
+    }
+
+    // Spring's default holds the first connection for the whole open-in-view session, which
+    // would pin a request to whichever datasource its first transaction used
+    @Bean
+    public HibernatePropertiesCustomizer connectionPerTransaction() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+            "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor()).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.dormitory.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for @Transactional(readOnly = true) work to the replica and
+ * everything else to the primary. The transaction's read-only flag is only known after
+ * it has begun, so this must sit behind a LazyConnectionDataSourceProxy, which defers
+ * picking the target until the first statement.
+ *
+ * Work outside any transaction (schema setup, JdbcTemplate imports, lazy loads while
+ * rendering a response) stays on the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    Route currentRoute() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.recordWrite();
+            return Route.PRIMARY;
+        }
+        return readYourWrites.mustReadPrimary() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
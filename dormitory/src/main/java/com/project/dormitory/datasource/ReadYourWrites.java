@@ -0,0 +1,88 @@
+package com.project.dormitory.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which sessions wrote recently so their reads stay on the primary until the
+ * replica has caught up. A session is identified by its principal (e.g. "s:6731503001")
+ * and bound to the request thread by ReadYourWritesInterceptor; work without a session
+ * (logins, imports, jobs) reads from the replica as soon as it commits.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> SESSION = new ThreadLocal<>();
+
+    private final long windowMillis;
+    private final int maxSessions;
+    private final Map<String, Long> lastWrite = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(long windowMillis, int maxSessions) {
+        this.windowMillis = windowMillis;
+        this.maxSessions = maxSessions;
+    }
+
+    static void bind(String session) {
+        SESSION.set(session);
+    }
+
+    static void unbind() {
+        SESSION.remove();
+    }
+
+    static String boundSession() {
+        return SESSION.get();
+    }
+
+    /**
+     * Wraps task so it routes as the current session on whichever thread runs it.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        String session = SESSION.get();
+        return () -> {
+            String previous = SESSION.get();
+            SESSION.set(session);
+            try {
+                return task.get();
+            } finally {
+                SESSION.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Notes that the current session is writing to the primary.
+     */
+    void recordWrite() {
+        String session = SESSION.get();
+        if (session == null || windowMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (lastWrite.size() >= maxSessions && !lastWrite.containsKey(session)) {
+            lastWrite.values().removeIf(writtenAt -> writtenAt + windowMillis <= now);
+        }
+        lastWrite.put(session, now);
+    }
+
+    /**
+     * True when the current session wrote within the window, so the replica may not
+     * have its change yet.
+     */
+    boolean mustReadPrimary() {
+        String session = SESSION.get();
+        if (session == null) {
+            return false;
+        }
+        Long writtenAt = lastWrite.get(session);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (writtenAt + windowMillis > System.currentTimeMillis()) {
+            return true;
+        }
+        lastWrite.remove(session, writtenAt);
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.dormitory.datasource;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenFilter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds the caller's session to the request thread for ReadYourWrites.
+ *
+ * An async handler (the status stream) hands the thread back to the container without
+ * afterCompletion, so the session is unbound there too, or the next request on that
+ * thread would route as this caller.
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(SessionTokenFilter.PRINCIPAL) instanceof SessionPrincipal principal) {
+            ReadYourWrites.bind((principal.isManager() ? "m:" : "s:") + principal.getUserId());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadYourWrites.unbind();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadYourWrites.unbind();
+    }
+}
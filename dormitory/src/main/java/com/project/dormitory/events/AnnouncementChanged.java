@@ -0,0 +1,7 @@
+package com.project.dormitory.events;
+
+/**
+ * An announcement was created, edited or deleted (removed).
+ */
+public record AnnouncementChanged(long id, long managerId, boolean removed) implements DomainEvent {
+}
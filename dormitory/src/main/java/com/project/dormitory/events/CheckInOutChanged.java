@@ -0,0 +1,10 @@
+package com.project.dormitory.events;
+
+import com.project.dormitory.model.CheckInOutStatus;
+
+/**
+ * A check-in/out request was submitted (created) or had its status changed.
+ */
+public record CheckInOutChanged(long id, long studentId, CheckInOutStatus status,
+                                boolean created) implements DomainEvent {
+}
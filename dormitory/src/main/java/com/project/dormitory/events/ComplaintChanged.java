@@ -0,0 +1,10 @@
+package com.project.dormitory.events;
+
+import com.project.dormitory.model.ComplaintStatus;
+
+/**
+ * A complaint/repair request was submitted (created) or had its status changed.
+ */
+public record ComplaintChanged(long id, long studentId, ComplaintStatus status,
+                               boolean created) implements DomainEvent {
+}
@@ -0,0 +1,9 @@
+package com.project.dormitory.events;
+
+/**
+ * A committed change to the domain, published on the DomainEventBus.
+ * Events carry ids and the changed values, never managed entities: subscribers run on
+ * their own threads after the writing session has closed.
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,234 @@
+package com.project.dormitory.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * In-process bus for DomainEvents, so caches and indexes derived from the database can
+ * follow writes without each service calling them.
+ *
+ * Services publish inside their transaction; the event enters the ring once it commits,
+ * and is dropped on rollback. Each DomainEventSubscriber bean is fed by its own daemon
+ * thread in publication order and in batches of whatever was waiting. The committing
+ * thread only claims a ring slot. When the slowest subscriber is dormitory.events.capacity
+ * events behind (the most a subscriber can lag) it waits at most
+ * dormitory.events.publish-timeout-ms for a slot, then drops the event and counts it in
+ * domain.events.overflow, so a stuck subscriber never holds up the writers.
+ *
+ * Metrics: domain.events.published, domain.events.dropped, domain.events.overflow,
+ * domain.events.producer.waits, and per subscriber domain.events.lag, domain.events.failed
+ * and the domain.events.batch timer.
+ */
+@Component
+public class DomainEventBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+
+    // Idle consumers spin this many times before parking
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final DomainEventRing ring;
+    private final List<Consumer> consumers = new ArrayList<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong overflow = new AtomicLong();
+    private final long publishTimeoutNanos;
+
+    private volatile boolean running;
+
+    public DomainEventBus(List<DomainEventSubscriber<?>> subscribers, MeterRegistry meterRegistry,
+                          @Value("${dormitory.events.capacity:1024}") int capacity,
+                          @Value("${dormitory.events.max-batch:256}") int maxBatch,
+                          @Value("${dormitory.events.publish-timeout-ms:50}") long publishTimeoutMillis) {
+        this.ring = new DomainEventRing(capacity, subscribers.size());
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+        for (int i = 0; i < subscribers.size(); i++) {
+            consumers.add(new Consumer(i, subscribers.get(i), maxBatch, meterRegistry));
+        }
+
+        FunctionCounter.builder("domain.events.published", ring, r -> r.claimed() + 1)
+                .description("Committed domain events put on the bus")
+                .register(meterRegistry);
+        FunctionCounter.builder("domain.events.dropped", dropped, AtomicLong::get)
+                .description("Domain events committed while the bus was stopped")
+                .register(meterRegistry);
+        FunctionCounter.builder("domain.events.overflow", overflow, AtomicLong::get)
+                .description("Domain events dropped because a subscriber stayed a whole ring behind")
+                .register(meterRegistry);
+        FunctionCounter.builder("domain.events.producer.waits", ring, DomainEventRing::producerWaits)
+                .description("Times a committing thread waited for the slowest subscriber to free a slot")
+                .register(meterRegistry);
+        Gauge.builder("domain.events.capacity", ring, DomainEventRing::capacity)
+                .description("Ring size, the most events a subscriber can lag behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the event once the current transaction commits, or right away outside one.
+     */
+    public void publish(DomainEvent event) {
+        if (consumers.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
+    }
+
+    /**
+     * Events published but not yet handled by the named subscriber, or -1 if there is none.
+     */
+    public long lag(String subscriber) {
+        for (Consumer consumer : consumers) {
+            if (consumer.subscriber.name().equals(subscriber)) {
+                return ring.lag(consumer.index);
+            }
+        }
+        return -1;
+    }
+
+    private void enqueue(DomainEvent event) {
+        if (!running) {
+            dropped.incrementAndGet();
+            log.warn("Domain event bus is stopped, dropping {}", event);
+            return;
+        }
+        if (!ring.tryPublish(event, publishTimeoutNanos)) {
+            overflow.incrementAndGet();
+            log.warn("Domain event ring full for {} ms, dropping {}",
+                TimeUnit.NANOSECONDS.toMillis(publishTimeoutNanos), event);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Consumer consumer : consumers) {
+            consumer.thread = new Thread(consumer::run, "domain-events-" + consumer.subscriber.name());
+            consumer.thread.setDaemon(true);
+            consumer.thread.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        // Consumers drain what was already published before they exit
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+            try {
+                consumer.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Starts before the web server and stops after it, so in-flight requests still get their events out
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private final class Consumer {
+        private final int index;
+        private final DomainEventSubscriber<?> subscriber;
+        private final int maxBatch;
+        private final Timer batchTimer;
+        private final Counter failed;
+        private Thread thread;
+
+        Consumer(int index, DomainEventSubscriber<?> subscriber, int maxBatch, MeterRegistry meterRegistry) {
+            this.index = index;
+            this.subscriber = subscriber;
+            this.maxBatch = maxBatch;
+            this.batchTimer = Timer.builder("domain.events.batch")
+                    .description("Time a subscriber spent on one batch of domain events")
+                    .tag("subscriber", subscriber.name())
+                    .register(meterRegistry);
+            this.failed = Counter.builder("domain.events.failed")
+                    .description("Batches of domain events a subscriber threw on")
+                    .tag("subscriber", subscriber.name())
+                    .register(meterRegistry);
+            Gauge.builder("domain.events.lag", ring, r -> r.lag(index))
+                    .description("Domain events published but not yet handled by the subscriber")
+                    .tag("subscriber", subscriber.name())
+                    .register(meterRegistry);
+        }
+
+        void run() {
+            List<DomainEvent> batch = new ArrayList<>(maxBatch);
+            int idle = 0;
+            while (true) {
+                batch.clear();
+                long last = ring.poll(index, batch, maxBatch);
+                if (batch.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    if (++idle < IDLE_SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    continue;
+                }
+                idle = 0;
+                deliver(subscriber, batch);
+                ring.commit(index, last);
+            }
+        }
+
+        private <E extends DomainEvent> void deliver(DomainEventSubscriber<E> subscriber, List<DomainEvent> batch) {
+            Class<E> type = subscriber.eventType();
+            List<E> events = new ArrayList<>(batch.size());
+            for (DomainEvent event : batch) {
+                if (type.isInstance(event)) {
+                    events.add(type.cast(event));
+                }
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                subscriber.onEvents(events);
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("Subscriber {} failed on {} domain events", subscriber.name(), events.size(), e);
+            } finally {
+                batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.project.dormitory.events;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-size multi-producer ring of events with one read position per consumer.
+ *
+ * A producer claims the next sequence with a compare-and-set once its slot is free,
+ * waiting (for a bounded time) only when the slowest consumer is a whole ring behind,
+ * writes the slot and then publishes the sequence into that slot's marker. A consumer
+ * reads from its position up to the first slot not yet published, so it takes every
+ * waiting event in one batch. No locks are taken on either side.
+ */
+final class DomainEventRing {
+
+    static final long INITIAL_SEQUENCE = -1;
+
+    private static final long PRODUCER_WAIT_NANOS = 50_000;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<DomainEvent> slots;
+    // Sequence last published into each slot
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(INITIAL_SEQUENCE);
+    private final AtomicLong producerWaits = new AtomicLong();
+    private final AtomicLong[] consumerSequences;
+
+    // Lowest consumer sequence seen by a producer, so most claims don't scan the consumers
+    private volatile long cachedGatingSequence = INITIAL_SEQUENCE;
+
+    DomainEventRing(int capacity, int consumers) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, INITIAL_SEQUENCE);
+        }
+        this.consumerSequences = new AtomicLong[consumers];
+        for (int i = 0; i < consumers; i++) {
+            consumerSequences[i] = new AtomicLong(INITIAL_SEQUENCE);
+        }
+    }
+
+    /**
+     * Appends the event, waiting up to timeoutNanos while the slowest consumer is a whole
+     * ring behind. A sequence is only claimed once its slot is free, so giving up leaves
+     * no gap for the consumers to stall on.
+     *
+     * @return false when the event was not appended because the wait timed out
+     */
+    boolean tryPublish(DomainEvent event, long timeoutNanos) {
+        boolean waiting = false;
+        long deadline = 0;
+        long sequence;
+        while (true) {
+            long current = claimed.get();
+            sequence = current + 1;
+            long wrapPoint = sequence - capacity;
+            if (wrapPoint > cachedGatingSequence) {
+                long gating = minimumConsumerSequence();
+                cachedGatingSequence = gating;
+                if (wrapPoint > gating) {
+                    if (!waiting) {
+                        waiting = true;
+                        producerWaits.incrementAndGet();
+                        deadline = System.nanoTime() + timeoutNanos;
+                    } else if (System.nanoTime() - deadline >= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(PRODUCER_WAIT_NANOS);
+                    continue;
+                }
+            }
+            if (claimed.compareAndSet(current, sequence)) {
+                break;
+            }
+        }
+        int index = (int) sequence & mask;
+        slots.set(index, event);
+        published.setRelease(index, sequence);
+        return true;
+    }
+
+    /**
+     * Adds to batch the published events after the consumer's position, at most max of them,
+     * without moving the position.
+     *
+     * @return the sequence of the last event added, or the consumer's position when none was
+     */
+    long poll(int consumer, List<DomainEvent> batch, int max) {
+        long next = consumerSequences[consumer].get() + 1;
+        long last = next - 1;
+        while (last - next + 1 < max) {
+            long sequence = last + 1;
+            int index = (int) sequence & mask;
+            if (published.getAcquire(index) != sequence) {
+                break;
+            }
+            batch.add(slots.get(index));
+            last = sequence;
+        }
+        return last;
+    }
+
+    /**
+     * Moves the consumer's position to sequence, releasing the slots up to it to producers.
+     */
+    void commit(int consumer, long sequence) {
+        consumerSequences[consumer].setRelease(sequence);
+    }
+
+    /**
+     * Events claimed by producers that the consumer hasn't finished, at most the capacity.
+     */
+    long lag(int consumer) {
+        return Math.max(0, claimed.get() - consumerSequences[consumer].get());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long claimed() {
+        return claimed.get();
+    }
+
+    long producerWaits() {
+        return producerWaits.get();
+    }
+
+    private long minimumConsumerSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (AtomicLong sequence : consumerSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum == Long.MAX_VALUE ? claimed.get() : minimum;
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.dormitory.events;
+
+import java.util.List;
+
+/**
+ * A derived read model fed by the DomainEventBus. Every subscriber bean gets its own
+ * consumer thread and position in the ring, so a slow one only delays itself until
+ * it falls a whole ring behind.
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    /**
+     * Events of this type (and its subtypes) are delivered, others are skipped.
+     */
+    Class<E> eventType();
+
+    /**
+     * Receives the committed events in publication order, as many as were waiting at once.
+     * An exception is logged and counted, and the batch is not redelivered.
+     */
+    void onEvents(List<E> events);
+
+    /**
+     * Tag of the lag and batch metrics.
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.dormitory.events;
+
+/**
+ * A student moved into or out of a room. The room fields are null on the side with no room.
+ */
+public record RoomAssignmentChanged(long studentId,
+                                    Long previousDormId, String previousRoomNum,
+                                    Long dormId, String roomNum) implements DomainEvent {
+}
@@ -0,0 +1,62 @@
+package com.project.dormitory.fields;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of a list endpoint a client may pick with ?fields=, each mapped to the
+ * entity attribute path it is read from, e.g. "studentName" -> "student.name". Names
+ * match the JSON the endpoint returns without ?fields=, so a sparse response is the
+ * full one with fields left out. Collections can't be selected.
+ */
+public final class FieldSet<T> {
+
+    private final Class<T> entity;
+    private final Map<String, String> paths = new LinkedHashMap<>();
+
+    private FieldSet(Class<T> entity) {
+        this.entity = entity;
+    }
+
+    public static <T> FieldSet<T> of(Class<T> entity) {
+        return new FieldSet<>(entity);
+    }
+
+    /** A field read from the attribute of the same name. */
+    public FieldSet<T> field(String name) {
+        return field(name, name);
+    }
+
+    public FieldSet<T> field(String name, String path) {
+        paths.put(name, path);
+        return this;
+    }
+
+    public Class<T> getEntity() { return entity; }
+
+    String pathOf(String name) {
+        return paths.get(name);
+    }
+
+    /**
+     * Parses a ?fields= value ("id,title") into the selected names, in the order given.
+     *
+     * @throws IllegalArgumentException for an unknown or empty field
+     */
+    public List<String> select(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!paths.containsKey(trimmed)) {
+                throw new IllegalArgumentException("Unknown field '" + trimmed + "', expected any of " + paths.keySet());
+            }
+            selected.add(trimmed);
+        }
+        return Collections.unmodifiableList(new ArrayList<>(selected));
+    }
+}
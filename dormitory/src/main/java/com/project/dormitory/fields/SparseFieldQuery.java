@@ -0,0 +1,99 @@
+package com.project.dormitory.fields;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Reads only the selected fields of a FieldSet, so ?fields= narrows the SQL select list
+ * as well as the JSON: no entities are loaded and unselected columns (long descriptions,
+ * associations) never leave the database. Rows come back as name -> value maps in the
+ * selected order. Associations on a path are left-joined, so a null student reads as
+ * null fields instead of dropping the row. Callers provide the transaction.
+ */
+@Component
+public class SparseFieldQuery {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> List<Map<String, Object>> list(FieldSet<T> fieldSet, List<String> fields,
+                                              Specification<T> where, Sort sort) {
+        return query(fieldSet, fields, where, sort).getResultList().stream()
+            .map(tuple -> toMap(tuple, fields))
+            .toList();
+    }
+
+    /** Cursor over the same rows; consume inside a read-only transaction and close it. */
+    public <T> Stream<Map<String, Object>> stream(FieldSet<T> fieldSet, List<String> fields,
+                                                  Specification<T> where, Sort sort) {
+        return query(fieldSet, fields, where, sort)
+            .setHint("org.hibernate.fetchSize", 500)
+            .getResultStream()
+            .map(tuple -> toMap(tuple, fields));
+    }
+
+    private <T> TypedQuery<Tuple> query(FieldSet<T> fieldSet, List<String> fields,
+                                        Specification<T> where, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(fieldSet.getEntity());
+        Map<String, From<?, ?>> joins = new HashMap<>();
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(path(root, fieldSet.pathOf(field), joins).alias(field));
+        }
+        query.multiselect(selections);
+        query.where(where.toPredicate(root, query, cb));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = path(root, order.getProperty(), joins);
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        query.orderBy(orders);
+        return entityManager.createQuery(query);
+    }
+
+    private static Path<?> path(Root<?> root, String attributePath, Map<String, From<?, ?>> joins) {
+        String[] parts = attributePath.split("\\.");
+        From<?, ?> from = root;
+        String prefix = "";
+        for (int i = 0; i < parts.length - 1; i++) {
+            prefix = prefix + parts[i] + ".";
+            From<?, ?> parent = from;
+            String association = parts[i];
+            from = joins.computeIfAbsent(prefix, p -> parent.join(association, JoinType.LEFT));
+        }
+        return from.get(parts[parts.length - 1]);
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+}
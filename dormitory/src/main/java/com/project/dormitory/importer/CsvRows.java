@@ -0,0 +1,131 @@
+package com.project.dormitory.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import com.project.dormitory.importer.ImportType.Column;
+import com.project.dormitory.importer.ImportType.ColumnKind;
+
+/**
+ * Turns CSV lines into validated insert parameters.
+ * Lines are split RFC 4180 style: comma separated, fields may be wrapped in double quotes
+ * and "" inside quotes is a literal quote. Line breaks inside quoted fields are not
+ * supported, every record must sit on one line.
+ */
+public final class CsvRows {
+
+    public static final class Row {
+        private final long line;
+        private final List<Column> columns;
+        private final Object[] values;
+
+        Row(long line, List<Column> columns, Object[] values) {
+            this.line = line;
+            this.columns = columns;
+            this.values = values;
+        }
+
+        public long getLine() { return line; }
+        public Object[] getValues() { return values; }
+
+        public Long getLong(String column) {
+            return (Long) get(column);
+        }
+
+        public String getString(String column) {
+            return (String) get(column);
+        }
+
+        /**
+         * Replaces the value of each PASSWORD column that has one with encode's result.
+         */
+        public void encodePasswords(UnaryOperator<String> encode) {
+            for (int i = 0; i < values.length; i++) {
+                if (columns.get(i).getKind() == ColumnKind.PASSWORD && values[i] != null) {
+                    values[i] = encode.apply((String) values[i]);
+                }
+            }
+        }
+
+        private Object get(String column) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).getName().equals(column)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    private CsvRows() {}
+
+    /**
+     * Maps the header to the import type's columns, in file order.
+     */
+    public static List<Column> columnsFromHeader(ImportType type, String header) {
+        List<Column> columns = new ArrayList<>();
+        for (String name : split(header.replace("\uFEFF", ""))) {
+            Column column = type.column(name.trim());
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column '" + name.trim() + "' for " + type.getTable());
+            }
+            if (columns.contains(column)) {
+                throw new IllegalArgumentException("Duplicate column '" + column.getName() + "'");
+            }
+            columns.add(column);
+        }
+        for (Column column : type.getColumns()) {
+            if (column.isRequired() && !columns.contains(column)) {
+                throw new IllegalArgumentException("Missing required column '" + column.getName() + "'");
+            }
+        }
+        return columns;
+    }
+
+    public static Row parse(List<Column> columns, long line, String text) {
+        List<String> fields = split(text);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + fields.size());
+        }
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns.get(i).convert(fields.get(i));
+        }
+        return new Row(line, columns, values);
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.dormitory.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.project.dormitory.model.ImportReport;
+import com.project.dormitory.service.BulkImportService;
+
+/**
+ * Runs one import from the command line and exits, e.g.
+ * java -jar dormitory.jar --spring.main.web-application-type=none
+ *      --dormitory.import.type=student --dormitory.import.file=students.csv
+ * Re-running the same command resumes the job, the job id defaults to type and file name.
+ */
+@Component
+@ConditionalOnProperty(name = "dormitory.import.file")
+public class ImportCommandLineRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ImportCommandLineRunner.class);
+
+    private final BulkImportService bulkImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${dormitory.import.file}")
+    private String file;
+
+    @Value("${dormitory.import.type}")
+    private String type;
+
+    @Value("${dormitory.import.job-id:}")
+    private String jobId;
+
+    public ImportCommandLineRunner(BulkImportService bulkImportService, ConfigurableApplicationContext context) {
+        this.bulkImportService = bulkImportService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        String id = jobId.isBlank() ? type + ":" + path.getFileName() : jobId;
+
+        ImportReport report = bulkImportService.importCsv(id, ImportType.fromName(type),
+            Files.newBufferedReader(path, StandardCharsets.UTF_8));
+        for (ImportReport.RowError error : report.getErrors()) {
+            log.warn("Line {}: {}", error.getLine(), error.getMessage());
+        }
+
+        int exitCode = report.getRowsRejected() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
@@ -0,0 +1,116 @@
+package com.project.dormitory.importer;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Tables that can be bulk loaded from CSV, with the columns each file may contain.
+ * Column names are the database column names and are matched against the CSV header.
+ */
+public enum ImportType {
+
+    DORMITORY("dormitory", List.of(
+        new Column("id", ColumnKind.LONG, true),
+        new Column("building_num", ColumnKind.TEXT, false),
+        new Column("building_name", ColumnKind.TEXT, false),
+        new Column("address", ColumnKind.TEXT, false),
+        new Column("phone_num", ColumnKind.TEXT, false),
+        new Column("email", ColumnKind.TEXT, false))),
+
+    ROOM("room", List.of(
+        new Column("room_num", ColumnKind.TEXT, true),
+        new Column("dorm_id", ColumnKind.LONG, true),
+        new Column("floor", ColumnKind.INT, false),
+        new Column("block", ColumnKind.TEXT, false),
+        new Column("occupacy", ColumnKind.INT, false),
+        new Column("last_inspect", ColumnKind.TEXT, false),
+        new Column("duration", ColumnKind.TEXT, false))),
+
+    STUDENT("student", List.of(
+        new Column("id", ColumnKind.LONG, true),
+        new Column("name", ColumnKind.TEXT, true),
+        new Column("major", ColumnKind.TEXT, false),
+        new Column("email", ColumnKind.TEXT, false),
+        new Column("phone_num", ColumnKind.TEXT, false),
+        new Column("password", ColumnKind.PASSWORD, false),
+        new Column("dorm_id", ColumnKind.LONG, false),
+        new Column("room_num", ColumnKind.TEXT, false)));
+
+    // PASSWORD is text that is stored as a hash, see CsvRows.Row.encodePasswords
+    public enum ColumnKind { TEXT, PASSWORD, INT, LONG }
+
+    public static final class Column {
+        private final String name;
+        private final ColumnKind kind;
+        private final boolean required;
+
+        Column(String name, ColumnKind kind, boolean required) {
+            this.name = name;
+            this.kind = kind;
+            this.required = required;
+        }
+
+        public String getName() { return name; }
+        public ColumnKind getKind() { return kind; }
+        public boolean isRequired() { return required; }
+
+        /**
+         * Converts the raw CSV value, throwing IllegalArgumentException with a readable message.
+         */
+        public Object convert(String raw) {
+            String value = raw == null ? "" : raw.trim();
+            if (value.isEmpty()) {
+                if (required) {
+                    throw new IllegalArgumentException(name + " is required");
+                }
+                return null;
+            }
+            try {
+                switch (kind) {
+                    case INT: return Integer.valueOf(value);
+                    case LONG: return Long.valueOf(value);
+                    default: return value;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(name + " must be a number but was '" + value + "'");
+            }
+        }
+    }
+
+    private final String table;
+    private final List<Column> columns;
+
+    ImportType(String table, List<Column> columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+
+    public String getTable() { return table; }
+    public List<Column> getColumns() { return columns; }
+
+    public Column column(String name) {
+        for (Column column : columns) {
+            if (column.getName().equalsIgnoreCase(name)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    public String insertSql(List<Column> present) {
+        return "INSERT INTO " + table + " ("
+            + present.stream().map(Column::getName).collect(Collectors.joining(", "))
+            + ") VALUES ("
+            + present.stream().map(c -> "?").collect(Collectors.joining(", "))
+            + ")";
+    }
+
+    public static ImportType fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown import type: " + name);
+        }
+    }
+}
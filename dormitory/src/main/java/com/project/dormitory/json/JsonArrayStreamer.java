@@ -0,0 +1,129 @@
+package com.project.dormitory.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes a repository Stream to the response as a JSON array, one row at a time, so a
+ * large list is never held in memory as entities, DTOs or a serialized body. The stream
+ * is opened and drained inside a read-only transaction, which keeps the database cursor
+ * open; rows leave through the generator's buffer as the cursor advances.
+ *
+ * The encoding follows the Accept header like a buffered response would: JSON, or any
+ * binary format with a Jackson converter bean (see BinaryFormatsConfig). JSON is used
+ * when nothing acceptable is found.
+ */
+@Component
+public class JsonArrayStreamer {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonArrayStreamer.class);
+
+    // In preference order, JSON first
+    private final Map<MediaType, JsonFactory> factories = new LinkedHashMap<>();
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JsonArrayStreamer(ObjectMapper objectMapper, List<AbstractJackson2HttpMessageConverter> converters,
+                             PlatformTransactionManager transactionManager) {
+        factories.put(MediaType.APPLICATION_JSON, objectMapper.getFactory());
+        for (AbstractJackson2HttpMessageConverter converter : converters) {
+            for (MediaType mediaType : converter.getSupportedMediaTypes()) {
+                factories.putIfAbsent(mediaType, converter.getObjectMapper().getFactory());
+            }
+        }
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> void write(HttpServletRequest request, HttpServletResponse response, Supplier<Stream<T>> rows,
+                          JsonRowWriter<T> rowWriter) throws IOException {
+        Map.Entry<MediaType, JsonFactory> format = negotiate(request);
+        response.setContentType(format.getKey().toString());
+        if (MediaType.APPLICATION_JSON.equals(format.getKey())) {
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        JsonGenerator generator = format.getValue().createGenerator(response.getOutputStream());
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    generator.writeStartArray();
+                    Iterator<T> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        rowWriter.write(iterator.next(), generator);
+                    }
+                    generator.writeEndArray();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // Not closed on failure: closing would flush a truncated array that sendError can still discard
+        generator.close();
+    }
+
+    private Map.Entry<MediaType, JsonFactory> negotiate(HttpServletRequest request) {
+        Map.Entry<MediaType, JsonFactory> json = factories.entrySet().iterator().next();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return json;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return json;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            for (Map.Entry<MediaType, JsonFactory> format : factories.entrySet()) {
+                if (mediaType.isCompatibleWith(format.getKey())) {
+                    return format;
+                }
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Replaces whatever is buffered with a plain-text error, unless rows have already
+     * gone out, in which case the client sees a truncated array.
+     */
+    public void sendError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        if (response.isCommitted()) {
+            log.warn("Streamed response failed after it was committed: {}", message);
+            return;
+        }
+        response.reset();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+}
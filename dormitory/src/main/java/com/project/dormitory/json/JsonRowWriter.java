@@ -0,0 +1,14 @@
+package com.project.dormitory.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes one row of a streamed JSON array as an object.
+ */
+@FunctionalInterface
+public interface JsonRowWriter<T> {
+
+    void write(T row, JsonGenerator generator) throws IOException;
+}
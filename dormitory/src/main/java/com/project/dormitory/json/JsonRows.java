@@ -0,0 +1,79 @@
+package com.project.dormitory.json;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.project.dormitory.model.AnnouncementDto;
+import com.project.dormitory.model.CheckInOutDto;
+import com.project.dormitory.model.CodedEnum;
+
+/**
+ * Row writers for JsonArrayStreamer. Each produces the same object Jackson would for the
+ * type, so streamed and buffered endpoints look identical to clients.
+ */
+public final class JsonRows {
+
+    private JsonRows() {
+    }
+
+    public static void checkInOut(CheckInOutDto row, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, "id", row.getId());
+        writeLabel(generator, "type", row.getType());
+        writeLabel(generator, "status", row.getStatus());
+        generator.writeFieldName("date");
+        if (row.getDate() != null) {
+            LocalDateSerializer.write(row.getDate(), generator);
+        } else {
+            generator.writeNull();
+        }
+        generator.writeStringField("studentName", row.getStudentName());
+        generator.writeStringField("roomNum", row.getRoomNum());
+        generator.writeEndObject();
+    }
+
+    public static void announcement(AnnouncementDto row, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, "id", row.getId());
+        generator.writeStringField("title", row.getTitle());
+        generator.writeStringField("description", row.getDescription());
+        generator.writeStringField("dateTime",
+            row.getDateTime() != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(row.getDateTime()) : null);
+        generator.writeEndObject();
+    }
+
+    // A ?fields= row from SparseFieldQuery; values are plain column values
+    public static void fields(Map<String, Object> row, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, Object> field : row.entrySet()) {
+            generator.writeFieldName(field.getKey());
+            Object value = field.getValue();
+            if (value instanceof LocalDate date) {
+                LocalDateSerializer.write(date, generator);
+            } else if (value instanceof LocalDateTime dateTime) {
+                generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+            } else if (value instanceof CodedEnum coded) {
+                generator.writeString(coded.getLabel());
+            } else {
+                generator.writeObject(value);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeLabel(JsonGenerator generator, String name, CodedEnum value) throws IOException {
+        generator.writeStringField(name, value != null ? value.getLabel() : null);
+    }
+
+    private static void writeNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(name, value);
+        } else {
+            generator.writeNullField(name);
+        }
+    }
+}
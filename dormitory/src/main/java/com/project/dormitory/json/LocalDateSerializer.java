@@ -9,7 +9,7 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 public class LocalDateSerializer extends StdSerializer<LocalDate> {
-    private static DateTimeFormatter FORMATTER =  DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter FORMATTER =  DateTimeFormatter.ofPattern("yyyy-MM-dd");
     public LocalDateSerializer() {
         this(null);
     }
@@ -18,6 +18,32 @@ public class LocalDateSerializer extends StdSerializer<LocalDate> {
     }
     @Override
     public void serialize(LocalDate localDate, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
-        jsonGenerator.writeString(localDate.format(FORMATTER));
+        write(localDate, jsonGenerator);
+    }
+
+    /**
+     * Writes yyyy-MM-dd straight into the generator. Streamed list responses call this
+     * once per row, so the common four-digit year skips DateTimeFormatter entirely.
+     */
+    public static void write(LocalDate localDate, JsonGenerator jsonGenerator) throws IOException {
+        int year = localDate.getYear();
+        if (year < 0 || year > 9999) {
+            jsonGenerator.writeString(localDate.format(FORMATTER));
+            return;
+        }
+        char[] text = new char[10];
+        digits(text, 0, year, 4);
+        text[4] = '-';
+        digits(text, 5, localDate.getMonthValue(), 2);
+        text[7] = '-';
+        digits(text, 8, localDate.getDayOfMonth(), 2);
+        jsonGenerator.writeString(text, 0, text.length);
+    }
+
+    private static void digits(char[] text, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            text[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 }
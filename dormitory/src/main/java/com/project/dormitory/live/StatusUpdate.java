@@ -0,0 +1,8 @@
+package com.project.dormitory.live;
+
+/**
+ * Data of a status stream event: the request's id and its new status, written as the status label.
+ * The event name says which kind of request it is.
+ */
+public record StatusUpdate(long id, Enum<?> status) {
+}
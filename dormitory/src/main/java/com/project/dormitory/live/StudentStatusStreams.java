@@ -0,0 +1,297 @@
+package com.project.dormitory.live;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.project.dormitory.events.CheckInOutChanged;
+import com.project.dormitory.events.ComplaintChanged;
+import com.project.dormitory.events.DomainEvent;
+import com.project.dormitory.events.DomainEventSubscriber;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Open status streams keyed by student, fed with the committed status changes of their
+ * check-in/outs and service requests, so the pages don't poll the history endpoints.
+ *
+ * A stream is an async SseEmitter: while idle it holds no request thread, only the
+ * emitter and its socket. The registry is capped at dormitory.live.max-connections in
+ * total (further streams are refused) and dormitory.live.max-per-student (a new tab
+ * closes that student's oldest stream). Streams end after dormitory.live.timeout-ms and
+ * the client reconnects. Within one batch from the bus only a request's latest status
+ * is sent, so an approve and a quick correction reach the page as one event.
+ *
+ * The bus thread never writes to a socket. It queues each update on the stream, at most
+ * dormitory.live.queue-size of them, and dormitory.live.sender-threads write them out. A
+ * stream whose queue is full is too slow to keep up and is closed. Every
+ * dormitory.live.heartbeat-ms each stream gets a comment, so dead sockets are found and
+ * dropped even when nothing changes.
+ */
+@Component
+public class StudentStatusStreams implements DomainEventSubscriber<DomainEvent>, DisposableBean {
+
+    public static final String CHECK_IN_OUT_EVENT = "checkinout";
+    public static final String COMPLAINT_EVENT = "complaint";
+
+    private final Map<Long, List<Stream>> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final int maxConnections;
+    private final int maxPerStudent;
+    private final long timeoutMillis;
+    private final int queueSize;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter refused;
+    private final Counter sent;
+    private final Counter slow;
+
+    public StudentStatusStreams(MeterRegistry meterRegistry,
+                                @Value("${dormitory.live.max-connections:10000}") int maxConnections,
+                                @Value("${dormitory.live.max-per-student:4}") int maxPerStudent,
+                                @Value("${dormitory.live.timeout-ms:600000}") long timeoutMillis,
+                                @Value("${dormitory.live.queue-size:32}") int queueSize,
+                                @Value("${dormitory.live.sender-threads:4}") int senderThreads,
+                                @Value("${dormitory.live.heartbeat-ms:30000}") long heartbeatMillis) {
+        this.maxConnections = maxConnections;
+        this.maxPerStudent = maxPerStudent;
+        this.timeoutMillis = timeoutMillis;
+        this.queueSize = queueSize;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::ping, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("dormitory.live.connections", connections, AtomicInteger::get)
+                .description("Open student status streams")
+                .register(meterRegistry);
+        this.refused = Counter.builder("dormitory.live.refused")
+                .description("Status streams refused because the registry was full")
+                .register(meterRegistry);
+        this.sent = Counter.builder("dormitory.live.sent")
+                .description("Status updates written to student streams")
+                .register(meterRegistry);
+        this.slow = Counter.builder("dormitory.live.slow")
+                .description("Status streams closed because their send queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the student, or returns null when the registry is full.
+     */
+    public SseEmitter open(long studentId) {
+        // Replacing the student's oldest tab doesn't grow the registry, so it's let through when full
+        List<Stream> current = streams.get(studentId);
+        boolean replacesOldest = current != null && current.size() >= maxPerStudent;
+        if (connections.incrementAndGet() > maxConnections && !replacesOldest) {
+            connections.decrementAndGet();
+            refused.increment();
+            return null;
+        }
+        Stream stream = new Stream(studentId, newEmitter(timeoutMillis));
+        SseEmitter emitter = stream.emitter;
+        emitter.onCompletion(() -> remove(stream));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(stream));
+        // Beyond the per-student cap the oldest tab gives way
+        List<Stream> evicted = new ArrayList<>();
+        streams.compute(studentId, (id, own) -> {
+            List<Stream> list = own != null ? own : new CopyOnWriteArrayList<>();
+            list.add(stream);
+            while (list.size() > maxPerStudent) {
+                evicted.add(list.remove(0));
+            }
+            return list;
+        });
+        for (Stream oldest : evicted) {
+            connections.decrementAndGet();
+            oldest.close();
+        }
+        try {
+            // Sends the headers right away, so the client sees the stream open
+            emitter.send(SseEmitter.event().comment("open"));
+        } catch (IOException e) {
+            remove(stream);
+        }
+        return emitter;
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        if (streams.isEmpty()) {
+            return;
+        }
+        // Last status per request, in the order the requests first changed
+        Map<String, Pending> latest = new LinkedHashMap<>();
+        for (DomainEvent event : events) {
+            if (event instanceof CheckInOutChanged change && !change.created()) {
+                coalesce(latest, change.studentId(), CHECK_IN_OUT_EVENT, new StatusUpdate(change.id(), change.status()));
+            } else if (event instanceof ComplaintChanged change && !change.created()) {
+                coalesce(latest, change.studentId(), COMPLAINT_EVENT, new StatusUpdate(change.id(), change.status()));
+            }
+        }
+        for (Pending pending : latest.values()) {
+            List<Stream> own = streams.get(pending.studentId);
+            if (own == null) {
+                continue;
+            }
+            for (Stream stream : own) {
+                stream.offer(new Outgoing(SseEmitter.event().name(pending.eventName).data(pending.update), true));
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    // Overridden by tests to stand in for a client's socket
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void ping() {
+        for (List<Stream> own : streams.values()) {
+            for (Stream stream : own) {
+                stream.offer(new Outgoing(SseEmitter.event().comment("ping"), false));
+            }
+        }
+    }
+
+    private void coalesce(Map<String, Pending> latest, long studentId, String eventName, StatusUpdate update) {
+        if (!streams.containsKey(studentId)) {
+            return;
+        }
+        latest.put(eventName + ':' + update.id(), new Pending(studentId, eventName, update));
+    }
+
+    private boolean remove(Stream stream) {
+        boolean[] removed = new boolean[1];
+        streams.computeIfPresent(stream.studentId, (id, own) -> {
+            removed[0] = own.remove(stream);
+            return own.isEmpty() ? null : own;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+        }
+        return removed[0];
+    }
+
+    /**
+     * An emitter with its pending sends, written out by one sender thread at a time.
+     */
+    private final class Stream implements Runnable {
+        private final long studentId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Outgoing> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        private boolean completed;
+
+        Stream(long studentId, SseEmitter emitter) {
+            this.studentId = studentId;
+            this.emitter = emitter;
+        }
+
+        void offer(Outgoing outgoing) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(outgoing)) {
+                if (remove(this)) {
+                    slow.increment();
+                }
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        // Completes on a sender thread, which may first have to wait out a send stuck on the socket
+        void close() {
+            closed = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Outgoing outgoing;
+                while (!closed && (outgoing = queue.poll()) != null) {
+                    try {
+                        emitter.send(outgoing.event);
+                        if (outgoing.update) {
+                            sent.increment();
+                        }
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away; completion callbacks may never fire for a dead socket
+                        closed = true;
+                        remove(this);
+                    }
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    queue.clear();
+                    emitter.complete();
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // An offer or close that found this still scheduled is picked up here
+            if (closed ? !completed : !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private record Outgoing(SseEventBuilder event, boolean update) {
+    }
+
+    private record Pending(long studentId, String eventName, StatusUpdate update) {
+    }
+}
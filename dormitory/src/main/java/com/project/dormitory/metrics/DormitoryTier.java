@@ -0,0 +1,54 @@
+package com.project.dormitory.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * Low-cardinality metric tag for the dormitory a request works on. Dormitory ids are
+ * numbered by building tier (101-106, 201-207, ...), so the hundreds digit is the tier.
+ * The value is held per request thread so repository metrics can be tagged without
+ * passing it down; it is "none" when the dormitory isn't known without a query, e.g.
+ * for student requests.
+ */
+public final class DormitoryTier {
+
+    public static final String TAG = "tier";
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private DormitoryTier() {
+    }
+
+    public static String of(Long dormitoryId) {
+        return dormitoryId == null || dormitoryId < 100 ? NONE : "tier-" + dormitoryId / 100;
+    }
+
+    public static String current() {
+        String tier = CURRENT.get();
+        return tier != null ? tier : NONE;
+    }
+
+    /**
+     * Wraps task so it is tagged with the current tier on whichever thread runs it.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        String tier = CURRENT.get();
+        return () -> {
+            String previous = CURRENT.get();
+            CURRENT.set(tier);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    static void set(String tier) {
+        CURRENT.set(tier);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.dormitory.metrics;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts every entity Hibernate materializes as a row for the current request. Entities
+ * served from the second-level cache count too, so rows show how much a request reads
+ * while statements show how often it goes to the database.
+ */
+@Component
+public class EntityLoadCounter implements PostLoadEventListener {
+
+    public EntityLoadCounter(EntityManagerFactory entityManagerFactory) {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlStatementCounter.row();
+    }
+}
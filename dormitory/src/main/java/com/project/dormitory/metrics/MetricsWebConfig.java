@@ -0,0 +1,26 @@
+package com.project.dormitory.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsWebConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public MetricsWebConfig(MeterRegistry meterRegistry,
+                            @Value("${dormitory.sql.statement-budget:0}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, statementBudget)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.dormitory.metrics;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times each repository method as dormitory.repository and records the rows it returned
+ * as dormitory.repository.rows, both tagged with repository, operation and tier.
+ * Scalar results (counts, ids, booleans) are timed but not counted as rows.
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String repository;
+
+    RepositoryMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        String operation = invocation.getMethod().getName();
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            Object result = invocation.proceed();
+            outcome = "success";
+            long rows = rowsOf(result);
+            if (rows >= 0) {
+                DistributionSummary.builder("dormitory.repository.rows")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("operation", operation)
+                    .tag(DormitoryTier.TAG, DormitoryTier.current())
+                    .register(registry)
+                    .record(rows);
+            }
+            return result;
+        } finally {
+            Timer.builder("dormitory.repository")
+                .tag("repository", repository)
+                .tag("operation", operation)
+                .tag(DormitoryTier.TAG, DormitoryTier.current())
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // -1 for results that aren't rows
+    private static long rowsOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result == null || result instanceof Number || result instanceof Boolean || result instanceof CharSequence) {
+            return -1;
+        }
+        return result.getClass().isAnnotationPresent(jakarta.persistence.Entity.class) ? 1 : -1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.dormitory.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adds RepositoryMetricsInterceptor to every Spring Data repository proxy. The registry
+ * is looked up lazily because post-processors are created before the metrics beans.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                    new RepositoryMetricsInterceptor(meterRegistry, repositoryInformation.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+}
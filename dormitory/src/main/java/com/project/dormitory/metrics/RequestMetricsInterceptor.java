@@ -0,0 +1,129 @@
+package com.project.dormitory.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times every controller method in two parts, so a slow endpoint can be pinned on the
+ * handler (service and repository calls) or on writing the response body:
+ * dormitory.controller runs until the return value is handed to the message converter
+ * (marked by ResponseTimingAdvice), dormitory.controller.serialization from there to
+ * the end of the request. Both are tagged with operation (Controller.method), tier,
+ * status and outcome.
+ *
+ * The SQL statements and entity rows a request causes are recorded as
+ * dormitory.request.sql.statements and dormitory.request.sql.rows. A request going over
+ * the statement budget (dormitory.sql.statement-budget, 0 disables it) is logged and
+ * counted in dormitory.request.sql.over.budget, which is usually an N+1.
+ *
+ * An async handler releases its thread without afterCompletion, so the per-thread SQL
+ * count and tier are dropped in afterConcurrentHandlingStarted; the async dispatch that
+ * finishes the request starts them again.
+ */
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String START = RequestMetricsInterceptor.class.getName() + ".start";
+    static final String BODY_WRITE = RequestMetricsInterceptor.class.getName() + ".bodyWrite";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            Object principal = request.getAttribute(SessionTokenFilter.PRINCIPAL);
+            DormitoryTier.set(principal instanceof SessionPrincipal session
+                ? DormitoryTier.of(session.getDormitoryId())
+                : DormitoryTier.NONE);
+            request.setAttribute(START, System.nanoTime());
+            SqlStatementCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            if (!(handler instanceof HandlerMethod method) || !(request.getAttribute(START) instanceof Long start)) {
+                return;
+            }
+            long end = System.nanoTime();
+            long handled = request.getAttribute(BODY_WRITE) instanceof Long bodyWrite ? bodyWrite : end;
+            String operation = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+            String status = String.valueOf(response.getStatus());
+            String outcome = ex != null || response.getStatus() >= 500 ? "error"
+                : response.getStatus() >= 400 ? "client_error" : "success";
+
+            timer("dormitory.controller", operation, status, outcome)
+                .record(handled - start, TimeUnit.NANOSECONDS);
+            if (handled != end) {
+                timer("dormitory.controller.serialization", operation, status, outcome)
+                    .record(end - handled, TimeUnit.NANOSECONDS);
+            }
+
+            SqlStatementCounter.Counts sql = SqlStatementCounter.stop();
+            if (sql != null) {
+                request.setAttribute(SqlStatementCounter.REQUEST_ATTRIBUTE, sql);
+                recordSql(request, operation, sql);
+            }
+        } finally {
+            SqlStatementCounter.stop();
+            DormitoryTier.clear();
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.stop();
+        DormitoryTier.clear();
+    }
+
+    private void recordSql(HttpServletRequest request, String operation, SqlStatementCounter.Counts sql) {
+        summary("dormitory.request.sql.statements", "statements", operation).record(sql.getStatements());
+        summary("dormitory.request.sql.rows", "rows", operation).record(sql.getRows());
+        if (statementBudget > 0 && sql.getStatements() > statementBudget) {
+            meterRegistry.counter("dormitory.request.sql.over.budget",
+                "operation", operation, DormitoryTier.TAG, DormitoryTier.current()).increment();
+            log.warn("{} {} ran {} SQL statements, budget is {} ({})", request.getMethod(), request.getRequestURI(),
+                sql.getStatements(), statementBudget, operation);
+        }
+    }
+
+    private DistributionSummary summary(String name, String unit, String operation) {
+        return DistributionSummary.builder(name)
+            .baseUnit(unit)
+            .tag("operation", operation)
+            .tag(DormitoryTier.TAG, DormitoryTier.current())
+            .register(meterRegistry);
+    }
+
+    private Timer timer(String name, String operation, String status, String outcome) {
+        return Timer.builder(name)
+            .tag("operation", operation)
+            .tag(DormitoryTier.TAG, DormitoryTier.current())
+            .tag("status", status)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
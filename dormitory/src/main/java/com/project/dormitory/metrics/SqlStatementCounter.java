@@ -0,0 +1,82 @@
+package com.project.dormitory.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements and entity rows loaded on the current request thread.
+ * RequestMetricsInterceptor starts and stops the count around each /api handler;
+ * SqlStatementInspector and EntityLoadCounter feed it. Work outside a counted request
+ * (imports, startup, scheduled jobs) is not counted.
+ */
+public final class SqlStatementCounter {
+
+    /** Request attribute holding the final Counts of a request, for tests and logging. */
+    public static final String REQUEST_ATTRIBUTE = SqlStatementCounter.class.getName() + ".counts";
+
+    // Atomic because a batch request shares its Counts with the threads running its parts
+    public static final class Counts {
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicLong rows = new AtomicLong();
+
+        public int getStatements() { return statements.get(); }
+        public long getRows() { return rows.get(); }
+
+        @Override
+        public String toString() {
+            return getStatements() + " statements, " + getRows() + " rows";
+        }
+    }
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    static void start() {
+        CURRENT.set(new Counts());
+    }
+
+    static Counts stop() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    /** The counts so far on this thread, or null outside a counted request. */
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps task so that, on whichever thread runs it, its SQL counts towards the
+     * request that created it.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Counts counts = CURRENT.get();
+        return () -> {
+            Counts previous = CURRENT.get();
+            CURRENT.set(counts);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    static void statement() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements.incrementAndGet();
+        }
+    }
+
+    static void row() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.rows.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.dormitory.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares, lazy loads included, against the current
+ * request. Registered through hibernate.session_factory.statement_inspector; the SQL
+ * is passed through unchanged.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.statement();
+        return sql;
+    }
+}
@@ -6,9 +6,16 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_announcement_mgr_id_date_time", columnList = "mgr_id, date_time"),
+    @Index(name = "idx_announcement_date_time", columnList = "date_time")
+})
 public class Announcement {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "announcement_ids")
+    @TableGenerator(name = "announcement_ids", table = IdAllocation.TABLE, pkColumnName = IdAllocation.SEGMENT_COLUMN,
+                    valueColumnName = IdAllocation.VALUE_COLUMN, pkColumnValue = "announcement",
+                    allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     private String title;
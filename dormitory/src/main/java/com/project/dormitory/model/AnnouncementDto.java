@@ -0,0 +1,27 @@
+package com.project.dormitory.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of Announcement that are sent to clients, read straight from a query so a
+ * streamed list never holds managed entities.
+ */
+public class AnnouncementDto {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime dateTime;
+
+    public AnnouncementDto(Long id, String title, String description, LocalDateTime dateTime) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.dateTime = dateTime;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public LocalDateTime getDateTime() { return dateTime; }
+}
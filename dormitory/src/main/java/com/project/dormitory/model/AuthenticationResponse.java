@@ -7,6 +7,7 @@ public class AuthenticationResponse {
     private String userType;
     private String name;
     private String email;
+    private String token;
 
     // Constructors
     public AuthenticationResponse() {}
@@ -43,4 +44,7 @@ public class AuthenticationResponse {
 
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
 }
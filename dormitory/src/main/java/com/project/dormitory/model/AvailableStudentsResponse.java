@@ -0,0 +1,31 @@
+package com.project.dormitory.model;
+
+import java.util.List;
+
+public class AvailableStudentsResponse {
+    private List<Student> students;
+    private Long nextCursor; // null when there are no more pages
+    private Long totalUnassigned; // every student without a room, ignoring the filters
+    private Long totalMatching; // those the major and name prefix filters let through
+
+    public AvailableStudentsResponse(List<Student> students, Long nextCursor, Long totalUnassigned,
+                                     Long totalMatching) {
+        this.students = students;
+        this.nextCursor = nextCursor;
+        this.totalUnassigned = totalUnassigned;
+        this.totalMatching = totalMatching;
+    }
+
+    // Getters and setters
+    public List<Student> getStudents() { return students; }
+    public void setStudents(List<Student> students) { this.students = students; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+
+    public Long getTotalUnassigned() { return totalUnassigned; }
+    public void setTotalUnassigned(Long totalUnassigned) { this.totalUnassigned = totalUnassigned; }
+
+    public Long getTotalMatching() { return totalMatching; }
+    public void setTotalMatching(Long totalMatching) { this.totalMatching = totalMatching; }
+}
@@ -0,0 +1,26 @@
+package com.project.dormitory.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One sub-resource of a batch GET: the status and body its own endpoint would have
+ * answered with, or the error message instead of a body.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchPartResponse {
+    private int status;
+    private JsonNode body;
+    private String error;
+
+    public BatchPartResponse(int status, JsonNode body, String error) {
+        this.status = status;
+        this.body = body;
+        this.error = error;
+    }
+
+    // Getters
+    public int getStatus() { return status; }
+    public JsonNode getBody() { return body; }
+    public String getError() { return error; }
+}
@@ -10,9 +10,16 @@ import com.project.dormitory.json.LocalDateDeserializer;
 import com.project.dormitory.json.LocalDateSerializer;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_check_in_out_stu_id_date", columnList = "stu_id, date"),
+    @Index(name = "idx_check_in_out_status_date", columnList = "status, date")
+})
 public class CheckInOut {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "check_in_out_ids")
+    @TableGenerator(name = "check_in_out_ids", table = IdAllocation.TABLE, pkColumnName = IdAllocation.SEGMENT_COLUMN,
+                    valueColumnName = IdAllocation.VALUE_COLUMN, pkColumnValue = "check_in_out",
+                    allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -22,13 +29,15 @@ public class CheckInOut {
     @JsonSerialize(using = LocalDateSerializer.class)
     @JsonDeserialize(using = LocalDateDeserializer.class)
     private LocalDate date;
-    private String type;
-    private String status;
+    @Convert(converter = CheckInOutType.JpaConverter.class)
+    private CheckInOutType type;
+    @Convert(converter = CheckInOutStatus.JpaConverter.class)
+    private CheckInOutStatus status;
 
-    public String getStatus() {
+    public CheckInOutStatus getStatus() {
         return status;
     }
-    public void setStatus(String status) {
+    public void setStatus(CheckInOutStatus status) {
         this.status = status;
     }
     // Getters and Setters
@@ -44,10 +53,10 @@ public class CheckInOut {
     public void setDate(LocalDate date) {
         this.date = date;
     }
-    public String getType() {
+    public CheckInOutType getType() {
         return type;
     }
-    public void setType(String type) {
+    public void setType(CheckInOutType type) {
         this.type = type;
     }
 
@@ -4,13 +4,13 @@ import java.time.LocalDate;
 
 public class CheckInOutDto {
     private Long id;
-    private String type;
-    private String status;
+    private CheckInOutType type;
+    private CheckInOutStatus status;
     private LocalDate date;
     private String studentName;
     private String roomNum;
 
-    public CheckInOutDto(Long id, String type, String status, LocalDate date,
+    public CheckInOutDto(Long id, CheckInOutType type, CheckInOutStatus status, LocalDate date,
                          String studentName, String roomNum) {
         this.id = id;
         this.type = type;
@@ -22,8 +22,8 @@ public class CheckInOutDto {
 
     // Getters
     public Long getId() { return id; }
-    public String getType() { return type; }
-    public String getStatus() { return status; }
+    public CheckInOutType getType() { return type; }
+    public CheckInOutStatus getStatus() { return status; }
     public LocalDate getDate() { return date; }
     public String getStudentName() { return studentName; }
     public String getRoomNum() { return roomNum; }
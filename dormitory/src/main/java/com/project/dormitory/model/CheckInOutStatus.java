@@ -0,0 +1,39 @@
+package com.project.dormitory.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Review state of a check-in/out request.
+ */
+public enum CheckInOutStatus implements CodedEnum {
+    PENDING(1, "PENDING"),
+    APPROVED(2, "APPROVED"),
+    REJECTED(3, "REJECTED");
+
+    private final int code;
+    private final String label;
+
+    CheckInOutStatus(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Override
+    public int getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static CheckInOutStatus fromLabel(String label) {
+        return CodedEnum.fromLabel(CheckInOutStatus.class, label);
+    }
+
+    public static class JpaConverter extends CodedEnumConverter<CheckInOutStatus> {
+        public JpaConverter() {
+            super(CheckInOutStatus.class);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.dormitory.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Direction of a check-in/out request.
+ */
+public enum CheckInOutType implements CodedEnum {
+    CHECK_IN(1, "Check-in"),
+    CHECK_OUT(2, "Check-out");
+
+    private final int code;
+    private final String label;
+
+    CheckInOutType(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Override
+    public int getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static CheckInOutType fromLabel(String label) {
+        return CodedEnum.fromLabel(CheckInOutType.class, label);
+    }
+
+    public static class JpaConverter extends CodedEnumConverter<CheckInOutType> {
+        public JpaConverter() {
+            super(CheckInOutType.class);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.dormitory.model;
+
+import java.util.Locale;
+
+/**
+ * An enum stored as a small integer code and exchanged as its label in JSON, so the
+ * column and its indexes stay one byte wide while clients keep the strings they use.
+ * Codes are part of the schema: never renumber them, only add new ones.
+ */
+public interface CodedEnum {
+
+    int getCode();
+
+    String getLabel();
+
+    static <E extends Enum<E> & CodedEnum> E fromCode(Class<E> type, int code) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getCode() == code) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code: " + code);
+    }
+
+    /**
+     * Accepts the label or the constant name in any case, ignoring spaces, '-' and '_',
+     * so "IN PROGRESS", "in_progress", "Check-in" and "CHECK_IN" all parse.
+     */
+    static <E extends Enum<E> & CodedEnum> E fromLabel(Class<E> type, String label) {
+        if (label == null || label.isBlank()) {
+            return null;
+        }
+        String key = normalize(label);
+        for (E constant : type.getEnumConstants()) {
+            if (normalize(constant.name()).equals(key) || normalize(constant.getLabel()).equals(key)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + ": " + label);
+    }
+
+    private static String normalize(String value) {
+        return value.replaceAll("[\\s_-]", "").toUpperCase(Locale.ROOT);
+    }
+}
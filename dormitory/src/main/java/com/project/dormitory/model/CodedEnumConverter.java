@@ -0,0 +1,25 @@
+package com.project.dormitory.model;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Maps a CodedEnum to its code in a TINYINT column.
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Byte> {
+
+    private final Class<E> type;
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public Byte convertToDatabaseColumn(E value) {
+        return value != null ? (byte) value.getCode() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(Byte code) {
+        return code != null ? CodedEnum.fromCode(type, code) : null;
+    }
+}
@@ -6,16 +6,26 @@ import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_complaint_repair_stu_id_date_time", columnList = "stu_id, date_time"),
+    @Index(name = "idx_complaint_repair_status_date_time", columnList = "status, date_time")
+})
 public class ComplaintRepair {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "complaint_repair_ids")
+    @TableGenerator(name = "complaint_repair_ids", table = IdAllocation.TABLE, pkColumnName = IdAllocation.SEGMENT_COLUMN,
+                    valueColumnName = IdAllocation.VALUE_COLUMN, pkColumnValue = "complaint_repair",
+                    allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     private String description;
-    private String serviceType;
+    @Convert(converter = ServiceType.JpaConverter.class)
+    private ServiceType serviceType;
     private LocalDateTime dateTime;
-    private String priorityLvl;
-    private String status;
+    @Convert(converter = PriorityLevel.JpaConverter.class)
+    private PriorityLevel priorityLvl;
+    @Convert(converter = ComplaintStatus.JpaConverter.class)
+    private ComplaintStatus status;
 
     @ManyToOne
     @JoinColumn(name = "stu_id")
@@ -29,17 +39,17 @@ public class ComplaintRepair {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
-    public String getServiceType() { return serviceType; }
-    public void setServiceType(String serviceType) { this.serviceType = serviceType; }
+    public ServiceType getServiceType() { return serviceType; }
+    public void setServiceType(ServiceType serviceType) { this.serviceType = serviceType; }
 
     public LocalDateTime getDateTime() { return dateTime; }
     public void setDateTime(LocalDateTime dateTime) { this.dateTime = dateTime; }
 
-    public String getPriorityLvl() { return priorityLvl; }
-    public void setPriorityLvl(String priorityLvl) { this.priorityLvl = priorityLvl; }
+    public PriorityLevel getPriorityLvl() { return priorityLvl; }
+    public void setPriorityLvl(PriorityLevel priorityLvl) { this.priorityLvl = priorityLvl; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public ComplaintStatus getStatus() { return status; }
+    public void setStatus(ComplaintStatus status) { this.status = status; }
 
     public Student getStudent() { return student; }
     public void setStudent(Student student) { this.student = student; }
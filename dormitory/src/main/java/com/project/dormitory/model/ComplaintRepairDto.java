@@ -4,23 +4,23 @@ public class ComplaintRepairDto {
     
     private Long id;
     private String description;
-    private String status;
+    private ComplaintStatus status;
     private String studentName;
     private Long studentId;
-    private String priorityLvl;
-    public String getPriorityLvl() {
+    private PriorityLevel priorityLvl;
+    public PriorityLevel getPriorityLvl() {
         return priorityLvl;
     }
-    public void setPriorityLvl(String priorityLvl) {
+    public void setPriorityLvl(PriorityLevel priorityLvl) {
         this.priorityLvl = priorityLvl;
     }
-    public String getType() {
+    public ServiceType getType() {
         return type;
     }
-    public void setType(String type) {
+    public void setType(ServiceType type) {
         this.type = type;
     }
-    private String type;
+    private ServiceType type;
     private String roomNumber;
     public Long getId() {
         return id;
@@ -34,10 +34,10 @@ public class ComplaintRepairDto {
     public void setDescription(String description) {
         this.description = description;
     }
-    public String getStatus() {
+    public ComplaintStatus getStatus() {
         return status;
     }
-    public void setStatus(String status) {
+    public void setStatus(ComplaintStatus status) {
         this.status = status;
     }
     public String getStudentName() {
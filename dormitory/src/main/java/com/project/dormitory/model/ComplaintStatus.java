@@ -0,0 +1,39 @@
+package com.project.dormitory.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Progress of a complaint/repair request.
+ */
+public enum ComplaintStatus implements CodedEnum {
+    PENDING(1, "PENDING"),
+    IN_PROGRESS(2, "IN PROGRESS"),
+    RESOLVED(3, "RESOLVED");
+
+    private final int code;
+    private final String label;
+
+    ComplaintStatus(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Override
+    public int getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static ComplaintStatus fromLabel(String label) {
+        return CodedEnum.fromLabel(ComplaintStatus.class, label);
+    }
+
+    public static class JpaConverter extends CodedEnumConverter<ComplaintStatus> {
+        public JpaConverter() {
+            super(ComplaintStatus.class);
+        }
+    }
+}
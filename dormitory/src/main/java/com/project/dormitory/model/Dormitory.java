@@ -1,11 +1,18 @@
 package com.project.dormitory.model;
 
 import jakarta.persistence.*;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dormitory")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Dormitory {
     @Id
     private Long id;
@@ -1,11 +1,17 @@
 package com.project.dormitory.model;
 
 import jakarta.persistence.*;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dormitoryManager")
+@Table(indexes = @Index(name = "idx_dormitory_manager_email", columnList = "email"))
 public class DormitoryManager {
     @Id
     private Long id;
@@ -18,6 +24,7 @@ public class DormitoryManager {
 
     @OneToOne(cascade = CascadeType.ALL)
     @JoinColumn(name="dorm_id")
+    @JsonIgnore
     private Dormitory dormitory;
 
     @OneToMany(mappedBy = "manager")
@@ -40,6 +47,9 @@ public class DormitoryManager {
     public String getPassword() { return password; }
     public void setPassword(String password) { this.password = password; }
 
+    public Dormitory getDormitory() { return dormitory; }
+    public void setDormitory(Dormitory dormitory) { this.dormitory = dormitory; }
+
     public List<Announcement> getAnnouncements() { return announcements; }
     public void setAnnouncements(List<Announcement> announcements) { this.announcements = announcements; }
 }
@@ -0,0 +1,32 @@
+package com.project.dormitory.model;
+
+import java.util.List;
+
+/**
+ * Pooled ids for the entities that are inserted in bulk (CheckInOut, ComplaintRepair,
+ * Announcement). With IDENTITY ids Hibernate has to insert row by row to read back each
+ * generated key, so JDBC batching never kicks in. MySQL has no sequences, so the ids
+ * come from a table instead: one row per entity holding the upper end of the next block
+ * of ALLOCATION_SIZE ids, fetched in one round trip and handed out from memory.
+ */
+public final class IdAllocation {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // Segment names, each the table whose ids it allocates
+    public static final List<String> SEGMENTS = List.of("check_in_out", "complaint_repair", "announcement");
+
+    private IdAllocation() {
+    }
+
+    /**
+     * The next_val to store once ids up to lastId are taken by rows inserted outside
+     * Hibernate; the pooled optimizer then continues at lastId + 1.
+     */
+    public static long nextValueAfter(long lastId) {
+        return lastId + ALLOCATION_SIZE;
+    }
+}
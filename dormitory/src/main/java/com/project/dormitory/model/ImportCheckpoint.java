@@ -0,0 +1,43 @@
+package com.project.dormitory.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk CSV import, committed together with each chunk so a failed
+ * import can be resumed from the last committed line.
+ */
+@Entity
+public class ImportCheckpoint {
+    @Id
+    private String jobId;
+
+    private String importType;
+    private Long lastLine;
+    private Long rowsImported;
+    private Long rowsRejected;
+    private boolean finished;
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getImportType() { return importType; }
+    public void setImportType(String importType) { this.importType = importType; }
+
+    public Long getLastLine() { return lastLine; }
+    public void setLastLine(Long lastLine) { this.lastLine = lastLine; }
+
+    public Long getRowsImported() { return rowsImported; }
+    public void setRowsImported(Long rowsImported) { this.rowsImported = rowsImported; }
+
+    public Long getRowsRejected() { return rowsRejected; }
+    public void setRowsRejected(Long rowsRejected) { this.rowsRejected = rowsRejected; }
+
+    public boolean isFinished() { return finished; }
+    public void setFinished(boolean finished) { this.finished = finished; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
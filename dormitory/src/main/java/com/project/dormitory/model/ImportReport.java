@@ -0,0 +1,55 @@
+package com.project.dormitory.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+
+    public static class RowError {
+        private long line;
+        private String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getMessage() { return message; }
+    }
+
+    private String jobId;
+    private String importType;
+    private long linesRead;
+    private long rowsSkipped; // already committed by an earlier run of the same job
+    private long rowsImported;
+    private long rowsRejected;
+    private boolean finished;
+    private List<RowError> errors = new ArrayList<>(); // capped, see BulkImportService
+
+    public ImportReport(String jobId, String importType) {
+        this.jobId = jobId;
+        this.importType = importType;
+    }
+
+    // Getters and setters
+    public String getJobId() { return jobId; }
+    public String getImportType() { return importType; }
+
+    public long getLinesRead() { return linesRead; }
+    public void setLinesRead(long linesRead) { this.linesRead = linesRead; }
+
+    public long getRowsSkipped() { return rowsSkipped; }
+    public void setRowsSkipped(long rowsSkipped) { this.rowsSkipped = rowsSkipped; }
+
+    public long getRowsImported() { return rowsImported; }
+    public void setRowsImported(long rowsImported) { this.rowsImported = rowsImported; }
+
+    public long getRowsRejected() { return rowsRejected; }
+    public void setRowsRejected(long rowsRejected) { this.rowsRejected = rowsRejected; }
+
+    public boolean isFinished() { return finished; }
+    public void setFinished(boolean finished) { this.finished = finished; }
+
+    public List<RowError> getErrors() { return errors; }
+}
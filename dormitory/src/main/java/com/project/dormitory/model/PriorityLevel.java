@@ -0,0 +1,39 @@
+package com.project.dormitory.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Urgency of a complaint/repair request.
+ */
+public enum PriorityLevel implements CodedEnum {
+    LOW(1, "low"),
+    MEDIUM(2, "medium"),
+    HIGH(3, "high");
+
+    private final int code;
+    private final String label;
+
+    PriorityLevel(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Override
+    public int getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static PriorityLevel fromLabel(String label) {
+        return CodedEnum.fromLabel(PriorityLevel.class, label);
+    }
+
+    public static class JpaConverter extends CodedEnumConverter<PriorityLevel> {
+        public JpaConverter() {
+            super(PriorityLevel.class);
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.project.dormitory.model;
 
 import jakarta.persistence.*;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room")
 @IdClass(RoomId.class)
+@Table(indexes = @Index(name = "idx_room_dorm_id_occupacy", columnList = "dorm_id, occupacy"))
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Room {
     @Id
     private String roomNum;
@@ -23,7 +32,9 @@ public class Room {
     private String lastInspect;
     private String duration;
 
+    // The room list serializes every room's students; load them 50 rooms per statement
     @OneToMany(mappedBy = "room")
+    @BatchSize(size = 50)
     private List<Student> students;
 
     // Getters and Setters
@@ -31,6 +31,7 @@ public class RoomId implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(roomNum, dormitory);
+        // Same as Objects.hash but without its varargs array
+        return 31 * (31 + Objects.hashCode(roomNum)) + Objects.hashCode(dormitory);
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.project.dormitory.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * What a complaint/repair request is about, as offered on the service form.
+ */
+public enum ServiceType implements CodedEnum {
+    PLUMBING(1, "Plumbing"),
+    ELECTRICAL(2, "Electrical"),
+    FURNITURE(3, "Furniture"),
+    WIFI(4, "Wi-Fi"),
+    CLEANING(5, "Cleaning"),
+    OTHER(6, "Other"),
+    // Older requests were only filed as a repair or a complaint
+    REPAIR(7, "Repair"),
+    COMPLAINT(8, "Complaint");
+
+    private final int code;
+    private final String label;
+
+    ServiceType(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Override
+    public int getCode() { return code; }
+
+    @Override
+    @JsonValue
+    public String getLabel() { return label; }
+
+    @JsonCreator
+    public static ServiceType fromLabel(String label) {
+        return CodedEnum.fromLabel(ServiceType.class, label);
+    }
+
+    public static class JpaConverter extends CodedEnumConverter<ServiceType> {
+        public JpaConverter() {
+            super(ServiceType.class);
+        }
+    }
+}
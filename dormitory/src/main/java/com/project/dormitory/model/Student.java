@@ -4,8 +4,18 @@ import jakarta.persistence.*;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.project.dormitory.search.StudentNameIndexListener;
 
 @Entity
+// room IS NULL lookups walk this index in id order (InnoDB appends the primary key)
+@Table(indexes = @Index(name = "idx_student_room", columnList = "dorm_id, room_num"))
+@EntityListeners(StudentNameIndexListener.class)
+// Every association is lazy, each use case picks what it needs with one of these graphs
+// or with the fetch joins of StudentRepo.findRoomInfoById / findDashboardById
+@NamedEntityGraph(name = "Student.login")
+@NamedEntityGraph(name = "Student.list", attributeNodes = @NamedAttributeNode("room"))
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Student {
     @Id
     private Long id;
@@ -20,12 +30,12 @@ public class Student {
     
     /////
     @JsonIgnore
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "roommate_id")
     private Student roommate;
 
     // FIX: For composite key, use @JoinColumns
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumns({
         @JoinColumn(name = "room_num", referencedColumnName = "roomNum"),
         @JoinColumn(name = "dorm_id", referencedColumnName = "dorm_id")
@@ -33,10 +43,6 @@ public class Student {
     @JsonIgnore
     private Room room;
 
-    @JsonIgnore
-    @OneToOne(mappedBy = "roommate")
-    private Student pairedStudent;
-
     @JsonIgnore
     @OneToMany(mappedBy = "student")
     private List<ComplaintRepair> complaints;
@@ -75,7 +81,4 @@ public class Student {
 
     public List<CheckInOut> getCheckInOuts() { return checkInOuts; }
     public void setCheckInOuts(List<CheckInOut> checkInOuts) { this.checkInOuts = checkInOuts; }
-
-    public Student getPairedStudent() { return pairedStudent; }
-    public void setPairedStudent(Student pairedStudent) { this.pairedStudent = pairedStudent; }
 }
\ No newline at end of file
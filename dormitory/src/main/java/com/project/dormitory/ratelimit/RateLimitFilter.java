@@ -0,0 +1,81 @@
+package com.project.dormitory.ratelimit;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.project.dormitory.security.RequestPaths;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles login, check-in/out submission and service request submission before they
+ * reach the database. Runs after SessionTokenFilter so the per-user bucket is keyed by
+ * the verified principal rather than an id anyone can put in the path. Login has no
+ * principal yet, so its per-account limit is applied in AuthController.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String STUDENT_PREFIX = "/api/student/";
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || routeOf(RequestPaths.of(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimiter.Route route = routeOf(RequestPaths.of(request));
+        long wait = rateLimiter.acquireForAddress(route, request.getRemoteAddr());
+        if (wait == 0 && request.getAttribute(SessionTokenFilter.PRINCIPAL) instanceof SessionPrincipal principal) {
+            wait = rateLimiter.acquireForUser(route, principal.getUserId());
+        }
+        if (wait > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.retryAfterSeconds(wait)));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, please retry later");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    // POST /api/student/{id}/checkinout and /api/student/{id}/service/request
+    private static RateLimiter.Route routeOf(String path) {
+        if (LOGIN_PATH.equals(path)) {
+            return RateLimiter.Route.LOGIN;
+        }
+        if (!path.startsWith(STUDENT_PREFIX)) {
+            return null;
+        }
+        int slash = path.indexOf('/', STUDENT_PREFIX.length());
+        if (slash < 0) {
+            return null;
+        }
+        if (path.startsWith("checkinout", slash + 1) && path.length() == slash + 1 + "checkinout".length()) {
+            return RateLimiter.Route.CHECK_IN_OUT;
+        }
+        if (path.startsWith("service/request", slash + 1) && path.length() == slash + 1 + "service/request".length()) {
+            return RateLimiter.Route.SERVICE_REQUEST;
+        }
+        return null;
+    }
+}
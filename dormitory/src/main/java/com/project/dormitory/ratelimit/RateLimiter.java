@@ -0,0 +1,106 @@
+package com.project.dormitory.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-route request limits keyed by user id and by client address. Limits are requests
+ * per minute read from dormitory.rate-limit.{route}.per-user / per-address; 0 disables
+ * that key. Throttled requests are counted in dormitory.rate.limit.throttled.
+ */
+@Component
+public class RateLimiter {
+
+    public enum Route {
+        LOGIN("login", 10, 60),
+        CHECK_IN_OUT("checkinout", 10, 120),
+        SERVICE_REQUEST("service-request", 10, 120);
+
+        private final String key;
+        private final int defaultPerUser;
+        private final int defaultPerAddress;
+
+        Route(String key, int defaultPerUser, int defaultPerAddress) {
+            this.key = key;
+            this.defaultPerUser = defaultPerUser;
+            this.defaultPerAddress = defaultPerAddress;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final String PREFIX = "dormitory.rate-limit.";
+
+    private final Map<Route, Limit> userLimits = new EnumMap<>(Route.class);
+    private final Map<Route, Limit> addressLimits = new EnumMap<>(Route.class);
+
+    public RateLimiter(Environment environment, MeterRegistry meterRegistry) {
+        int stripes = environment.getProperty(PREFIX + "stripes", Integer.class, 4096);
+        for (Route route : Route.values()) {
+            int perUser = environment.getProperty(PREFIX + route.key + ".per-user", Integer.class, route.defaultPerUser);
+            int perAddress = environment.getProperty(PREFIX + route.key + ".per-address", Integer.class, route.defaultPerAddress);
+            if (perUser > 0) {
+                userLimits.put(route, new Limit(new TokenBucketStripes(stripes, perUser),
+                    throttledCounter(meterRegistry, route, "user")));
+            }
+            if (perAddress > 0) {
+                addressLimits.put(route, new Limit(new TokenBucketStripes(stripes, perAddress),
+                    throttledCounter(meterRegistry, route, "address")));
+            }
+        }
+    }
+
+    /**
+     * @return 0 when allowed, otherwise milliseconds until the user may retry
+     */
+    public long acquireForUser(Route route, long userId) {
+        Limit limit = userLimits.get(route);
+        return limit == null ? 0 : limit.acquire(userId);
+    }
+
+    /**
+     * @return 0 when allowed, otherwise milliseconds until the address may retry
+     */
+    public long acquireForAddress(Route route, String address) {
+        Limit limit = addressLimits.get(route);
+        return limit == null || address == null ? 0 : limit.acquire(address.hashCode());
+    }
+
+    public static long retryAfterSeconds(long waitMillis) {
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    private static Counter throttledCounter(MeterRegistry meterRegistry, Route route, String keyType) {
+        return Counter.builder("dormitory.rate.limit.throttled")
+            .description("Requests rejected with 429 by the in-process rate limiter")
+            .tag("route", route.key)
+            .tag("key", keyType)
+            .register(meterRegistry);
+    }
+
+    private static final class Limit {
+        private final TokenBucketStripes buckets;
+        private final Counter throttled;
+
+        Limit(TokenBucketStripes buckets, Counter throttled) {
+            this.buckets = buckets;
+            this.throttled = throttled;
+        }
+
+        long acquire(long key) {
+            long wait = buckets.tryAcquire(key);
+            if (wait > 0) {
+                throttled.increment();
+            }
+            return wait;
+        }
+    }
+}
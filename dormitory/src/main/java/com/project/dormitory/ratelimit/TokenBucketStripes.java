@@ -0,0 +1,96 @@
+package com.project.dormitory.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * A fixed array of token buckets indexed by key hash. Each bucket is a single long
+ * (last refill time in the high bits, milli-tokens in the low bits) updated with CAS,
+ * so acquiring never takes a lock and memory stays constant however many clients show
+ * up. Keys that land on the same stripe share a bucket, which can only make the limit
+ * stricter for them.
+ */
+final class TokenBucketStripes {
+
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long ONE_TOKEN = 1000;
+    static final int MAX_CAPACITY = (int) (TOKEN_MASK / ONE_TOKEN);
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long capacity;
+    private final long perMinute;
+    private final long fullRefillMillis;
+    private final LongSupplier nanoClock;
+    // Shifts the clock so "now" is never 0, which marks an untouched (full) bucket
+    private final long origin;
+
+    /**
+     * @param stripeCount rounded up to a power of two
+     * @param perMinute   bucket capacity and refill rate, in requests per minute
+     */
+    TokenBucketStripes(int stripeCount, int perMinute) {
+        this(stripeCount, perMinute, System::nanoTime);
+    }
+
+    // nanoClock is System.nanoTime outside tests
+    TokenBucketStripes(int stripeCount, int perMinute, LongSupplier nanoClock) {
+        if (perMinute <= 0 || perMinute > MAX_CAPACITY) {
+            throw new IllegalArgumentException("perMinute must be between 1 and " + MAX_CAPACITY);
+        }
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacity = perMinute * ONE_TOKEN;
+        this.perMinute = perMinute;
+        this.fullRefillMillis = 60_000;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong() / 1_000_000 - 1;
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @return 0 when the request may proceed, otherwise the milliseconds until a token is available
+     */
+    long tryAcquire(long key) {
+        int i = (int) mix(key) & mask;
+        long now = nanoClock.getAsLong() / 1_000_000 - origin;
+        while (true) {
+            long current = stripes.get(i);
+            long last;
+            long tokens;
+            if (current == 0) {
+                last = now;
+                tokens = capacity;
+            } else {
+                last = current >>> TOKEN_BITS;
+                tokens = current & TOKEN_MASK;
+                long elapsed = Math.min(now - last, fullRefillMillis);
+                // perMinute tokens per 60000 ms is perMinute / 60 milli-tokens per ms
+                long added = elapsed * perMinute / 60;
+                if (added > 0) {
+                    // Only move the clock when something was added, so frequent callers
+                    // don't keep discarding the fractional refill
+                    tokens = Math.min(capacity, tokens + added);
+                    last = now;
+                }
+            }
+            if (tokens < ONE_TOKEN) {
+                return Math.max(1, ((ONE_TOKEN - tokens) * 60 + perMinute - 1) / perMinute);
+            }
+            long next = (last << TOKEN_BITS) | (tokens - ONE_TOKEN);
+            if (stripes.compareAndSet(i, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Stafford variant 13 finalizer, so sequential ids spread over all stripes
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,17 +1,33 @@
 package com.project.dormitory.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.dormitory.model.Announcement;
+import com.project.dormitory.model.AnnouncementDto;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AnnouncementRepo extends JpaRepository<Announcement,Long>{
 
     List<Announcement> findByManagerDormitoryIdOrderByDateTimeDesc(Long dormId);
 
+    /**
+     * Cursor over a dormitory's announcements, read as DTOs; consume inside a read-only transaction
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.project.dormitory.model.AnnouncementDto(a.id, a.title, a.description, a.dateTime) " +
+           "FROM Announcement a WHERE a.manager.dormitory.id = :dormId")
+    Stream<AnnouncementDto> streamDtosByDormitoryId(@Param("dormId") Long dormId, Sort sort);
+
     List<Announcement> findTop5ByOrderByDateTimeDesc();
 
     /**
@@ -37,9 +53,9 @@ public interface AnnouncementRepo extends JpaRepository<Announcement,Long>{
     long countByManagerId(Long managerId);
 
         /**
-     * Delete announcements by manager ID
+     * Delete announcements by manager ID, returning the deleted ones
      */
-    void deleteByManagerId(Long managerId);
+    List<Announcement> deleteByManagerId(Long managerId);
 
     List<Announcement> findAllByOrderByDateTimeAsc();
 
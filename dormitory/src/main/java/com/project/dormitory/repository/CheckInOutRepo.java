@@ -1,13 +1,20 @@
 package com.project.dormitory.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.dormitory.model.CheckInOut;
+import com.project.dormitory.model.CheckInOutDto;
+import com.project.dormitory.model.CheckInOutStatus;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface CheckInOutRepo extends JpaRepository<CheckInOut,Long>{
@@ -18,13 +25,23 @@ public interface CheckInOutRepo extends JpaRepository<CheckInOut,Long>{
 
     List<CheckInOut> findByStudentRoomDormitoryIdOrderByDateDesc(Long dormId);
     
-    List<CheckInOut> findByStatusOrderByDateDesc(String status);
+    // The eager student would otherwise be loaded one select per request
+    @EntityGraph(attributePaths = "student")
+    List<CheckInOut> findByStatusOrderByDateDesc(CheckInOutStatus status);
+
+    long countByStatus(CheckInOutStatus status);
     
     List<CheckInOut> findByStudentIdOrderByDateDesc(Long studentId);
 
     @Query("SELECT cio FROM CheckInOut cio JOIN cio.student s JOIN s.room r WHERE r.dormitory.id = :dormId ORDER BY cio.date DESC")
     List<CheckInOut> findByDormitoryId(@Param("dormId") Long dormId);
 
+    // Cursor over the manager's list, read as DTOs; consume inside a read-only transaction
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.project.dormitory.model.CheckInOutDto(cio.id, cio.type, cio.status, cio.date, s.name, r.roomNum) " +
+           "FROM CheckInOut cio JOIN cio.student s JOIN s.room r WHERE r.dormitory.id = :dormId ORDER BY cio.date DESC")
+    Stream<CheckInOutDto> streamDtosByDormitoryId(@Param("dormId") Long dormId);
+
     
     @Query("SELECT cio FROM CheckInOut cio JOIN cio.student s JOIN s.room r WHERE r.dormitory.id = :dormId AND " +
            "(LOWER(s.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
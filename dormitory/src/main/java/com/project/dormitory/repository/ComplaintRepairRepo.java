@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.dormitory.model.ComplaintRepair;
+import com.project.dormitory.model.ComplaintStatus;
 
 @Repository
 public interface ComplaintRepairRepo extends JpaRepository<ComplaintRepair,Long> {
@@ -18,7 +19,9 @@ public interface ComplaintRepairRepo extends JpaRepository<ComplaintRepair,Long>
 
     List<ComplaintRepair> findByStudentRoomDormitoryIdOrderByDateTimeDesc(Long dormId);
     
-    List<ComplaintRepair> findByStatusOrderByDateTimeDesc(String status);
+    List<ComplaintRepair> findByStatusOrderByDateTimeDesc(ComplaintStatus status);
+
+    long countByStatus(ComplaintStatus status);
 
     @Query("SELECT cr FROM ComplaintRepair cr JOIN cr.student s JOIN s.room r WHERE r.dormitory.id = :dormId ORDER BY cr.dateTime DESC")
     List<ComplaintRepair> findByDormitoryId(@Param("dormId") Long dormId);
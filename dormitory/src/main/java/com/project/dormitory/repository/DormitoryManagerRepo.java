@@ -3,18 +3,28 @@ package com.project.dormitory.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.project.dormitory.model.DormitoryManager;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface DormitoryManagerRepo extends JpaRepository<DormitoryManager,Long>{
     Optional<DormitoryManager> findByEmail(String email);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT dm.dormitory.id FROM DormitoryManager dm WHERE dm.id = :managerId")
     Optional<Long> findDormitoryIdByManagerId(@Param("managerId") Long managerId);
 
-
+    // Managers loaded by a read-only finder are not dirty checked, so setPassword + save would be lost
+    @Transactional
+    @Modifying
+    @Query("UPDATE DormitoryManager dm SET dm.password = :password WHERE dm.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
@@ -0,0 +1,11 @@
+package com.project.dormitory.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.project.dormitory.model.ImportCheckpoint;
+
+@Repository
+public interface ImportCheckpointRepo extends JpaRepository<ImportCheckpoint,String> {
+
+}
@@ -5,18 +5,25 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.dormitory.model.Room;
 import com.project.dormitory.model.RoomId;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface RoomRepo extends JpaRepository<Room,RoomId> {
+    // Rooms only change through RoomService or an import, both of which invalidate these results
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Room> findByDormitoryId(Long dormId);
     
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Room> findByDormitoryIdAndOccupacyLessThan(Long dormId, Integer occupancy);
     
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Room> findByDormitoryIdAndRoomNumContaining(Long dormId, String roomNum);
 
     @Query("SELECT r FROM Room r JOIN r.students s WHERE s.id = :studentId")
@@ -1,9 +1,16 @@
 package com.project.dormitory.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.project.dormitory.model.Student;
 
@@ -12,8 +19,60 @@ public interface StudentRepo extends JpaRepository<Student,Long> {
 
     List<Student> findByNameContaining(String name);
     
+    @EntityGraph("Student.list")
     List<Student> findByRoomDormitoryId(Long dormId);
+
+    long countByRoomDormitoryId(Long dormId);
+
+    // Fetch plans per use case, see the named graphs on Student and the fetch joins below
+
+    @EntityGraph("Student.login")
+    Optional<Student> findLoginById(Long id);
+
+    // Explicit fetch joins: Hibernate treats room.students in a Student graph as a cycle back to
+    // the root and loads it with a second select
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.room r LEFT JOIN FETCH r.dormitory " +
+           "LEFT JOIN FETCH r.students LEFT JOIN FETCH s.roommate WHERE s.id = :id")
+    Optional<Student> findRoomInfoById(@Param("id") Long id);
+
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.room r LEFT JOIN FETCH r.dormitory " +
+           "LEFT JOIN FETCH r.students WHERE s.id = :id")
+    Optional<Student> findDashboardById(@Param("id") Long id);
     
     List<Student> findByRoomIsNull();
 
+    @Query("SELECT r.dormitory.id FROM Student s JOIN s.room r WHERE s.id = :studentId")
+    Optional<Long> findDormitoryIdByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Keyset page of students without a room, ordered by id.
+     * Pass the last id of the previous page as afterId (0 for the first page).
+     * namePrefix is matched literally, so its %, _ and ! must be escaped with !.
+     */
+    @Query("SELECT s FROM Student s WHERE s.room IS NULL AND s.id > :afterId " +
+           "AND (:major IS NULL OR s.major = :major) " +
+           "AND (:namePrefix IS NULL OR s.name LIKE CONCAT(:namePrefix, '%') ESCAPE '!') " +
+           "ORDER BY s.id")
+    List<Student> findUnassignedAfter(@Param("afterId") Long afterId,
+                                      @Param("major") String major,
+                                      @Param("namePrefix") String namePrefix,
+                                      Pageable pageable);
+
+    long countByRoomIsNull();
+
+    // Total behind findUnassignedAfter's pages, same filters and escaping
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.room IS NULL " +
+           "AND (:major IS NULL OR s.major = :major) " +
+           "AND (:namePrefix IS NULL OR s.name LIKE CONCAT(:namePrefix, '%') ESCAPE '!')")
+    long countUnassigned(@Param("major") String major, @Param("namePrefix") String namePrefix);
+
+    @Query("SELECT s.id, s.name FROM Student s")
+    List<Object[]> findAllIdAndName();
+
+    // Students loaded by a read-only finder are not dirty checked, so setPassword + save would be lost
+    @Transactional
+    @Modifying
+    @Query("UPDATE Student s SET s.password = :password WHERE s.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
 }
@@ -0,0 +1,127 @@
+package com.project.dormitory.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+/**
+ * Maps an attribute path from an entity to the tables and columns it touches, using
+ * Hibernate's mapping model so column names match what is in the database.
+ * "student.room.dormitory.id" from CheckInOut joins check_in_out.stu_id to student,
+ * student.(dorm_id, room_num) to room, and ends on room.dorm_id: an association followed
+ * by its target's id stops at the foreign key, as Hibernate's own SQL does.
+ */
+final class ColumnResolver {
+
+    /** A foreign key followed out of a table; collection joins put it on the joined table. */
+    static final class Hop {
+        final String table;
+        final List<String> columns;
+
+        Hop(String table, List<String> columns) {
+            this.table = table;
+            this.columns = columns;
+        }
+    }
+
+    static final class Resolved {
+        final List<Hop> hops = new ArrayList<>();
+        String table;
+        List<String> columns = List.of();
+    }
+
+    private final MappingMetamodel metamodel;
+
+    ColumnResolver(MappingMetamodel metamodel) {
+        this.metamodel = metamodel;
+    }
+
+    String tableOf(Class<?> entity) {
+        return tableOf(metamodel.getEntityDescriptor(entity));
+    }
+
+    List<String> primaryKeyOf(Class<?> entity) {
+        List<String> columns = new ArrayList<>();
+        metamodel.getEntityDescriptor(entity).getIdentifierMapping()
+            .forEachSelectable((i, selectable) -> columns.add(selectable.getSelectionExpression()));
+        return columns;
+    }
+
+    /**
+     * Resolves a predicate or ORDER BY path; null when it leaves the mapping model's simple
+     * cases (embeddables, element collections), which the advisor then ignores.
+     * A join path is only followed, it has no column of its own.
+     */
+    Resolved resolve(Class<?> root, String path, boolean join) {
+        Resolved resolved = new Resolved();
+        EntityMappingType entity = metamodel.getEntityDescriptor(root);
+        String[] segments = path.split("\\.");
+        for (int i = 0; i < segments.length; i++) {
+            ModelPart part = findPart(entity, segments[i]);
+            boolean last = i == segments.length - 1;
+            if (part instanceof ToOneAttributeMapping toOne) {
+                EntityMappingType target = toOne.getAssociatedEntityMappingType();
+                if (toOne.getSideNature() != ForeignKeyDescriptor.Nature.KEY) {
+                    return null; // mappedBy side of a one-to-one, foreign key is on the target
+                }
+                List<String> foreignKey = keyColumns(toOne.getForeignKeyDescriptor());
+                boolean targetId = i == segments.length - 2 && isIdentifier(target, segments[i + 1]);
+                if (!join && (last || targetId)) {
+                    resolved.table = tableOf(entity);
+                    resolved.columns = foreignKey;
+                    return resolved;
+                }
+                resolved.hops.add(new Hop(tableOf(entity), foreignKey));
+                entity = target;
+            } else if (part instanceof PluralAttributeMapping plural
+                       && plural.getElementDescriptor() instanceof EntityValuedModelPart element) {
+                entity = element.getEntityMappingType();
+                resolved.hops.add(new Hop(tableOf(entity), keyColumns(plural.getKeyDescriptor())));
+            } else if (part instanceof BasicValuedModelPart basic && last && !join) {
+                resolved.table = tableOf(entity);
+                resolved.columns = List.of(basic.getSelectionExpression());
+                return resolved;
+            } else {
+                return null;
+            }
+        }
+        resolved.table = tableOf(entity);
+        return resolved;
+    }
+
+    private static ModelPart findPart(EntityMappingType entity, String name) {
+        ModelPart part = entity.findSubPart(name, null);
+        // Attributes of an @IdClass live on the virtual id embeddable
+        if (part == null && entity.getIdentifierMapping() instanceof EmbeddableValuedModelPart id) {
+            part = id.findSubPart(name, null);
+        }
+        return part;
+    }
+
+    // The mapping's part name is the "{id}" role, the attribute name is what paths use
+    private static boolean isIdentifier(EntityMappingType entity, String name) {
+        return entity.getIdentifierMapping() instanceof BasicEntityIdentifierMapping id
+            && name.equals(id.getAttributeName());
+    }
+
+    private static List<String> keyColumns(ForeignKeyDescriptor foreignKey) {
+        List<String> columns = new ArrayList<>();
+        foreignKey.getKeyPart().forEachSelectable((i, selectable) -> columns.add(selectable.getSelectionExpression()));
+        return columns;
+    }
+
+    private static String tableOf(EntityMappingType entity) {
+        return ((AbstractEntityPersister) entity.getEntityPersister()).getTableName();
+    }
+}
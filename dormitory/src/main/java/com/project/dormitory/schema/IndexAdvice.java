@@ -0,0 +1,83 @@
+package com.project.dormitory.schema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An index some repository query wants: equality columns first, in any order, then at
+ * most one range column or the ORDER BY columns, in order. Which queries asked for it is
+ * kept so a report can say why the index exists.
+ */
+public class IndexAdvice {
+
+    private final String table;
+    private final Set<String> equalityColumns;
+    private final List<String> orderedColumns;
+    private final Set<String> sources = new LinkedHashSet<>();
+
+    IndexAdvice(String table, Set<String> equalityColumns, List<String> orderedColumns, String source) {
+        this.table = table;
+        this.equalityColumns = equalityColumns;
+        this.orderedColumns = orderedColumns;
+        this.sources.add(source);
+    }
+
+    public String getTable() { return table; }
+
+    public List<String> getColumns() {
+        List<String> columns = new ArrayList<>(equalityColumns);
+        columns.addAll(orderedColumns);
+        return columns;
+    }
+
+    public Set<String> getSources() { return sources; }
+
+    public String getIndexName() {
+        return "idx_" + table + "_" + String.join("_", getColumns());
+    }
+
+    public String toDdl() {
+        return "CREATE INDEX " + getIndexName() + " ON " + table + " (" + String.join(", ", getColumns()) + ");";
+    }
+
+    /** Whether an index with these leading columns serves every query behind this advice. */
+    boolean isCoveredBy(List<String> indexColumns) {
+        int size = equalityColumns.size();
+        if (indexColumns.size() < size + orderedColumns.size()) {
+            return false;
+        }
+        Set<String> leading = new LinkedHashSet<>();
+        for (String column : indexColumns.subList(0, size)) {
+            leading.add(column.toLowerCase(Locale.ROOT));
+        }
+        for (String column : equalityColumns) {
+            if (!leading.contains(column.toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < orderedColumns.size(); i++) {
+            if (!orderedColumns.get(i).equalsIgnoreCase(indexColumns.get(size + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean sameIndexAs(IndexAdvice other) {
+        return table.equals(other.table)
+            && equalityColumns.equals(other.equalityColumns)
+            && orderedColumns.equals(other.orderedColumns);
+    }
+
+    void addSources(IndexAdvice other) {
+        sources.addAll(other.sources);
+    }
+
+    @Override
+    public String toString() {
+        return table + "(" + String.join(", ", getColumns()) + ") for " + String.join(", ", sources);
+    }
+}
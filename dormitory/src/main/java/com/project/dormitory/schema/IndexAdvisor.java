@@ -0,0 +1,281 @@
+package com.project.dormitory.schema;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks at startup that every repository query method has an index to run on. Derived
+ * query names and @Query JPQL are reduced to the columns they filter and sort on, turned
+ * into index advice per table, and compared with the indexes the database reports, e.g.
+ * java -jar dormitory.jar --dormitory.index-advisor.enabled=true
+ *      --dormitory.index-advisor.ddl-output=missing-indexes.sql
+ * Missing indexes are logged with their DDL, written to ddl-output when set (to be
+ * reviewed and saved as the next free db/migration version), and fail
+ * startup with dormitory.index-advisor.strict=true (the tests run it that way).
+ * Secondary indexes are assumed to end in the primary key, as InnoDB's do; set
+ * dormitory.index-advisor.implicit-primary-key=false for other engines.
+ */
+@Component
+@ConditionalOnProperty(name = "dormitory.index-advisor.enabled", havingValue = "true")
+public class IndexAdvisor implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(IndexAdvisor.class);
+
+    private final ApplicationContext context;
+    private final ColumnResolver resolver;
+    private final DataSource dataSource;
+
+    @Value("${dormitory.index-advisor.strict:false}")
+    private boolean strict;
+
+    @Value("${dormitory.index-advisor.ddl-output:}")
+    private String ddlOutput;
+
+    @Value("${dormitory.index-advisor.implicit-primary-key:true}")
+    private boolean implicitPrimaryKey;
+
+    public IndexAdvisor(ApplicationContext context, EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.context = context;
+        this.resolver = new ColumnResolver(entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getRuntimeMetamodels().getMappingMetamodel());
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<IndexAdvice> missing = missingIndexes();
+        if (missing.isEmpty()) {
+            log.info("Every repository query method is backed by an index");
+            return;
+        }
+        for (IndexAdvice advice : missing) {
+            log.warn("Missing index on {}: {}", advice, advice.toDdl());
+        }
+        if (!ddlOutput.isEmpty()) {
+            writeDdl(missing, Path.of(ddlOutput));
+            log.warn("DDL for {} missing indexes written to {}", missing.size(), Path.of(ddlOutput).toAbsolutePath());
+        }
+        if (strict) {
+            StringBuilder message = new StringBuilder("Repository queries without a supporting index:");
+            for (IndexAdvice advice : missing) {
+                message.append("\n  ").append(advice.toDdl()).append(" -- ").append(String.join(", ", advice.getSources()));
+            }
+            throw new IllegalStateException(message.toString());
+        }
+    }
+
+    /** Advice for every repository query method, one entry per distinct index. */
+    public List<IndexAdvice> advise() {
+        List<IndexAdvice> advice = new ArrayList<>();
+        for (QueryShape shape : queryShapes()) {
+            for (IndexAdvice wanted : adviceFor(shape)) {
+                IndexAdvice same = advice.stream().filter(wanted::sameIndexAs).findFirst().orElse(null);
+                if (same != null) {
+                    same.addSources(wanted);
+                } else {
+                    advice.add(wanted);
+                }
+            }
+        }
+        return advice;
+    }
+
+    /** Advice no existing index covers, minus advice another missing index would cover. */
+    public List<IndexAdvice> missingIndexes() throws SQLException {
+        List<IndexAdvice> advice = advise();
+        Set<String> tables = new LinkedHashSet<>();
+        advice.forEach(a -> tables.add(a.getTable()));
+        Map<String, List<List<String>>> existing = existingIndexes(tables);
+
+        List<IndexAdvice> missing = new ArrayList<>();
+        for (IndexAdvice wanted : advice) {
+            if (existing.getOrDefault(wanted.getTable(), List.of()).stream().noneMatch(wanted::isCoveredBy)) {
+                missing.add(wanted);
+            }
+        }
+        for (Iterator<IndexAdvice> it = missing.iterator(); it.hasNext();) {
+            IndexAdvice narrower = it.next();
+            IndexAdvice wider = missing.stream()
+                .filter(other -> other != narrower && other.getTable().equals(narrower.getTable())
+                                 && narrower.isCoveredBy(other.getColumns()))
+                .findFirst().orElse(null);
+            if (wider != null) {
+                wider.addSources(narrower);
+                it.remove();
+            }
+        }
+        return missing;
+    }
+
+    private List<QueryShape> queryShapes() {
+        List<QueryShape> shapes = new ArrayList<>();
+        Repositories repositories = new Repositories(context);
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : information.getQueryMethods()) {
+                Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+                if (query == null) {
+                    try {
+                        shapes.add(QueryShape.fromMethodName(method, domainType));
+                    } catch (PropertyReferenceException | IllegalArgumentException e) {
+                        log.debug("Skipping {}: {}", method, e.getMessage());
+                    }
+                } else if (!query.nativeQuery() && !query.value().isEmpty()) {
+                    shapes.add(QueryShape.fromJpql(method, domainType, query.value()));
+                }
+            }
+        }
+        return shapes;
+    }
+
+    /*
+     * Per table the query touches: its own equality columns, then its range column or,
+     * on the root table, the ORDER BY columns. A table the query only joins through gets
+     * the foreign key it is joined on, which a nested loop join probes once per outer row.
+     */
+    List<IndexAdvice> adviceFor(QueryShape shape) {
+        String root = resolver.tableOf(shape.entity);
+        Set<String> tables = new LinkedHashSet<>(List.of(root));
+        Map<String, Set<String>> equality = new HashMap<>();
+        Map<String, String> range = new HashMap<>();
+        Map<String, Set<String>> joinedOn = new HashMap<>();
+
+        for (String path : shape.joins) {
+            ColumnResolver.Resolved resolved = resolver.resolve(shape.entity, path, true);
+            if (resolved != null) {
+                addHops(resolved, tables, joinedOn);
+            }
+        }
+        for (QueryShape.Predicate predicate : shape.predicates) {
+            ColumnResolver.Resolved resolved = resolver.resolve(shape.entity, predicate.path, false);
+            if (resolved == null || resolved.columns.isEmpty()) {
+                continue;
+            }
+            addHops(resolved, tables, joinedOn);
+            tables.add(resolved.table);
+            if (predicate.kind == QueryShape.Kind.EQUALITY) {
+                equality.computeIfAbsent(resolved.table, t -> new LinkedHashSet<>()).addAll(resolved.columns);
+            } else if (resolved.columns.size() == 1) {
+                range.putIfAbsent(resolved.table, resolved.columns.get(0));
+            }
+        }
+        // An index only serves the sort when every ORDER BY column is on the root table
+        List<String> orderColumns = new ArrayList<>();
+        for (String path : shape.orders) {
+            ColumnResolver.Resolved resolved = resolver.resolve(shape.entity, path, false);
+            if (resolved == null || !resolved.hops.isEmpty() || resolved.columns.isEmpty()) {
+                orderColumns.clear();
+                break;
+            }
+            orderColumns.addAll(resolved.columns);
+        }
+
+        List<IndexAdvice> advice = new ArrayList<>();
+        for (String table : tables) {
+            Set<String> own = equality.getOrDefault(table, new LinkedHashSet<>());
+            String rangeColumn = range.get(table);
+            Set<String> equalityColumns = own.isEmpty() && rangeColumn == null
+                ? joinedOn.getOrDefault(table, own)
+                : own;
+            List<String> orderedColumns = new ArrayList<>();
+            if (rangeColumn != null && !equalityColumns.contains(rangeColumn)) {
+                orderedColumns.add(rangeColumn);
+            } else if (rangeColumn == null && table.equals(root)) {
+                orderColumns.stream().filter(c -> !equalityColumns.contains(c)).forEach(orderedColumns::add);
+            }
+            if (!equalityColumns.isEmpty() || !orderedColumns.isEmpty()) {
+                advice.add(new IndexAdvice(table, equalityColumns, orderedColumns, shape.source));
+            }
+        }
+        return advice;
+    }
+
+    private static void addHops(ColumnResolver.Resolved resolved, Set<String> tables, Map<String, Set<String>> joinedOn) {
+        for (ColumnResolver.Hop hop : resolved.hops) {
+            tables.add(hop.table);
+            joinedOn.computeIfAbsent(hop.table, t -> new LinkedHashSet<>()).addAll(hop.columns);
+        }
+    }
+
+    // Column lists of every index per table, primary key included
+    private Map<String, List<List<String>>> existingIndexes(Set<String> tables) throws SQLException {
+        Map<String, List<List<String>>> indexes = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : tables) {
+                TreeMap<Short, String> primaryKey = new TreeMap<>();
+                try (ResultSet rs = metaData.getPrimaryKeys(connection.getCatalog(), connection.getSchema(), table)) {
+                    while (rs.next()) {
+                        primaryKey.put(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME"));
+                    }
+                }
+                Map<String, TreeMap<Short, String>> columnsByIndex = new LinkedHashMap<>();
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+                    while (rs.next()) {
+                        String name = rs.getString("INDEX_NAME");
+                        String column = rs.getString("COLUMN_NAME");
+                        if (name != null && column != null) {
+                            columnsByIndex.computeIfAbsent(name, n -> new TreeMap<>()).put(rs.getShort("ORDINAL_POSITION"), column);
+                        }
+                    }
+                }
+                List<List<String>> tableIndexes = new ArrayList<>();
+                for (TreeMap<Short, String> columns : columnsByIndex.values()) {
+                    List<String> indexColumns = new ArrayList<>(columns.values());
+                    if (implicitPrimaryKey) {
+                        primaryKey.values().stream()
+                            .filter(pk -> indexColumns.stream().noneMatch(pk::equalsIgnoreCase))
+                            .forEach(indexColumns::add);
+                    }
+                    tableIndexes.add(indexColumns);
+                }
+                indexes.put(table, tableIndexes);
+            }
+        }
+        return indexes;
+    }
+
+    private static void writeDdl(List<IndexAdvice> missing, Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("-- Indexes for repository query methods, generated by IndexAdvisor");
+        for (IndexAdvice advice : missing) {
+            lines.add("");
+            lines.add("-- " + String.join(", ", advice.getSources()));
+            lines.add(advice.toDdl());
+        }
+        Files.write(path, lines);
+    }
+}
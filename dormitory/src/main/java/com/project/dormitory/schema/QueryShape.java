@@ -0,0 +1,251 @@
+package com.project.dormitory.schema;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * What a repository query method filters, joins and sorts on, as attribute paths from
+ * its root entity (e.g. "student.room.dormitory.id"). Only predicates an index can
+ * serve are kept: equality, IS NULL and IN as equality; comparisons, BETWEEN and prefix
+ * LIKE as range. Disjunctions, infix LIKE and negations are left out, as are dynamic
+ * Sort and Pageable arguments.
+ */
+final class QueryShape {
+
+    enum Kind { EQUALITY, RANGE }
+
+    static final class Predicate {
+        final String path;
+        final Kind kind;
+
+        Predicate(String path, Kind kind) {
+            this.path = path;
+            this.kind = kind;
+        }
+    }
+
+    private static final Pattern ROOT = Pattern.compile(
+        "\\b(?:FROM|UPDATE)\\s+(\\w+)\\s+(?:AS\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern JOIN = Pattern.compile(
+        "\\bJOIN\\s+(?:FETCH\\s+)?(\\w+)\\.(\\w+)\\s+(?:AS\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHERE = Pattern.compile(
+        "\\bWHERE\\b(.*?)(?:\\bGROUP\\s+BY\\b|\\bORDER\\s+BY\\b|$)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\b(.*)$", Pattern.CASE_INSENSITIVE);
+
+    private static final String PATH = "(\\w+(?:\\.\\w+)+)";
+    private static final Pattern EQUALS = Pattern.compile(
+        "^" + PATH + "\\s*(?:=\\s*:\\w+|IN\\s*\\(.*\\)|IN\\s+:\\w+|IS\\s+NULL)$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EQUALS_REVERSED = Pattern.compile("^:\\w+\\s*=\\s*" + PATH + "$");
+    private static final Pattern RANGE = Pattern.compile(
+        "^" + PATH + "\\s*(?:(?:<=|>=|<|>)\\s*:\\w+|BETWEEN\\s+.+|LIKE\\s+CONCAT\\(\\s*:\\w+\\s*,\\s*'%'\\s*\\))$",
+        Pattern.CASE_INSENSITIVE);
+    private static final Pattern ORDER_ITEM = Pattern.compile("^" + PATH + "(?:\\s+(?:ASC|DESC))?$",
+        Pattern.CASE_INSENSITIVE);
+
+    final String source;
+    final Class<?> entity;
+    final List<Predicate> predicates = new ArrayList<>();
+    final List<String> joins = new ArrayList<>();
+    final List<String> orders = new ArrayList<>();
+
+    private QueryShape(String source, Class<?> entity) {
+        this.source = source;
+        this.entity = entity;
+    }
+
+    static QueryShape fromMethodName(Method method, Class<?> entity) {
+        QueryShape shape = new QueryShape(sourceOf(method), entity);
+        PartTree tree = new PartTree(method.getName(), entity);
+        Iterator<PartTree.OrPart> orParts = tree.iterator();
+        PartTree.OrPart first = orParts.hasNext() ? orParts.next() : null;
+        if (first != null && !orParts.hasNext()) {
+            for (Part part : first) {
+                Kind kind = kindOf(part.getType());
+                if (kind != null) {
+                    shape.predicates.add(new Predicate(part.getProperty().toDotPath(), kind));
+                }
+            }
+        }
+        for (Sort.Order order : tree.getSort()) {
+            shape.orders.add(order.getProperty());
+        }
+        return shape;
+    }
+
+    static QueryShape fromJpql(Method method, Class<?> entity, String jpql) {
+        QueryShape shape = new QueryShape(sourceOf(method), entity);
+        String query = jpql.replaceAll("\\s+", " ").trim();
+
+        Matcher root = ROOT.matcher(query);
+        if (!root.find()) {
+            return shape;
+        }
+        Map<String, String> aliases = new HashMap<>();
+        aliases.put(root.group(2), "");
+        Matcher join = JOIN.matcher(query);
+        while (join.find()) {
+            String parent = aliases.get(join.group(1));
+            if (parent != null) {
+                String path = parent.isEmpty() ? join.group(2) : parent + "." + join.group(2);
+                aliases.put(join.group(3), path);
+                shape.joins.add(path);
+            }
+        }
+
+        Matcher where = WHERE.matcher(query);
+        if (where.find()) {
+            for (String conjunct : conjuncts(where.group(1))) {
+                shape.addPredicate(conjunct, aliases);
+            }
+        }
+        Matcher orderBy = ORDER_BY.matcher(query);
+        if (orderBy.find()) {
+            for (String item : orderBy.group(1).split(",")) {
+                Matcher order = ORDER_ITEM.matcher(item.trim());
+                if (order.matches()) {
+                    String path = resolve(order.group(1), aliases);
+                    if (path != null) {
+                        shape.orders.add(path);
+                    }
+                }
+            }
+        }
+        return shape;
+    }
+
+    private void addPredicate(String conjunct, Map<String, String> aliases) {
+        String condition = unwrap(conjunct.trim());
+        if (hasTopLevel(condition, "OR")) {
+            return;
+        }
+        Matcher matcher;
+        Kind kind;
+        if ((matcher = EQUALS.matcher(condition)).matches() || (matcher = EQUALS_REVERSED.matcher(condition)).matches()) {
+            kind = Kind.EQUALITY;
+        } else if ((matcher = RANGE.matcher(condition)).matches()) {
+            kind = Kind.RANGE;
+        } else {
+            return;
+        }
+        String path = resolve(matcher.group(1), aliases);
+        if (path != null) {
+            predicates.add(new Predicate(path, kind));
+        }
+    }
+
+    // "r.dormitory.id" with r -> "student.room" gives "student.room.dormitory.id"
+    private static String resolve(String aliasedPath, Map<String, String> aliases) {
+        int dot = aliasedPath.indexOf('.');
+        String base = aliases.get(aliasedPath.substring(0, dot));
+        if (base == null) {
+            return null;
+        }
+        String rest = aliasedPath.substring(dot + 1);
+        return base.isEmpty() ? rest : base + "." + rest;
+    }
+
+    // Splits on top-level AND, keeping BETWEEN x AND y together
+    private static List<String> conjuncts(String where) {
+        List<String> conjuncts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        boolean between = false;
+        String upper = where.toUpperCase();
+        for (int i = 0; i < where.length(); i++) {
+            char c = where.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && isKeywordAt(upper, i, "BETWEEN")) {
+                between = true;
+            } else if (depth == 0 && isKeywordAt(upper, i, "AND")) {
+                if (between) {
+                    between = false;
+                } else {
+                    conjuncts.add(where.substring(start, i));
+                    start = i + 3;
+                }
+            }
+        }
+        conjuncts.add(where.substring(start));
+        return conjuncts;
+    }
+
+    private static String unwrap(String condition) {
+        while (condition.startsWith("(") && closingParen(condition) == condition.length() - 1) {
+            condition = condition.substring(1, condition.length() - 1).trim();
+        }
+        return condition;
+    }
+
+    private static int closingParen(String text) {
+        int depth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '(') {
+                depth++;
+            } else if (text.charAt(i) == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasTopLevel(String condition, String keyword) {
+        String upper = condition.toUpperCase();
+        int depth = 0;
+        for (int i = 0; i < condition.length(); i++) {
+            char c = condition.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && isKeywordAt(upper, i, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isKeywordAt(String upper, int i, String keyword) {
+        return upper.startsWith(keyword, i)
+            && (i == 0 || !Character.isLetterOrDigit(upper.charAt(i - 1)))
+            && (i + keyword.length() == upper.length() || !Character.isLetterOrDigit(upper.charAt(i + keyword.length())));
+    }
+
+    private static Kind kindOf(Part.Type type) {
+        switch (type) {
+            case SIMPLE_PROPERTY:
+            case IS_NULL:
+            case IN:
+            case TRUE:
+            case FALSE:
+                return Kind.EQUALITY;
+            case LESS_THAN:
+            case LESS_THAN_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_EQUAL:
+            case BEFORE:
+            case AFTER:
+            case BETWEEN:
+            case STARTING_WITH:
+                return Kind.RANGE;
+            default:
+                return null;
+        }
+    }
+
+    private static String sourceOf(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
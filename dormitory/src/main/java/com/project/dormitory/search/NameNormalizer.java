@@ -0,0 +1,52 @@
+package com.project.dormitory.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a name into search tokens: accents stripped, lower-cased, split on anything
+ * that is not a letter or digit. "José  Smith-Ortega" becomes [jose, smith, ortega].
+ */
+public final class NameNormalizer {
+
+    private static final String[] NO_TOKENS = new String[0];
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NameNormalizer() {}
+
+    public static String[] tokens(String text) {
+        if (text == null || text.isBlank()) {
+            return NO_TOKENS;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD);
+        folded = COMBINING_MARKS.matcher(folded).replaceAll("").toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(folded))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Whether every query token prefixes some token of the name, the match StudentNameIndex
+     * answers. queryTokens come from tokens().
+     */
+    public static boolean matches(String[] queryTokens, String name) {
+        String[] nameTokens = tokens(name);
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String nameToken : nameTokens) {
+                if (nameToken.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,266 @@
+package com.project.dormitory.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.project.dormitory.repository.StudentRepo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory token prefix index over student names.
+ * "jo sm" matches "John Smith": every query token must prefix some token of the name.
+ * Only ids are kept here; callers hydrate the students in one batch fetch.
+ *
+ * A rebuild reads every name without blocking writers: puts and removes made meanwhile
+ * are queued and replayed on top of what was read. Past dormitory.name-index.max-bytes
+ * the index empties itself, searches go to the database, and another rebuild is tried
+ * after dormitory.name-index.retry-ms.
+ */
+@Component
+public class StudentNameIndex implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentNameIndex.class);
+
+    // Rough per-entry costs used for the memory estimate
+    private static final long TOKEN_OVERHEAD_BYTES = 96;
+    private static final long POSTING_BYTES = 48;
+
+    private final StudentRepo studentRepository;
+    private final long maxBytes;
+    private final long retryMillis;
+    private final ScheduledExecutorService retries;
+
+    private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, String[]> tokensById = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    // False until the first load finishes, or after the memory budget is exceeded
+    private volatile boolean available;
+    // Writes made while a rebuild reads the table, null when none is running
+    private List<Write> pendingWrites;
+    private boolean retryScheduled;
+
+    public StudentNameIndex(StudentRepo studentRepository, MeterRegistry meterRegistry,
+                            @Value("${dormitory.name-index.max-bytes:16777216}") long maxBytes,
+                            @Value("${dormitory.name-index.retry-ms:600000}") long retryMillis) {
+        this.studentRepository = studentRepository;
+        this.maxBytes = maxBytes;
+        this.retryMillis = retryMillis;
+        this.retries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "name-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("student.name.index.bytes", estimatedBytes, AtomicLong::get)
+                .description("Estimated heap used by the student name index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("student.name.index.budget", () -> maxBytes)
+                .description("Configured memory budget of the student name index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("student.name.index.entries", tokensById, Map::size)
+                .description("Students in the name index")
+                .register(meterRegistry);
+        Gauge.builder("student.name.index.available", this, index -> index.available ? 1 : 0)
+                .description("1 when searches are served from the index, 0 when they fall back to SQL")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            if (pendingWrites != null) {
+                return;
+            }
+            available = false;
+            clear();
+            pendingWrites = new ArrayList<>();
+        }
+        // Writers only queue while this runs, so the maps are ours until the replay
+        boolean fits = true;
+        try {
+            for (Object[] row : studentRepository.findAllIdAndName()) {
+                if (!index((Long) row[0], (String) row[1])) {
+                    fits = false;
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not load student names, searches use the database until a retry", e);
+            fits = false;
+        }
+        synchronized (this) {
+            // The read may have missed these, or seen a name they changed since
+            for (Write write : pendingWrites) {
+                if (!fits) {
+                    break;
+                }
+                if (write.name() == null) {
+                    unindex(write.studentId());
+                } else {
+                    fits = index(write.studentId(), write.name());
+                }
+            }
+            pendingWrites = null;
+            available = fits;
+            if (!fits) {
+                clear();
+                scheduleRetry();
+            }
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Adds the student or re-indexes it if the name changed.
+     */
+    public synchronized void put(Long studentId, String name) {
+        if (pendingWrites != null) {
+            pendingWrites.add(new Write(studentId, name));
+        } else if (available && !index(studentId, name)) {
+            available = false;
+            scheduleRetry();
+        }
+    }
+
+    public synchronized void remove(Long studentId) {
+        if (pendingWrites != null) {
+            pendingWrites.add(new Write(studentId, null));
+        } else {
+            unindex(studentId);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        retries.shutdownNow();
+    }
+
+    /**
+     * Returns ids of students whose name matches every token of the query, in id order.
+     */
+    public List<Long> search(String query, int limit) {
+        String[] queryTokens = NameNormalizer.tokens(query);
+        if (queryTokens.length == 0) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> matches = null;
+        for (String queryToken : queryTokens) {
+            Set<Long> tokenMatches = new HashSet<>();
+            // Every indexed token starting with queryToken sorts before queryToken + MAX_VALUE
+            String upper = queryToken + Character.MAX_VALUE;
+            for (Set<Long> ids : postings.subMap(queryToken, true, upper, false).values()) {
+                tokenMatches.addAll(ids);
+            }
+            if (matches == null) {
+                matches = tokenMatches;
+            } else {
+                matches.retainAll(tokenMatches);
+            }
+            if (matches.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(matches);
+        Collections.sort(ids);
+        return ids.size() > limit ? ids.subList(0, limit) : ids;
+    }
+
+    // Returns false, leaving the index empty, when the memory budget is exceeded
+    private boolean index(Long studentId, String name) {
+        String[] tokens = NameNormalizer.tokens(name);
+        String[] previous = tokensById.put(studentId, tokens);
+        if (previous != null) {
+            for (String token : previous) {
+                removePosting(token, studentId);
+            }
+        }
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, t -> {
+                estimatedBytes.addAndGet(TOKEN_OVERHEAD_BYTES + 2L * t.length());
+                return ConcurrentHashMap.newKeySet();
+            }).add(studentId);
+            estimatedBytes.addAndGet(POSTING_BYTES);
+        }
+
+        if (estimatedBytes.get() > maxBytes) {
+            // Over budget: drop everything and let searches go back to the database
+            clear();
+            return false;
+        }
+        return true;
+    }
+
+    private void unindex(Long studentId) {
+        String[] previous = tokensById.remove(studentId);
+        if (previous != null) {
+            for (String token : previous) {
+                removePosting(token, studentId);
+            }
+        }
+    }
+
+    // Called holding the lock; the table may have shrunk by then, or the budget been raised
+    private void scheduleRetry() {
+        if (retryScheduled) {
+            return;
+        }
+        retryScheduled = true;
+        log.warn("Student name index is unavailable (budget {} bytes), searching in the database for the next {} ms",
+            maxBytes, retryMillis);
+        retries.schedule(() -> {
+            synchronized (this) {
+                retryScheduled = false;
+            }
+            rebuild();
+        }, retryMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void clear() {
+        postings.clear();
+        tokensById.clear();
+        estimatedBytes.set(0);
+    }
+
+    private void removePosting(String token, Long studentId) {
+        Set<Long> ids = postings.get(token);
+        if (ids != null && ids.remove(studentId)) {
+            estimatedBytes.addAndGet(-POSTING_BYTES);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+                estimatedBytes.addAndGet(-(TOKEN_OVERHEAD_BYTES + 2L * token.length()));
+            }
+        }
+    }
+
+    // A queued put, or a remove when name is null
+    private record Write(Long studentId, String name) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.dormitory.search;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.dormitory.model.Student;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps StudentNameIndex in step with Student writes made through JPA.
+ * Changes are applied after commit so a rolled back rename never reaches the index.
+ */
+@Component
+public class StudentNameIndexListener {
+
+    // Resolved lazily, Hibernate creates this listener while the repositories are still being built;
+    // absent in JPA test slices, which then skip the index
+    private final ObjectProvider<StudentNameIndex> nameIndex;
+
+    public StudentNameIndexListener(ObjectProvider<StudentNameIndex> nameIndex) {
+        this.nameIndex = nameIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Student student) {
+        Long id = student.getId();
+        String name = student.getName();
+        afterCommit(() -> nameIndex.ifAvailable(index -> index.put(id, name)));
+    }
+
+    @PostRemove
+    public void onRemove(Student student) {
+        Long id = student.getId();
+        afterCommit(() -> nameIndex.ifAvailable(index -> index.remove(id)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,171 @@
+package com.project.dormitory.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password checks on a small bounded pool so a login storm can't tie up every
+ * request thread with BCrypt. The queue holds only a couple of checks per pool thread,
+ * so a request waits a few BCrypt rounds at most (and never past
+ * dormitory.login.verify-timeout-ms); beyond that LoginOverloadedException answers the
+ * client with a retry right away.
+ *
+ * Successful checks are remembered for a short time as a salted SHA-256 fingerprint of
+ * (stored hash, password), so a client that logs in again right away skips BCrypt.
+ * The fingerprint covers the stored hash, so a password change invalidates it.
+ */
+@Component
+public class CredentialVerifier implements DisposableBean {
+
+    private static final class Verified {
+        final byte[] fingerprint;
+        final long expiresAt;
+
+        Verified(byte[] fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final PasswordHasher passwordHasher;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long cacheTtlMillis;
+    private final int cacheMaxEntries;
+
+    private final byte[] salt = new byte[16];
+    private final Map<String, Verified> verified = new ConcurrentHashMap<>();
+
+    public CredentialVerifier(PasswordHasher passwordHasher,
+                              @Value("${dormitory.login.verify-threads:0}") int threads,
+                              @Value("${dormitory.login.verify-queue:0}") int queueSize,
+                              @Value("${dormitory.login.verify-timeout-ms:500}") long timeoutMillis,
+                              @Value("${dormitory.login.cache-ttl-seconds:300}") long cacheTtlSeconds,
+                              @Value("${dormitory.login.cache-max-entries:20000}") int cacheMaxEntries) {
+        this.passwordHasher = passwordHasher;
+        this.timeoutMillis = timeoutMillis;
+        this.cacheTtlMillis = cacheTtlSeconds * 1000;
+        this.cacheMaxEntries = cacheMaxEntries;
+        new SecureRandom().nextBytes(salt);
+
+        // BCrypt is pure CPU, more threads than cores only adds contention
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // Every queued check is a request thread waiting, so only a short backlog is kept
+        int queueCapacity = queueSize > 0 ? queueSize : poolSize * 2;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "login-verify-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Checks rawPassword against the stored password of the account identified by key.
+     */
+    public boolean verify(String key, String rawPassword, String stored) {
+        if (rawPassword == null || stored == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        byte[] fingerprint = fingerprint(rawPassword, stored);
+        Verified cached = verified.get(key);
+        if (cached != null && cached.expiresAt > now && MessageDigest.isEqual(cached.fingerprint, fingerprint)) {
+            return true;
+        }
+
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> passwordHasher.matches(rawPassword, stored));
+        } catch (RejectedExecutionException e) {
+            throw new LoginOverloadedException("Too many logins in progress, please retry shortly");
+        }
+
+        boolean matches;
+        try {
+            matches = result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new LoginOverloadedException("Login verification timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoginOverloadedException("Login verification was interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+
+        if (matches) {
+            remember(key, fingerprint, now);
+        }
+        return matches;
+    }
+
+    /**
+     * Hashes a password on the pool for rehash-on-login, or returns null when the pool
+     * is busy; the migration simply happens on a later login.
+     */
+    public String hashIfIdle(String rawPassword) {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            return null;
+        }
+        try {
+            return executor.submit(() -> passwordHasher.hash(rawPassword)).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException | TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    public void forget(String key) {
+        verified.remove(key);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void remember(String key, byte[] fingerprint, long now) {
+        if (verified.size() >= cacheMaxEntries) {
+            verified.values().removeIf(entry -> entry.expiresAt <= now);
+            if (verified.size() >= cacheMaxEntries) {
+                return;
+            }
+        }
+        verified.put(key, new Verified(fingerprint, now + cacheTtlMillis));
+    }
+
+    private byte[] fingerprint(String rawPassword, String stored) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            digest.update(stored.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(rawPassword.getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.dormitory.security;
+
+/**
+ * Thrown when the password verification pool is saturated.
+ * Mapped to 503 with Retry-After by AuthController.
+ */
+public class LoginOverloadedException extends RuntimeException {
+
+    public LoginOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.dormitory.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt password hashing that still accepts the plaintext passwords stored before
+ * hashing was introduced. needsRehash tells the caller to replace such a password
+ * (or a hash made with a lower cost) after a successful login.
+ */
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+
+    public PasswordHasher(@Value("${dormitory.password.bcrypt-strength:10}") int strength) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+    }
+
+    public String hash(String rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    public boolean matches(String rawPassword, String stored) {
+        if (rawPassword == null || stored == null) {
+            return false;
+        }
+        if (isHashed(stored)) {
+            return encoder.matches(rawPassword, stored);
+        }
+        // Legacy plaintext row, compare in constant time
+        return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                                     stored.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean needsRehash(String stored) {
+        return !isHashed(stored) || encoder.upgradeEncoding(stored);
+    }
+
+    public static boolean isHashed(String stored) {
+        return stored != null
+            && (stored.startsWith("$2a$") || stored.startsWith("$2b$") || stored.startsWith("$2y$"));
+    }
+}
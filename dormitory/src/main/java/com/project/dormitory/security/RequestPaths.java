@@ -0,0 +1,24 @@
+package com.project.dormitory.security;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UrlPathHelper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * The path a request is routed on, for filters that pick requests by path prefix.
+ *
+ * Spring MVC matches handlers on the decoded path without ;parameters, so a filter
+ * reading the raw getRequestURI() could be skipped by /api/%6Danager/... or
+ * /api/manager;x=1/... while the controller still answers. This decodes, drops
+ * ;parameters and doubled slashes and resolves . and .. segments the same way.
+ */
+public final class RequestPaths {
+
+    private RequestPaths() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        return StringUtils.cleanPath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.dormitory.security;
+
+/**
+ * The verified content of a session token.
+ */
+public class SessionPrincipal {
+
+    public static final String STUDENT = "student";
+    public static final String MANAGER = "manager";
+
+    private final long userId;
+    private final String role;
+    private final Long dormitoryId; // only set for managers
+
+    public SessionPrincipal(long userId, String role, Long dormitoryId) {
+        this.userId = userId;
+        this.role = role;
+        this.dormitoryId = dormitoryId;
+    }
+
+    public long getUserId() { return userId; }
+    public String getRole() { return role; }
+    public Long getDormitoryId() { return dormitoryId; }
+
+    public boolean isManager() { return MANAGER.equals(role); }
+}
@@ -0,0 +1,93 @@
+package com.project.dormitory.security;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Verifies the Bearer session token on /api/student, /api/manager and /api/import,
+ * and checks that the id in the path belongs to the caller. Paths are matched the way
+ * Spring MVC routes them (see RequestPaths), so an encoded path can't slip past. The
+ * verified principal is stored as the request attribute PRINCIPAL, so controllers get
+ * the manager's dormitory id without going to the database.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    public static final String PRINCIPAL = "sessionPrincipal";
+
+    private static final String BEARER = "Bearer ";
+    private static final String STUDENT_PREFIX = "/api/student/";
+    private static final String MANAGER_PREFIX = "/api/manager/";
+    private static final String IMPORT_PREFIX = "/api/import/";
+
+    private final SessionTokenService tokenService;
+
+    public SessionTokenFilter(SessionTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = RequestPaths.of(request);
+        return "OPTIONS".equals(request.getMethod())
+            || !(path.startsWith(STUDENT_PREFIX) || path.startsWith(MANAGER_PREFIX) || path.startsWith(IMPORT_PREFIX));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        SessionPrincipal principal = header != null && header.startsWith(BEARER)
+            ? tokenService.verify(header.subSequence(BEARER.length(), header.length()))
+            : null;
+        if (principal == null) {
+            response.sendError(HttpStatus.UNAUTHORIZED.value(), "Missing or invalid session token");
+            return;
+        }
+
+        String path = RequestPaths.of(request);
+        boolean allowed;
+        if (path.startsWith(STUDENT_PREFIX)) {
+            allowed = !principal.isManager() && pathIdMatches(path, STUDENT_PREFIX.length(), principal.getUserId());
+        } else if (path.startsWith(MANAGER_PREFIX)) {
+            allowed = principal.isManager() && pathIdMatches(path, MANAGER_PREFIX.length(), principal.getUserId());
+        } else {
+            allowed = principal.isManager();
+        }
+        if (!allowed) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Session does not grant access to this resource");
+            return;
+        }
+
+        request.setAttribute(PRINCIPAL, principal);
+        chain.doFilter(request, response);
+    }
+
+    // Compares the {id} segment right after the prefix without building a substring
+    private static boolean pathIdMatches(String path, int start, long userId) {
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        if (end == start) {
+            return false;
+        }
+        try {
+            return Long.parseLong(path, start, end, 10) == userId;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
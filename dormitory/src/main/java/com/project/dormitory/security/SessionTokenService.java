@@ -0,0 +1,168 @@
+package com.project.dormitory.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues and verifies compact HMAC-SHA256 session tokens:
+ *
+ *   role.userId.dormitoryId.expiresAt.signature
+ *
+ * role is "s" or "m", dormitoryId is 0 for students, expiresAt is in epoch seconds and the
+ * signature is unpadded base64url over everything before the last dot. Verification parses
+ * the token in place and reuses per-thread buffers, so the only allocation is the principal.
+ */
+@Component
+public class SessionTokenService {
+    private static final Logger log = LoggerFactory.getLogger(SessionTokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 32;
+    private static final int SIGNATURE_CHARS = 43; // unpadded base64 of 32 bytes
+    private static final int[] BASE64URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<byte[]> expectedSignature = ThreadLocal.withInitial(() -> new byte[SIGNATURE_BYTES]);
+    private final ThreadLocal<byte[]> givenSignature = ThreadLocal.withInitial(() -> new byte[SIGNATURE_BYTES]);
+
+    public SessionTokenService(@Value("${dormitory.token.secret:}") String secret,
+                               @Value("${dormitory.token.ttl-hours:12}") long ttlHours) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            log.warn("dormitory.token.secret is not set, using a random key; sessions will not survive a restart");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret.trim());
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttlSeconds = ttlHours * 3600;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issue(long userId, String role, Long dormitoryId) {
+        long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+        String payload = (SessionPrincipal.MANAGER.equals(role) ? "m" : "s") + "." + userId + "."
+            + (dormitoryId != null ? dormitoryId : 0) + "." + expiresAt;
+        byte[] signature = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    /**
+     * Returns the principal for a valid, unexpired token, or null.
+     */
+    public SessionPrincipal verify(CharSequence token) {
+        if (token == null || token.length() < 2 || token.charAt(1) != '.') {
+            return null;
+        }
+        char role = token.charAt(0);
+        if (role != 's' && role != 'm') {
+            return null;
+        }
+        int userEnd = indexOf(token, '.', 2);
+        int dormEnd = indexOf(token, '.', userEnd + 1);
+        int expEnd = indexOf(token, '.', dormEnd + 1);
+        if (userEnd < 0 || dormEnd < 0 || expEnd < 0 || token.length() - expEnd - 1 != SIGNATURE_CHARS) {
+            return null;
+        }
+
+        long userId;
+        long dormitoryId;
+        long expiresAt;
+        try {
+            userId = Long.parseLong(token, 2, userEnd, 10);
+            dormitoryId = Long.parseLong(token, userEnd + 1, dormEnd, 10);
+            expiresAt = Long.parseLong(token, dormEnd + 1, expEnd, 10);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        // Everything before the signature is ASCII by now, feed it to the MAC char by char
+        Mac mac = macs.get();
+        for (int i = 0; i < expEnd; i++) {
+            mac.update((byte) token.charAt(i));
+        }
+        byte[] expected = expectedSignature.get();
+        try {
+            mac.doFinal(expected, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] given = givenSignature.get();
+        if (!decodeSignature(token, expEnd + 1, given) || !MessageDigest.isEqual(expected, given)) {
+            return null;
+        }
+        if (expiresAt < System.currentTimeMillis() / 1000) {
+            return null;
+        }
+
+        return role == 'm'
+            ? new SessionPrincipal(userId, SessionPrincipal.MANAGER, dormitoryId != 0 ? dormitoryId : null)
+            : new SessionPrincipal(userId, SessionPrincipal.STUDENT, null);
+    }
+
+    private static int indexOf(CharSequence s, char c, int from) {
+        for (int i = from; i < s.length(); i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Decodes 43 unpadded base64url chars into 32 bytes
+    private static boolean decodeSignature(CharSequence s, int start, byte[] out) {
+        int bits = 0;
+        int bitCount = 0;
+        int o = 0;
+        for (int i = start; i < s.length(); i++) {
+            char c = s.charAt(i);
+            int v = c < 128 ? BASE64URL[c] : -1;
+            if (v < 0) {
+                return false;
+            }
+            bits = (bits << 6) | v;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                if (o < out.length) {
+                    out[o++] = (byte) (bits >> bitCount);
+                }
+            }
+        }
+        return o == out.length;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
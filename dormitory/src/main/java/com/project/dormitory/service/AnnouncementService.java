@@ -2,18 +2,25 @@ package com.project.dormitory.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.project.dormitory.events.AnnouncementChanged;
+import com.project.dormitory.events.DomainEventBus;
+import com.project.dormitory.fields.FieldSet;
+import com.project.dormitory.fields.SparseFieldQuery;
 import com.project.dormitory.model.Announcement;
+import com.project.dormitory.model.AnnouncementDto;
 import com.project.dormitory.model.DormitoryManager;
 import com.project.dormitory.repository.AnnouncementRepo;
 import com.project.dormitory.repository.DormitoryManagerRepo;
 
-import jakarta.transaction.Transactional;
-
 @Service
 public class AnnouncementService {
     @Autowired
@@ -21,15 +28,35 @@ public class AnnouncementService {
     
     @Autowired
     private DormitoryManagerRepo dormitoryManagerRepository;
+
+    @Autowired
+    private SparseFieldQuery sparseFieldQuery;
+
+    @Autowired
+    private DomainEventBus eventBus;
+
+    // ?fields= of the announcement lists, named like Announcement and AnnouncementDto
+    public static final FieldSet<Announcement> ANNOUNCEMENT_FIELDS = FieldSet.of(Announcement.class)
+        .field("id").field("title").field("description").field("dateTime");
     
+    @Transactional(readOnly = true)
     public List<Announcement> getAllAnnouncementsByManager(Long managerId) {
         return announcementRepository.findByManagerIdOrderByDateTimeDesc(managerId);
     }
     
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAnnouncementFieldsByManager(Long managerId, List<String> fields) {
+        return sparseFieldQuery.list(ANNOUNCEMENT_FIELDS, fields,
+            (announcement, query, cb) -> cb.equal(announcement.get("manager").get("id"), managerId),
+            Sort.by(Sort.Direction.DESC, "dateTime"));
+    }
+
+    @Transactional(readOnly = true)
     public List<Announcement> searchAnnouncementsByTitle(Long managerId, String keyword) {
         return announcementRepository.findByManagerIdAndTitleContainingOrderByDateTimeDesc(managerId, keyword);
     }
     
+    @Transactional(readOnly = true)
     public long getAnnouncementCount(Long managerId) {
         return announcementRepository.countByManagerId(managerId);
     }
@@ -42,7 +69,9 @@ public class AnnouncementService {
         announcement.setManager(manager);
         announcement.setDateTime(LocalDateTime.now());
         
-        return announcementRepository.save(announcement);
+        Announcement saved = announcementRepository.save(announcement);
+        eventBus.publish(new AnnouncementChanged(saved.getId(), managerId, false));
+        return saved;
     }
     
     @Transactional
@@ -54,7 +83,9 @@ public class AnnouncementService {
         announcement.setDescription(announcementDetails.getDescription());
         announcement.setDateTime(LocalDateTime.now());
         
-        return announcementRepository.save(announcement);
+        Announcement saved = announcementRepository.save(announcement);
+        eventBus.publish(new AnnouncementChanged(announcementId, saved.getManager().getId(), false));
+        return saved;
     }
     
     @Transactional
@@ -62,38 +93,61 @@ public class AnnouncementService {
         Announcement announcement = announcementRepository.findById(announcementId)
             .orElseThrow(() -> new RuntimeException("Announcement not found"));
         announcementRepository.delete(announcement);
+        eventBus.publish(new AnnouncementChanged(announcementId, announcement.getManager().getId(), true));
     }
     
     @Transactional
     public void deleteAllByManager(Long managerId) {
-        announcementRepository.deleteByManagerId(managerId);
+        for (Announcement announcement : announcementRepository.deleteByManagerId(managerId)) {
+            eventBus.publish(new AnnouncementChanged(announcement.getId(), managerId, true));
+        }
     }
     
     public AnnouncementService(AnnouncementRepo announcementRepository) {
         this.announcementRepository = announcementRepository;
     }
     
+    @Transactional(readOnly = true)
     public List<Announcement> getAllAnnouncements() {
         return announcementRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
     public List<Announcement> getRecentAnnouncements() {
         // Get recent announcements (last 10 or based on date)
         return announcementRepository.findTop5ByOrderByDateTimeDesc();
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAllAnnouncementsByDateAsc(){
         return announcementRepository.findAllByOrderByDateTimeAsc();
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAllAnnouncementsByDateDesc(){
         return announcementRepository.findAllByOrderByDateTimeDesc();
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getAllAnnouncementsByDormitory(Long dormId) {
         return announcementRepository.findByManagerDormitoryIdOrderByDateTimeDesc(dormId);
     }
     
+    // The stream holds a database cursor: consume it inside the caller's read-only transaction and close it
+    @Transactional(readOnly = true)
+    public Stream<AnnouncementDto> streamAnnouncementsByDormitory(Long dormId, Sort.Direction direction) {
+        return announcementRepository.streamDtosByDormitoryId(dormId, Sort.by(direction, "dateTime"));
+    }
+
+    @Transactional(readOnly = true)
+    public Stream<Map<String, Object>> streamAnnouncementFieldsByDormitory(Long dormId, Sort.Direction direction,
+                                                                           List<String> fields) {
+        return sparseFieldQuery.stream(ANNOUNCEMENT_FIELDS, fields,
+            (announcement, query, cb) -> cb.equal(announcement.join("manager").get("dormitory").get("id"), dormId),
+            Sort.by(direction, "dateTime"));
+    }
+
+    @Transactional(readOnly = true)
     public List<Announcement> getRecentAnnouncementsByDormitory(Long dormId) {
         List<Announcement> allAnnouncements = getAllAnnouncementsByDormitory(dormId);
         return allAnnouncements.stream()
@@ -101,6 +155,7 @@ public class AnnouncementService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<Announcement> getRecentAnnouncementsByManager(Long managerId) {
         return announcementRepository.findTop5ByManagerIdOrderByDateTimeDesc(managerId);
     }
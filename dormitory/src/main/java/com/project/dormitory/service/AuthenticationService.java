@@ -7,6 +7,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.project.dormitory.model.*;
 import com.project.dormitory.repository.DormitoryManagerRepo;
 import com.project.dormitory.repository.StudentRepo;
+import com.project.dormitory.security.CredentialVerifier;
+import com.project.dormitory.security.LoginOverloadedException;
+import com.project.dormitory.security.PasswordHasher;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenService;
 
 @Service
 public class AuthenticationService {
@@ -17,6 +22,15 @@ public class AuthenticationService {
     @Autowired
     private DormitoryManagerRepo managerRepository;
 
+    @Autowired
+    private SessionTokenService tokenService;
+
+    @Autowired
+    private CredentialVerifier credentialVerifier;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
         try {
             if ("student".equalsIgnoreCase(request.getUserType())) {
@@ -26,22 +40,29 @@ public class AuthenticationService {
             } else {
                 return new AuthenticationResponse(false, "Invalid user type");
             }
+        } catch (LoginOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             return new AuthenticationResponse(false, "Authentication failed: " + e.getMessage());
         }
     }
 
     private AuthenticationResponse authenticateStudent(AuthenticationRequest request) {
-        Student student = studentRepository.findById(request.getId()).orElse(null);
+        Student student = studentRepository.findLoginById(request.getId()).orElse(null);
         
         if (student == null) {
             return new AuthenticationResponse(false, "Student not found");
         }
         
-        // For now, using plain text comparison. In production, use password encoding!
-        if (student.getPassword() != null && student.getPassword().equals(request.getPassword())) {
-            return new AuthenticationResponse(true, "Login successful", 
+        if (credentialVerifier.verify("student:" + student.getId(), request.getPassword(), student.getPassword())) {
+            String rehashed = rehashIfNeeded(request.getPassword(), student.getPassword());
+            if (rehashed != null) {
+                studentRepository.updatePassword(student.getId(), rehashed);
+            }
+            AuthenticationResponse response = new AuthenticationResponse(true, "Login successful", 
                     student.getId(), "student", student.getName(), student.getEmail());
+            response.setToken(tokenService.issue(student.getId(), SessionPrincipal.STUDENT, null));
+            return response;
         } else {
             return new AuthenticationResponse(false, "Invalid password");
         }
@@ -54,12 +75,27 @@ public class AuthenticationService {
             return new AuthenticationResponse(false, "Manager not found");
         }
         
-        // For now, using plain text comparison. In production, use password encoding!
-        if (manager.getPassword() != null && manager.getPassword().equals(request.getPassword())) {
-            return new AuthenticationResponse(true, "Login successful", 
+        if (credentialVerifier.verify("manager:" + manager.getId(), request.getPassword(), manager.getPassword())) {
+            String rehashed = rehashIfNeeded(request.getPassword(), manager.getPassword());
+            if (rehashed != null) {
+                managerRepository.updatePassword(manager.getId(), rehashed);
+            }
+            AuthenticationResponse response = new AuthenticationResponse(true, "Login successful", 
                     manager.getId(), "manager", manager.getName(), manager.getEmail());
+            // The dormitory goes into the token so later requests don't have to look it up
+            Long dormId = manager.getDormitory() != null ? manager.getDormitory().getId() : null;
+            response.setToken(tokenService.issue(manager.getId(), SessionPrincipal.MANAGER, dormId));
+            return response;
         } else {
             return new AuthenticationResponse(false, "Invalid password");
         }
     }
-}
+
+    // Plaintext (or weaker) passwords are replaced by a fresh hash after a successful login
+    private String rehashIfNeeded(String rawPassword, String stored) {
+        if (!passwordHasher.needsRehash(stored)) {
+            return null;
+        }
+        return credentialVerifier.hashIfIdle(rawPassword);
+    }
+}
\ No newline at end of file
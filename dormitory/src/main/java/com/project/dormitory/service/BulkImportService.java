@@ -0,0 +1,252 @@
+package com.project.dormitory.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.dormitory.importer.CsvRows;
+import com.project.dormitory.importer.ImportType;
+import com.project.dormitory.importer.ImportType.Column;
+import com.project.dormitory.model.ImportCheckpoint;
+import com.project.dormitory.model.ImportReport;
+import com.project.dormitory.repository.ImportCheckpointRepo;
+import com.project.dormitory.search.StudentNameIndex;
+import com.project.dormitory.security.PasswordHasher;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Streams a CSV file into one table through JDBC batch inserts.
+ * Only one chunk of rows is held in memory at a time. Each chunk is committed together
+ * with the job's checkpoint, so running the same job id again resumes after the last
+ * committed line. Student passwords are stored as BCrypt hashes, like the ones set at
+ * login; a value that already is one is kept as it is.
+ */
+@Service
+public class BulkImportService {
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    // Keeps the report small no matter how broken the file is
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportCheckpointRepo checkpointRepository;
+    private final StudentNameIndex nameIndex;
+    private final StudentService studentService;
+    private final PasswordHasher passwordHasher;
+    private final SessionFactory sessionFactory;
+    private final int chunkSize;
+
+    private final Map<String, ImportReport> runningJobs = new ConcurrentHashMap<>();
+
+    public BulkImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             ImportCheckpointRepo checkpointRepository, StudentNameIndex nameIndex,
+                             StudentService studentService, PasswordHasher passwordHasher,
+                             EntityManagerFactory entityManagerFactory,
+                             @Value("${dormitory.import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.checkpointRepository = checkpointRepository;
+        this.nameIndex = nameIndex;
+        this.studentService = studentService;
+        this.passwordHasher = passwordHasher;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportReport importCsv(String jobId, ImportType type, Reader source) throws IOException {
+        String id = jobId != null && !jobId.isBlank() ? jobId : UUID.randomUUID().toString();
+        ImportCheckpoint checkpoint = checkpointRepository.findById(id).orElseGet(() -> newCheckpoint(id, type));
+        if (!checkpoint.getImportType().equals(type.name())) {
+            throw new IllegalArgumentException("Job " + id + " is a " + checkpoint.getImportType() + " import");
+        }
+
+        ImportReport report = new ImportReport(id, type.name());
+        report.setRowsImported(checkpoint.getRowsImported());
+        report.setRowsRejected(checkpoint.getRowsRejected());
+        if (checkpoint.isFinished()) {
+            report.setFinished(true);
+            return report;
+        }
+        if (runningJobs.putIfAbsent(id, report) != null) {
+            throw new IllegalStateException("Job " + id + " is already running");
+        }
+
+        try (BufferedReader reader = new BufferedReader(source)) {
+            run(type, reader, checkpoint, report);
+        } finally {
+            runningJobs.remove(id);
+        }
+        return report;
+    }
+
+    /**
+     * Progress of a job, live while it runs and from its checkpoint afterwards.
+     */
+    public ImportReport getProgress(String jobId) {
+        ImportReport running = runningJobs.get(jobId);
+        if (running != null) {
+            return running;
+        }
+        ImportCheckpoint checkpoint = checkpointRepository.findById(jobId)
+            .orElseThrow(() -> new RuntimeException("Import job " + jobId + " not found"));
+        ImportReport report = new ImportReport(jobId, checkpoint.getImportType());
+        report.setLinesRead(checkpoint.getLastLine());
+        report.setRowsImported(checkpoint.getRowsImported());
+        report.setRowsRejected(checkpoint.getRowsRejected());
+        report.setFinished(checkpoint.isFinished());
+        return report;
+    }
+
+    private void run(ImportType type, BufferedReader reader, ImportCheckpoint checkpoint, ImportReport report)
+            throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        List<Column> columns = CsvRows.columnsFromHeader(type, header);
+        String sql = type.insertSql(columns);
+
+        List<CsvRows.Row> chunk = new ArrayList<>(chunkSize);
+        long lineNo = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            report.setLinesRead(lineNo);
+            if (lineNo <= checkpoint.getLastLine()) {
+                report.setRowsSkipped(report.getRowsSkipped() + 1);
+                continue;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(CsvRows.parse(columns, lineNo, line));
+            } catch (IllegalArgumentException e) {
+                reject(report, lineNo, e.getMessage());
+                continue;
+            }
+            if (chunk.size() >= chunkSize) {
+                flush(type, sql, chunk, lineNo, checkpoint, report);
+                chunk.clear();
+            }
+        }
+        flush(type, sql, chunk, lineNo, checkpoint, report);
+
+        checkpoint.setFinished(true);
+        saveCheckpoint(checkpoint, report, lineNo);
+        report.setFinished(true);
+        if (type == ImportType.STUDENT) {
+            studentService.evictStudentsWithoutRoomCount();
+        }
+        log.info("Import {} finished: {} imported, {} rejected, {} skipped",
+            report.getJobId(), report.getRowsImported(), report.getRowsRejected(), report.getRowsSkipped());
+    }
+
+    private void flush(ImportType type, String sql, List<CsvRows.Row> chunk, long lastLine,
+                       ImportCheckpoint checkpoint, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        if (type == ImportType.STUDENT) {
+            // BCrypt is slow on purpose, so hash on every core and outside the transaction
+            chunk.parallelStream().forEach(row -> row.encodePasswords(this::hashPassword));
+        }
+        List<Object[]> args = new ArrayList<>(chunk.size());
+        for (CsvRows.Row row : chunk) {
+            args.add(row.getValues());
+        }
+
+        long imported = report.getRowsImported();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(sql, args);
+                report.setRowsImported(imported + chunk.size());
+                saveCheckpoint(checkpoint, report, lastLine);
+            });
+            afterInsert(type, chunk);
+        } catch (DataAccessException e) {
+            // Something in the chunk violated a constraint, retry row by row to find it
+            report.setRowsImported(imported);
+            for (CsvRows.Row row : chunk) {
+                insertOne(type, sql, row, checkpoint, report);
+            }
+        }
+        log.info("Import {}: line {}, {} imported, {} rejected",
+            report.getJobId(), lastLine, report.getRowsImported(), report.getRowsRejected());
+    }
+
+    private void insertOne(ImportType type, String sql, CsvRows.Row row,
+                           ImportCheckpoint checkpoint, ImportReport report) {
+        long imported = report.getRowsImported();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(sql, row.getValues());
+                report.setRowsImported(imported + 1);
+                saveCheckpoint(checkpoint, report, row.getLine());
+            });
+            afterInsert(type, List.of(row));
+        } catch (DataAccessException e) {
+            report.setRowsImported(imported);
+            reject(report, row.getLine(), e.getMostSpecificCause().getMessage());
+            transactionTemplate.executeWithoutResult(status -> saveCheckpoint(checkpoint, report, row.getLine()));
+        }
+    }
+
+    private void afterInsert(ImportType type, List<CsvRows.Row> rows) {
+        // Hibernate doesn't see these inserts, so cached query results would miss the new rows
+        sessionFactory.getCache().evictQueryRegions();
+        // JDBC inserts bypass the entity listener, so feed the name index here
+        if (type == ImportType.STUDENT) {
+            for (CsvRows.Row row : rows) {
+                nameIndex.put(row.getLong("id"), row.getString("name"));
+            }
+        }
+    }
+
+    private String hashPassword(String password) {
+        return PasswordHasher.isHashed(password) ? password : passwordHasher.hash(password);
+    }
+
+    private void reject(ImportReport report, long line, String message) {
+        report.setRowsRejected(report.getRowsRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new ImportReport.RowError(line, message));
+        }
+    }
+
+    private void saveCheckpoint(ImportCheckpoint checkpoint, ImportReport report, long lastLine) {
+        checkpoint.setLastLine(lastLine);
+        checkpoint.setRowsImported(report.getRowsImported());
+        checkpoint.setRowsRejected(report.getRowsRejected());
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+    }
+
+    private static ImportCheckpoint newCheckpoint(String jobId, ImportType type) {
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setJobId(jobId);
+        checkpoint.setImportType(type.name());
+        checkpoint.setLastLine(1L); // the header
+        checkpoint.setRowsImported(0L);
+        checkpoint.setRowsRejected(0L);
+        return checkpoint;
+    }
+}
@@ -2,55 +2,105 @@ package com.project.dormitory.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.project.dormitory.events.CheckInOutChanged;
+import com.project.dormitory.events.DomainEventBus;
+import com.project.dormitory.fields.FieldSet;
+import com.project.dormitory.fields.SparseFieldQuery;
 import com.project.dormitory.model.CheckInOut;
+import com.project.dormitory.model.CheckInOutDto;
+import com.project.dormitory.model.CheckInOutStatus;
+import com.project.dormitory.model.CheckInOutType;
 import com.project.dormitory.model.Student;
 import com.project.dormitory.repository.CheckInOutRepo;
 import com.project.dormitory.repository.StudentRepo;
 
 @Service
 public class CheckInOutService {
+    // ?fields= of a student's history, named like CheckInOut; the nested student only comes with the full list
+    public static final FieldSet<CheckInOut> CHECK_IN_OUT_FIELDS = FieldSet.of(CheckInOut.class)
+        .field("id").field("date").field("type").field("status");
+
+    // ?fields= of the manager's list, named like CheckInOutDto
+    public static final FieldSet<CheckInOut> CHECK_IN_OUT_DTO_FIELDS = FieldSet.of(CheckInOut.class)
+        .field("id").field("type").field("status").field("date")
+        .field("studentName", "student.name").field("roomNum", "student.room.roomNum");
+
     private final CheckInOutRepo checkInOutRepository;
     private final StudentRepo studentRepository;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final DomainEventBus eventBus;
     
-    public CheckInOutService(CheckInOutRepo checkInOutRepository, StudentRepo studentRepository) {
+    public CheckInOutService(CheckInOutRepo checkInOutRepository, StudentRepo studentRepository,
+                             SparseFieldQuery sparseFieldQuery, DomainEventBus eventBus) {
         this.checkInOutRepository = checkInOutRepository;
         this.studentRepository = studentRepository;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.eventBus = eventBus;
     }
     
+    @Transactional(readOnly = true)
     public List<CheckInOut> getActivitiesByStudentId(Long studentId) {
         return checkInOutRepository.findByStudentId(studentId);
     }
     
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getActivityFieldsByStudentId(Long studentId, List<String> fields) {
+        return sparseFieldQuery.list(CHECK_IN_OUT_FIELDS, fields,
+            (checkInOut, query, cb) -> cb.equal(checkInOut.get("student").get("id"), studentId), Sort.unsorted());
+    }
+
+    @Transactional(readOnly = true)
     public List<CheckInOut> getRecentActivitiesByStudentId(Long studentId) {
         // Get recent activities (last 10 or based on date)
         return checkInOutRepository.findTop5ByStudentIdOrderByDateDesc(studentId);
     }
     
-    public CheckInOut createCheckInOut(Long studentId, String type, LocalDate date) {
+    public CheckInOut createCheckInOut(Long studentId, CheckInOutType type, LocalDate date) {
         Student student = studentRepository.findById(studentId).orElse(null);
         if (student != null) {
             CheckInOut checkInOut = new CheckInOut();
             checkInOut.setStudent(student);
             checkInOut.setType(type);
             checkInOut.setDate(date);
-            checkInOut.setStatus("PENDING");
-            return checkInOutRepository.save(checkInOut);
+            checkInOut.setStatus(CheckInOutStatus.PENDING);
+            CheckInOut saved = checkInOutRepository.save(checkInOut);
+            eventBus.publish(new CheckInOutChanged(saved.getId(), studentId, saved.getStatus(), true));
+            return saved;
         }
         return null;
     }
 
+    @Transactional(readOnly = true)
     public Long getPendingRequestsCount() {
-    return (long) checkInOutRepository.findByStatusOrderByDateDesc("PENDING").size();
+        return checkInOutRepository.countByStatus(CheckInOutStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public List<CheckInOut> getCheckInOutRequests(Long dormId) {
         return checkInOutRepository.findByDormitoryId(dormId);
     }
 
+    // The stream holds a database cursor: consume it inside the caller's read-only transaction and close it
+    @Transactional(readOnly = true)
+    public Stream<CheckInOutDto> streamCheckInOutRequests(Long dormId) {
+        return checkInOutRepository.streamDtosByDormitoryId(dormId);
+    }
+
+    @Transactional(readOnly = true)
+    public Stream<Map<String, Object>> streamCheckInOutRequestFields(Long dormId, List<String> fields) {
+        return sparseFieldQuery.stream(CHECK_IN_OUT_DTO_FIELDS, fields,
+            (checkInOut, query, cb) -> cb.equal(checkInOut.join("student").join("room").get("dormitory").get("id"), dormId),
+            Sort.by(Sort.Direction.DESC, "date"));
+    }
+
+    @Transactional(readOnly = true)
     public List<CheckInOut> searchCheckInOutRequests(Long dormId, String searchTerm) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return getCheckInOutRequests(dormId);
@@ -58,24 +108,27 @@ public class CheckInOutService {
         return checkInOutRepository.searchByDormitoryId(dormId, searchTerm.trim());
     }
     
+    @Transactional(readOnly = true)
     public List<CheckInOut> getPendingRequests() {
-        return checkInOutRepository.findByStatusOrderByDateDesc("PENDING");
+        return checkInOutRepository.findByStatusOrderByDateDesc(CheckInOutStatus.PENDING);
     }
     
     @Transactional
     public void approveRequest(Long requestId) {
         CheckInOut request = checkInOutRepository.findById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found"));
-        request.setStatus("APPROVED");
+        request.setStatus(CheckInOutStatus.APPROVED);
         checkInOutRepository.save(request);
+        eventBus.publish(new CheckInOutChanged(requestId, request.getStudent().getId(), request.getStatus(), false));
     }
     
     @Transactional
     public void rejectRequest(Long requestId) {
         CheckInOut request = checkInOutRepository.findById(requestId)
             .orElseThrow(() -> new RuntimeException("Request not found"));
-        request.setStatus("REJECTED");
+        request.setStatus(CheckInOutStatus.REJECTED);
         checkInOutRepository.save(request);
+        eventBus.publish(new CheckInOutChanged(requestId, request.getStudent().getId(), request.getStatus(), false));
     }
 
 }
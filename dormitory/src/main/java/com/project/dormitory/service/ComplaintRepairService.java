@@ -2,36 +2,69 @@ package com.project.dormitory.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.project.dormitory.events.ComplaintChanged;
+import com.project.dormitory.events.DomainEventBus;
+import com.project.dormitory.fields.FieldSet;
+import com.project.dormitory.fields.SparseFieldQuery;
 import com.project.dormitory.model.ComplaintRepair;
+import com.project.dormitory.model.ComplaintStatus;
+import com.project.dormitory.model.PriorityLevel;
+import com.project.dormitory.model.ServiceType;
 import com.project.dormitory.model.Student;
 import com.project.dormitory.repository.ComplaintRepairRepo;
 import com.project.dormitory.repository.StudentRepo;
 
 @Service
 public class ComplaintRepairService {
+    // ?fields= of a student's history, named like ComplaintRepair
+    public static final FieldSet<ComplaintRepair> COMPLAINT_FIELDS = FieldSet.of(ComplaintRepair.class)
+        .field("id").field("description").field("serviceType").field("dateTime")
+        .field("priorityLvl").field("status");
+
+    // ?fields= of the manager's list, named like ComplaintRepairDto
+    public static final FieldSet<ComplaintRepair> COMPLAINT_DTO_FIELDS = FieldSet.of(ComplaintRepair.class)
+        .field("id").field("description").field("status").field("studentName", "student.name")
+        .field("studentId", "student.id").field("priorityLvl").field("type", "serviceType")
+        .field("roomNumber", "student.room.roomNum");
+
     private final ComplaintRepairRepo complaintRepairRepository;
     private final StudentRepo studentRepository;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final DomainEventBus eventBus;
     
     public ComplaintRepairService(ComplaintRepairRepo complaintRepairRepository, 
-                                StudentRepo studentRepository) {
+                                StudentRepo studentRepository, SparseFieldQuery sparseFieldQuery,
+                                DomainEventBus eventBus) {
         this.complaintRepairRepository = complaintRepairRepository;
         this.studentRepository = studentRepository;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.eventBus = eventBus;
     }
     
+    @Transactional(readOnly = true)
     public List<ComplaintRepair> getRequestsByStudentId(Long studentId) {
         return complaintRepairRepository.findByStudentId(studentId);
     }
     
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getRequestFieldsByStudentId(Long studentId, List<String> fields) {
+        return sparseFieldQuery.list(COMPLAINT_FIELDS, fields,
+            (complaint, query, cb) -> cb.equal(complaint.get("student").get("id"), studentId), Sort.unsorted());
+    }
+    
+    @Transactional(readOnly = true)
     public List<ComplaintRepair> getRecentRequestsByStudentId(Long studentId) {
         // Get recent requests (last 10 or based on date)
         return complaintRepairRepository.findTop5ByStudentIdOrderByDateTimeDesc(studentId);
     }
     
-    public ComplaintRepair createRequest(Long studentId, String description, String serviceType, String priorityLvl) {
+    public ComplaintRepair createRequest(Long studentId, String description, ServiceType serviceType, PriorityLevel priorityLvl) {
         Student student = studentRepository.findById(studentId).orElse(null);
         if (student != null) {
             ComplaintRepair complaintRepair = new ComplaintRepair();
@@ -39,32 +72,45 @@ public class ComplaintRepairService {
             complaintRepair.setServiceType(serviceType);
             complaintRepair.setDateTime(LocalDateTime.now());
             complaintRepair.setPriorityLvl(priorityLvl);
-            complaintRepair.setStatus("PENDING");
+            complaintRepair.setStatus(ComplaintStatus.PENDING);
             complaintRepair.setStudent(student);
             
-            return complaintRepairRepository.save(complaintRepair);
+            ComplaintRepair saved = complaintRepairRepository.save(complaintRepair);
+            eventBus.publish(new ComplaintChanged(saved.getId(), studentId, saved.getStatus(), true));
+            return saved;
         }
         return null;
     }
 
+    @Transactional(readOnly = true)
     public Long getPendingComplaintsCount() {
-    return (long) complaintRepairRepository.findByStatusOrderByDateTimeDesc("PENDING").size();
+        return complaintRepairRepository.countByStatus(ComplaintStatus.PENDING);
     }
 
+    @Transactional(readOnly = true)
     public List<ComplaintRepair> getComplaintsByDormitory(Long dormId) {
         return complaintRepairRepository.findByDormitoryId(dormId);
     }
     
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getComplaintFieldsByDormitory(Long dormId, List<String> fields) {
+        return sparseFieldQuery.list(COMPLAINT_DTO_FIELDS, fields,
+            (complaint, query, cb) -> cb.equal(complaint.join("student").join("room").get("dormitory").get("id"), dormId),
+            Sort.by(Sort.Direction.DESC, "dateTime"));
+    }
+
+    @Transactional(readOnly = true)
     public List<ComplaintRepair> getPendingComplaints() {
-        return complaintRepairRepository.findByStatusOrderByDateTimeDesc("PENDING");
+        return complaintRepairRepository.findByStatusOrderByDateTimeDesc(ComplaintStatus.PENDING);
     }
     
     @Transactional
-    public void updateComplaintStatus(Long complaintId, String status) {
+    public void updateComplaintStatus(Long complaintId, ComplaintStatus status) {
         ComplaintRepair complaint = complaintRepairRepository.findById(complaintId)
             .orElseThrow(() -> new RuntimeException("Complaint not found"));
         complaint.setStatus(status);
         complaintRepairRepository.save(complaint);
+        eventBus.publish(new ComplaintChanged(complaintId, complaint.getStudent().getId(), status, false));
     }
 
 
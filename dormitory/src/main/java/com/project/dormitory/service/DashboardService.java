@@ -3,6 +3,7 @@ package com.project.dormitory.service;
 import com.project.dormitory.model.*;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -22,8 +23,9 @@ public class DashboardService {
         this.announcementService = announcementService;
     }
 
+    @Transactional(readOnly = true)
     public DashboardResponse getStudentDashboard(long studentId) {
-        Student student = studentService.getStudentById(studentId);
+        Student student = studentService.getStudentWithRoom(studentId);
         if (student == null) {
             return null;
         }
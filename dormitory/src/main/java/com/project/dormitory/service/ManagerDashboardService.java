@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.project.dormitory.model.Announcement;
 import com.project.dormitory.model.ManagerDashboardResponse;
@@ -29,9 +30,14 @@ public class ManagerDashboardService {
     @Autowired
     private ManagerService dormitoryManagerService;
     
+    @Transactional(readOnly = true)
     public ManagerDashboardResponse getDashboardStats(Long managerId) {
-        Long dormId = dormitoryManagerService.getDormitoryIdByManagerId(managerId);
-        
+        return getDashboardStats(managerId, dormitoryManagerService.getDormitoryIdByManagerId(managerId));
+    }
+
+    // For callers that already know the dormitory, e.g. from the session token
+    @Transactional(readOnly = true)
+    public ManagerDashboardResponse getDashboardStats(Long managerId, Long dormId) {
         // Using constructor
         return new ManagerDashboardResponse(
             
@@ -43,6 +49,7 @@ public class ManagerDashboardService {
             
         );
     }
+    @Transactional(readOnly = true)
     public List<Announcement> getRecentActivities(Long managerId) {
         List<Announcement> allAnnouncements = announcementService.getAllAnnouncementsByManager(managerId);
         return allAnnouncements.stream()
@@ -2,6 +2,7 @@ package com.project.dormitory.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.project.dormitory.repository.DormitoryManagerRepo;
 
@@ -11,6 +12,7 @@ public class ManagerService {
     @Autowired
     private DormitoryManagerRepo dormitoryManagerRepository;
 
+    @Transactional(readOnly = true)
     public Long getDormitoryIdByManagerId(Long managerId) {
         return dormitoryManagerRepository.findDormitoryIdByManagerId(managerId)
             .orElseThrow(() -> new RuntimeException("Manager with ID " + managerId + " is not assigned to any dormitory or not found"));
@@ -1,11 +1,17 @@
 package com.project.dormitory.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.project.dormitory.events.DomainEventBus;
+import com.project.dormitory.events.RoomAssignmentChanged;
+import com.project.dormitory.fields.FieldSet;
+import com.project.dormitory.fields.SparseFieldQuery;
 import com.project.dormitory.model.Room;
 import com.project.dormitory.model.RoomInfoResponse;
 import com.project.dormitory.model.Student;
@@ -14,17 +20,30 @@ import com.project.dormitory.repository.StudentRepo;
 
 @Service
 public class RoomService {
+    // Fields of the room list for ?fields=; students is a collection and only comes with the full list
+    public static final FieldSet<Room> ROOM_FIELDS = FieldSet.of(Room.class)
+        .field("roomNum").field("floor").field("block").field("occupancy", "occupacy")
+        .field("lastInspect").field("duration");
+
     private final StudentRepo studentRepository;
 
     private final RoomRepo roomRepository;
 
-    public RoomService(StudentRepo studentRepository,RoomRepo roomRepository) {
+    private final DomainEventBus eventBus;
+
+    private final SparseFieldQuery sparseFieldQuery;
+
+    public RoomService(StudentRepo studentRepository,RoomRepo roomRepository, DomainEventBus eventBus,
+                       SparseFieldQuery sparseFieldQuery) {
         this.studentRepository = studentRepository;
         this.roomRepository = roomRepository;
+        this.eventBus = eventBus;
+        this.sparseFieldQuery = sparseFieldQuery;
     }
 
+    @Transactional(readOnly = true)
     public RoomInfoResponse getStudentRoomInfo(Long studentId) {
-        Student student = studentRepository.findById(studentId).orElse(null);
+        Student student = studentRepository.findRoomInfoById(studentId).orElse(null);
         if (student == null) {
             return null;
         }
@@ -35,13 +54,27 @@ public class RoomService {
         return new RoomInfoResponse(room, roommate);
     }
 
+    // Empty when the student has no room
+    @Transactional(readOnly = true)
+    public Optional<Long> getDormitoryIdOfStudent(Long studentId) {
+        return studentRepository.findDormitoryIdByStudentId(studentId);
+    }
+
+    @Transactional(readOnly = true)
     public Long getAvailableRoomsCount(Long dormId) {
     return (long) roomRepository.findByDormitoryIdAndOccupacyLessThan(dormId, 2).size();
 }
+    @Transactional(readOnly = true)
     public List<Room> getRoomsByDormitory(Long dormId) {
         return roomRepository.findByDormitoryId(dormId);
     }
     
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getRoomFieldsByDormitory(Long dormId, List<String> fields) {
+        return sparseFieldQuery.list(ROOM_FIELDS, fields,
+            (room, query, cb) -> cb.equal(room.get("dormitory").get("id"), dormId), Sort.unsorted());
+    }
+
     @Transactional
     public void assignRoomToStudent(Long studentId, String roomNum, Long dormId) {
         Student student = studentRepository.findById(studentId)
@@ -54,11 +87,16 @@ public class RoomService {
             throw new RuntimeException("Room is already full");
         }
         
+        Room previous = student.getRoom();
         student.setRoom(room);
         room.setOccupancy(room.getOccupancy() + 1);
         
         studentRepository.save(student);
         roomRepository.save(room);
+        eventBus.publish(new RoomAssignmentChanged(studentId,
+            previous != null ? previous.getDormitory().getId() : null,
+            previous != null ? previous.getRoomNum() : null,
+            dormId, room.getRoomNum()));
     }
     
     @Transactional
@@ -73,14 +111,18 @@ public class RoomService {
             
             studentRepository.save(student);
             roomRepository.save(room);
+            eventBus.publish(new RoomAssignmentChanged(studentId,
+                room.getDormitory().getId(), room.getRoomNum(), null, null));
         }
     }
     
+    @Transactional(readOnly = true)
     public Room searchRoom(String roomNum, Long dormId) {
         List<Room> rooms = roomRepository.findByDormitoryIdAndRoomNumContaining(dormId, roomNum);
         return rooms.isEmpty() ? null : rooms.get(0);
     }
     
+    @Transactional(readOnly = true)
     public Optional<Room> getRoomByStudent(Long studentId) {
         return roomRepository.findByStudentId(studentId);
     }
@@ -1,42 +1,151 @@
 package com.project.dormitory.service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.project.dormitory.model.AvailableStudentsResponse;
 import com.project.dormitory.model.Student;
 import com.project.dormitory.repository.StudentRepo;
+import com.project.dormitory.search.NameNormalizer;
+import com.project.dormitory.search.StudentNameIndex;
 
 @Service
 public class StudentService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final long UNASSIGNED_COUNT_TTL_MILLIS = 30_000;
+    private static final int MAX_NAME_SEARCH_RESULTS = 100;
+
     private final StudentRepo studentRepository;
+    private final StudentNameIndex nameIndex;
+
+    // Cached countByRoomIsNull, evicted whenever a room assignment commits (UnassignedCountEviction)
+    private volatile long unassignedCount;
+    private volatile long unassignedCountExpiresAt;
     
-    public StudentService(StudentRepo studentRepository) {
+    public StudentService(StudentRepo studentRepository, StudentNameIndex nameIndex) {
         this.studentRepository = studentRepository;
+        this.nameIndex = nameIndex;
     }
     
+    @Transactional(readOnly = true)
     public Student getStudentById(Long id) {
         return studentRepository.findById(id).orElse(null);
     }
 
+    // Student with room, dormitory and roommates loaded, for the dashboard
+    @Transactional(readOnly = true)
+    public Student getStudentWithRoom(Long id) {
+        return studentRepository.findDashboardById(id).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
     public Long getStudentsByDormitoryCount(Long dormId) {
-        return (long) studentRepository.findByRoomDormitoryId(dormId).size();
+        return studentRepository.countByRoomDormitoryId(dormId);
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByDormitory(Long dormId) {
         return studentRepository.findByRoomDormitoryId(dormId);
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getStudentsWithoutRoom() {
         return studentRepository.findByRoomIsNull();
     }
 
+    @Transactional(readOnly = true)
+    public AvailableStudentsResponse getStudentsWithoutRoom(Long afterId, int size, String major, String namePrefix) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String majorFilter = blankToNull(major);
+        String prefixFilter = escapeLike(blankToNull(namePrefix));
+        List<Student> students = studentRepository.findUnassignedAfter(
+            afterId != null ? afterId : 0L, majorFilter, prefixFilter, PageRequest.of(0, pageSize));
+
+        // A short page means we reached the end
+        Long nextCursor = students.size() == pageSize ? students.get(students.size() - 1).getId() : null;
+        long totalUnassigned = getStudentsWithoutRoomCount();
+        // Unfiltered, the cached count is the match count too
+        long totalMatching = majorFilter == null && prefixFilter == null
+            ? totalUnassigned
+            : studentRepository.countUnassigned(majorFilter, prefixFilter);
+        return new AvailableStudentsResponse(students, nextCursor, totalUnassigned, totalMatching);
+    }
+
+    public long getStudentsWithoutRoomCount() {
+        long now = System.currentTimeMillis();
+        if (now < unassignedCountExpiresAt) {
+            return unassignedCount;
+        }
+        long count = studentRepository.countByRoomIsNull();
+        unassignedCount = count;
+        unassignedCountExpiresAt = now + UNASSIGNED_COUNT_TTL_MILLIS;
+        return count;
+    }
+
+    public void evictStudentsWithoutRoomCount() {
+        unassignedCountExpiresAt = 0;
+    }
+
+    // Students whose name has a token starting with each token of name, in id order
+    @Transactional(readOnly = true)
     public List<Student> searchStudentsByName(String name) {
-        return studentRepository.findByNameContaining(name);
+        if (!nameIndex.isAvailable()) {
+            return searchStudentsByNameInDatabase(name);
+        }
+        List<Long> ids = nameIndex.search(name, MAX_NAME_SEARCH_RESULTS);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // One batch fetch, which comes back in no particular order
+        List<Student> students = new ArrayList<>(studentRepository.findAllById(ids));
+        students.sort(Comparator.comparing(Student::getId));
+        return students;
+    }
+
+    // Same match and order as the index. SQL narrows on the longest token by substring (the
+    // MySQL collation ignores case and accents, as NameNormalizer does), the rest is checked here
+    private List<Student> searchStudentsByNameInDatabase(String name) {
+        String[] tokens = NameNormalizer.tokens(name);
+        if (tokens.length == 0) {
+            return List.of();
+        }
+        String longest = tokens[0];
+        for (String token : tokens) {
+            if (token.length() > longest.length()) {
+                longest = token;
+            }
+        }
+        List<Student> students = new ArrayList<>();
+        for (Student student : studentRepository.findByNameContaining(longest)) {
+            if (NameNormalizer.matches(tokens, student.getName())) {
+                students.add(student);
+            }
+        }
+        students.sort(Comparator.comparing(Student::getId));
+        return students.size() > MAX_NAME_SEARCH_RESULTS ? students.subList(0, MAX_NAME_SEARCH_RESULTS) : students;
     }
     
     public Student updateStudentRoom(Student student) {
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        evictStudentsWithoutRoomCount();
+        return saved;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    // '!' rather than a backslash, which MySQL would also read as a string escape
+    private static String escapeLike(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
 
 }
@@ -0,0 +1,32 @@
+package com.project.dormitory.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.project.dormitory.events.DomainEventSubscriber;
+import com.project.dormitory.events.RoomAssignmentChanged;
+
+/**
+ * Drops StudentService's cached count of students without a room when an assignment commits.
+ */
+@Component
+public class UnassignedCountEviction implements DomainEventSubscriber<RoomAssignmentChanged> {
+
+    private final StudentService studentService;
+
+    public UnassignedCountEviction(StudentService studentService) {
+        this.studentService = studentService;
+    }
+
+    @Override
+    public Class<RoomAssignmentChanged> eventType() {
+        return RoomAssignmentChanged.class;
+    }
+
+    @Override
+    public void onEvents(List<RoomAssignmentChanged> events) {
+        // One eviction covers the whole batch
+        studentService.evictStudentsWithoutRoomCount();
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.dormitory.startup;
+
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Applies V3__enum_coded_columns.sql to a database whose schema comes from
+ * spring.jpa.hibernate.ddl-auto instead of Flyway. ddl-auto=update never changes a
+ * column's type, so a database created before the status, type and priority columns
+ * became integer codes keeps its strings, which CodedEnumConverter can't read.
+ *
+ * Columns that already hold codes (a migrated or freshly created schema) are left
+ * alone. Runs when the context starts, ahead of the event bus and the web server, so
+ * nothing reads the old columns first.
+ */
+@Component
+public class CodedEnumColumnUpgrader implements SmartLifecycle {
+
+    static final String SCRIPT = "db/migration/V3__enum_coded_columns.sql";
+
+    private static final Logger log = LoggerFactory.getLogger(CodedEnumColumnUpgrader.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Resource script;
+    private volatile boolean running;
+
+    // The EntityManagerFactory is only injected so the schema update has run first
+    @Autowired
+    public CodedEnumColumnUpgrader(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this(jdbcTemplate, new ClassPathResource(SCRIPT));
+    }
+
+    CodedEnumColumnUpgrader(JdbcTemplate jdbcTemplate, Resource script) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.script = script;
+    }
+
+    @Override
+    public void start() {
+        upgrade();
+        running = true;
+    }
+
+    /**
+     * Converts the coded columns when they still hold strings.
+     *
+     * @return whether the script ran
+     */
+    public boolean upgrade() {
+        boolean checkInOut = holdsStrings("check_in_out");
+        boolean complaintRepair = holdsStrings("complaint_repair");
+        if (!checkInOut && !complaintRepair) {
+            return false;
+        }
+        if (!checkInOut || !complaintRepair) {
+            // The script converts both tables; run on one already converted it would null its codes
+            throw new IllegalStateException("Only one of check_in_out.status and complaint_repair.status holds "
+                + "strings, convert the other by hand before starting (see " + SCRIPT + ")");
+        }
+        log.warn("check_in_out and complaint_repair still store enum labels, converting them with {}", SCRIPT);
+        new ResourceDatabasePopulator(script).execute(jdbcTemplate.getDataSource());
+        return true;
+    }
+
+    private boolean holdsStrings(String table) {
+        Integer type = jdbcTemplate.query("SELECT status FROM " + table + " WHERE 1 = 0", resultSet -> {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            return metaData.getColumnType(1);
+        });
+        return type != null && (type == Types.VARCHAR || type == Types.CHAR || type == Types.LONGVARCHAR
+            || type == Types.NVARCHAR || type == Types.NCHAR);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Before the domain event bus and the web server
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+}
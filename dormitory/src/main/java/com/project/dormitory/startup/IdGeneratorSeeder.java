@@ -0,0 +1,80 @@
+package com.project.dormitory.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.project.dormitory.model.IdAllocation;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Adds the id_generator segments V4 seeds when the schema comes from
+ * spring.jpa.hibernate.ddl-auto instead of Flyway. Without them Hibernate starts each
+ * segment at 1 and collides with the rows already in an existing database. Segments that
+ * exist are left alone, so this is a no-op on migrated databases. Runs when the context
+ * starts, before anything inserts, so the CDS training run of the Docker build (which
+ * exits once the context is refreshed) never reaches the database.
+ */
+@Component
+public class IdGeneratorSeeder implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorSeeder.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean running;
+
+    // The EntityManagerFactory is only injected so the schema update has run first
+    public IdGeneratorSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void start() {
+        seed();
+        running = true;
+    }
+
+    /**
+     * Inserts each missing segment positioned after the highest id in its table.
+     */
+    public void seed() {
+        for (String segment : IdAllocation.SEGMENTS) {
+            Integer present = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + IdAllocation.TABLE + " WHERE " + IdAllocation.SEGMENT_COLUMN + " = ?",
+                Integer.class, segment);
+            if (present != null && present > 0) {
+                continue;
+            }
+            Long lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + segment, Long.class);
+            try {
+                jdbcTemplate.update(
+                    "INSERT INTO " + IdAllocation.TABLE + " (" + IdAllocation.SEGMENT_COLUMN + ", "
+                        + IdAllocation.VALUE_COLUMN + ") VALUES (?, ?)",
+                    segment, IdAllocation.nextValueAfter(lastId));
+                log.info("Seeded id_generator segment {} after id {}", segment, lastId);
+            } catch (DuplicateKeyException e) {
+                // Another instance seeded it first
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Before the domain event bus and the web server
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+}
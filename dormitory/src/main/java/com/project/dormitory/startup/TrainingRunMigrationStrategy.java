@@ -0,0 +1,35 @@
+package com.project.dormitory.startup;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs Flyway migrations as usual, except under the training profile, which the Docker
+ * build activates for its CDS training run and which has no database to migrate.
+ *
+ * The AOT image fixes its beans at build time with the prod profile, so neither a
+ * {@code @Profile("training")} strategy nor spring.flyway.enabled=false would take effect
+ * there; the profile is looked up when Flyway migrates instead.
+ */
+@Component
+public class TrainingRunMigrationStrategy implements FlywayMigrationStrategy {
+
+    private static final String TRAINING_PROFILE = "training";
+
+    private final Environment environment;
+
+    public TrainingRunMigrationStrategy(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void migrate(Flyway flyway) {
+        if (environment.acceptsProfiles(Profiles.of(TRAINING_PROFILE))) {
+            return;
+        }
+        flyway.migrate();
+    }
+}
@@ -0,0 +1,97 @@
+-- Schema as ddl-auto=update created it for MySQL. Databases that already have it are
+-- baselined at version 1 (spring.flyway.baseline-on-migrate in application-prod).
+
+CREATE TABLE dormitory (
+    id BIGINT NOT NULL,
+    building_num VARCHAR(255),
+    building_name VARCHAR(255),
+    address VARCHAR(255),
+    phone_num VARCHAR(255),
+    email VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE dormitory_manager (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    phone VARCHAR(255),
+    email VARCHAR(255),
+    password VARCHAR(255),
+    dorm_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_dormitory_manager_dorm UNIQUE (dorm_id),
+    CONSTRAINT fk_dormitory_manager_dorm FOREIGN KEY (dorm_id) REFERENCES dormitory (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE room (
+    dorm_id BIGINT NOT NULL,
+    room_num VARCHAR(255) NOT NULL,
+    floor INTEGER,
+    block VARCHAR(255),
+    occupacy INTEGER,
+    last_inspect VARCHAR(255),
+    duration VARCHAR(255),
+    PRIMARY KEY (dorm_id, room_num),
+    CONSTRAINT fk_room_dorm FOREIGN KEY (dorm_id) REFERENCES dormitory (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE student (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    major VARCHAR(255),
+    email VARCHAR(255),
+    phone_num VARCHAR(255),
+    password VARCHAR(255),
+    roommate_id BIGINT,
+    dorm_id BIGINT,
+    room_num VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_student_roommate UNIQUE (roommate_id),
+    CONSTRAINT fk_student_roommate FOREIGN KEY (roommate_id) REFERENCES student (id),
+    CONSTRAINT fk_student_room FOREIGN KEY (dorm_id, room_num) REFERENCES room (dorm_id, room_num)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_student_room ON student (dorm_id, room_num);
+
+CREATE TABLE announcement (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    date_time DATETIME(6),
+    mgr_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_announcement_manager FOREIGN KEY (mgr_id) REFERENCES dormitory_manager (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE complaint_repair (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    description VARCHAR(255),
+    service_type VARCHAR(255),
+    date_time DATETIME(6),
+    priority_lvl VARCHAR(255),
+    status VARCHAR(255),
+    stu_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_complaint_repair_student FOREIGN KEY (stu_id) REFERENCES student (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE check_in_out (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    stu_id BIGINT,
+    date DATE,
+    type VARCHAR(255),
+    status VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_check_in_out_student FOREIGN KEY (stu_id) REFERENCES student (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE import_checkpoint (
+    job_id VARCHAR(255) NOT NULL,
+    import_type VARCHAR(255),
+    last_line BIGINT,
+    rows_imported BIGINT,
+    rows_rejected BIGINT,
+    finished BIT NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (job_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,28 @@
+-- Indexes for the repository query methods, as reported by IndexAdvisor
+-- (dormitory.index-advisor.enabled=true). The foreign key indexes MySQL created for
+-- stu_id and mgr_id stay; the composite indexes below also serve the ORDER BY.
+
+-- AnnouncementRepo.findByManagerIdOrderByDateTimeDesc, findTop5ByManagerIdOrderByDateTimeDesc,
+-- findByManagerDormitoryIdOrderByDateTimeDesc, countByManagerId
+CREATE INDEX idx_announcement_mgr_id_date_time ON announcement (mgr_id, date_time);
+
+-- AnnouncementRepo.findTop5ByOrderByDateTimeDesc, findAllByOrderByDateTimeAsc, findAllByOrderByDateTimeDesc
+CREATE INDEX idx_announcement_date_time ON announcement (date_time);
+
+-- CheckInOutRepo.findByStudentIdOrderByDateDesc, findTop5ByStudentIdOrderByDateDesc, findByDormitoryId
+CREATE INDEX idx_check_in_out_stu_id_date ON check_in_out (stu_id, date);
+
+-- CheckInOutRepo.findByStatusOrderByDateDesc, countByStatus
+CREATE INDEX idx_check_in_out_status_date ON check_in_out (status, date);
+
+-- ComplaintRepairRepo.findTop5ByStudentIdOrderByDateTimeDesc, findByDormitoryId
+CREATE INDEX idx_complaint_repair_stu_id_date_time ON complaint_repair (stu_id, date_time);
+
+-- ComplaintRepairRepo.findByStatusOrderByDateTimeDesc, countByStatus
+CREATE INDEX idx_complaint_repair_status_date_time ON complaint_repair (status, date_time);
+
+-- RoomRepo.findByDormitoryIdAndOccupacyLessThan
+CREATE INDEX idx_room_dorm_id_occupacy ON room (dorm_id, occupacy);
+
+-- DormitoryManagerRepo.findByEmail
+CREATE INDEX idx_dormitory_manager_email ON dormitory_manager (email);
@@ -0,0 +1,53 @@
+-- Status, type and priority columns hold the small integer codes of their Java enums
+-- (model.CheckInOutStatus, CheckInOutType, ComplaintStatus, ServiceType, PriorityLevel)
+-- instead of free-form strings. Existing values are matched the way CodedEnum.fromLabel
+-- parses them: any case, ignoring spaces, '-' and '_'. Service types nobody offers any
+-- more become Other; other unrecognised values become NULL. Changing the column type
+-- rebuilds idx_check_in_out_status_date and idx_complaint_repair_status_date_time.
+
+UPDATE check_in_out SET
+    type = CASE UPPER(REPLACE(REPLACE(REPLACE(type, ' ', ''), '-', ''), '_', ''))
+        WHEN 'CHECKIN' THEN '1'
+        WHEN 'CHECKOUT' THEN '2'
+    END,
+    status = CASE UPPER(REPLACE(REPLACE(REPLACE(status, ' ', ''), '-', ''), '_', ''))
+        WHEN 'PENDING' THEN '1'
+        WHEN 'APPROVED' THEN '2'
+        WHEN 'REJECTED' THEN '3'
+    END;
+
+ALTER TABLE check_in_out
+    MODIFY type TINYINT,
+    MODIFY status TINYINT;
+
+UPDATE complaint_repair SET service_type = 'Other'
+WHERE service_type IS NOT NULL
+  AND UPPER(REPLACE(REPLACE(REPLACE(service_type, ' ', ''), '-', ''), '_', ''))
+      NOT IN ('PLUMBING', 'ELECTRICAL', 'FURNITURE', 'WIFI', 'CLEANING', 'OTHER', 'REPAIR', 'COMPLAINT');
+
+UPDATE complaint_repair SET
+    service_type = CASE UPPER(REPLACE(REPLACE(REPLACE(service_type, ' ', ''), '-', ''), '_', ''))
+        WHEN 'PLUMBING' THEN '1'
+        WHEN 'ELECTRICAL' THEN '2'
+        WHEN 'FURNITURE' THEN '3'
+        WHEN 'WIFI' THEN '4'
+        WHEN 'CLEANING' THEN '5'
+        WHEN 'OTHER' THEN '6'
+        WHEN 'REPAIR' THEN '7'
+        WHEN 'COMPLAINT' THEN '8'
+    END,
+    priority_lvl = CASE UPPER(REPLACE(REPLACE(REPLACE(priority_lvl, ' ', ''), '-', ''), '_', ''))
+        WHEN 'LOW' THEN '1'
+        WHEN 'MEDIUM' THEN '2'
+        WHEN 'HIGH' THEN '3'
+    END,
+    status = CASE UPPER(REPLACE(REPLACE(REPLACE(status, ' ', ''), '-', ''), '_', ''))
+        WHEN 'PENDING' THEN '1'
+        WHEN 'INPROGRESS' THEN '2'
+        WHEN 'RESOLVED' THEN '3'
+    END;
+
+ALTER TABLE complaint_repair
+    MODIFY service_type TINYINT,
+    MODIFY priority_lvl TINYINT,
+    MODIFY status TINYINT;
@@ -0,0 +1,25 @@
+-- check_in_out, complaint_repair and announcement ids come from Hibernate's pooled table
+-- allocator (model.IdAllocation) instead of AUTO_INCREMENT, so their inserts can be
+-- batched. Each row holds the upper end of the next block of 50 ids, so the first block
+-- starts right after the current maximum.
+
+CREATE TABLE id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'check_in_out', COALESCE(MAX(id), 0) + 50 FROM check_in_out;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'complaint_repair', COALESCE(MAX(id), 0) + 50 FROM complaint_repair;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'announcement', COALESCE(MAX(id), 0) + 50 FROM announcement;
+
+-- Ids are only ever allocated from id_generator now; an AUTO_INCREMENT counter would
+-- hand out ids inside blocks Hibernate has already reserved
+ALTER TABLE check_in_out MODIFY id BIGINT NOT NULL;
+ALTER TABLE complaint_repair MODIFY id BIGINT NOT NULL;
+ALTER TABLE announcement MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,101 @@
+package com.project.dormitory.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dormitory.model.BatchPartResponse;
+
+/**
+ * Each part gets the status its own endpoint would answer with, and a timed-out part
+ * doesn't keep its worker.
+ */
+class BatchGetExecutorTests {
+
+    private final BatchGetExecutor executor = new BatchGetExecutor(new ObjectMapper(), new NoTransactions(), 4, 8, 300);
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void answersEachPartWithItsOwnStatus() {
+        Map<String, Supplier<?>> parts = new LinkedHashMap<>();
+        parts.put("rooms", () -> List.of("101", "102"));
+        parts.put("missing", () -> null);
+        parts.put("invalid", () -> {
+            throw new IllegalArgumentException("Unknown status: DONE");
+        });
+        parts.put("broken", () -> {
+            throw new IllegalStateException("could not execute statement [select * from secret_table]");
+        });
+
+        Map<String, BatchPartResponse> responses = executor.run(parts);
+
+        assertEquals(List.of("rooms", "missing", "invalid", "broken"), List.copyOf(responses.keySet()));
+        assertEquals(200, responses.get("rooms").getStatus());
+        assertEquals("102", responses.get("rooms").getBody().get(1).asText());
+        assertEquals(404, responses.get("missing").getStatus());
+        assertEquals(400, responses.get("invalid").getStatus());
+        assertEquals("Unknown status: DONE", responses.get("invalid").getError());
+        // Nothing of the exception reaches the client
+        assertEquals(500, responses.get("broken").getStatus());
+        assertEquals("Internal error", responses.get("broken").getError());
+        assertNull(responses.get("broken").getBody());
+    }
+
+    @Test
+    void interruptsAPartThatTimedOut() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Map<String, Supplier<?>> parts = new LinkedHashMap<>();
+        parts.put("fast", () -> "ok");
+        parts.put("slow", () -> {
+            try {
+                TimeUnit.SECONDS.sleep(30);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        });
+
+        long start = System.nanoTime();
+        Map<String, BatchPartResponse> responses = executor.run(parts);
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(200, responses.get("fast").getStatus());
+        assertEquals(504, responses.get("slow").getStatus());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "timed-out part kept running");
+    }
+
+    private static final class NoTransactions implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.dormitory.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Rooms get dense handles that survive the table growing and concurrent interning.
+ */
+class RoomHandleRegistryTests {
+
+    @Test
+    void internsEachRoomOnce() {
+        RoomHandleRegistry registry = new RoomHandleRegistry();
+        // Well past the initial table and reverse-lookup sizes
+        for (int d = 0; d < 5; d++) {
+            for (int r = 0; r < 400; r++) {
+                assertEquals(d * 400 + r, registry.intern(101 + d, String.valueOf(1000 + r)));
+            }
+        }
+
+        assertEquals(2000, registry.size());
+        // Same room from a different String instance, as a request parameter would be
+        int handle = registry.handleOf(103, new String("1042"));
+        assertEquals(2 * 400 + 42, handle);
+        assertEquals(handle, registry.intern(103, "1042"));
+        assertEquals(103, registry.dormIdOf(handle));
+        assertEquals("1042", registry.roomNumOf(handle));
+        // Room 1042 exists in dormitory 103, not in 106
+        assertEquals(RoomHandleRegistry.NO_HANDLE, registry.handleOf(106, "1042"));
+        assertThrows(IllegalArgumentException.class, () -> registry.roomNumOf(2000));
+    }
+
+    @Test
+    void concurrentInternsAgreeOnHandles() throws Exception {
+        RoomHandleRegistry registry = new RoomHandleRegistry();
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int[] handles = new int[1000];
+                    for (int r = 0; r < handles.length; r++) {
+                        handles[r] = registry.intern(101, String.valueOf(r));
+                    }
+                    return handles;
+                }));
+            }
+            start.countDown();
+
+            int[] first = results.get(0).get();
+            for (Future<int[]> result : results) {
+                int[] handles = result.get();
+                for (int r = 0; r < handles.length; r++) {
+                    assertEquals(first[r], handles[r]);
+                }
+            }
+            Set<Integer> distinct = new HashSet<>();
+            for (int handle : first) {
+                assertTrue(handle >= 0 && handle < 1000);
+                distinct.add(handle);
+            }
+            assertEquals(1000, distinct.size());
+            assertEquals(1000, registry.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
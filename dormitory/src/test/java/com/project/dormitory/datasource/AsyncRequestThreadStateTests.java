@@ -0,0 +1,52 @@
+package com.project.dormitory.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.dormitory.metrics.DormitoryTier;
+import com.project.dormitory.metrics.RequestMetricsInterceptor;
+import com.project.dormitory.metrics.SqlStatementCounter;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenFilter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * A request that goes async leaves nothing of its caller on the container thread, which
+ * serves some other request next.
+ */
+class AsyncRequestThreadStateTests {
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController())
+        .addInterceptors(new RequestMetricsInterceptor(new SimpleMeterRegistry(), 0), new ReadYourWritesInterceptor())
+        .build();
+
+    @Test
+    void openingAStreamClearsTheThreadState() throws Exception {
+        mockMvc.perform(get("/api/manager/5/stream")
+                .requestAttr(SessionTokenFilter.PRINCIPAL, new SessionPrincipal(5, SessionPrincipal.MANAGER, 101L)))
+            .andExpect(request().asyncStarted());
+
+        assertNull(ReadYourWrites.boundSession());
+        assertNull(SqlStatementCounter.current());
+        assertEquals(DormitoryTier.NONE, DormitoryTier.current());
+    }
+
+    @RestController
+    static class StreamController {
+
+        @GetMapping("/api/manager/5/stream")
+        SseEmitter stream() {
+            return new SseEmitter(60_000L);
+        }
+    }
+}
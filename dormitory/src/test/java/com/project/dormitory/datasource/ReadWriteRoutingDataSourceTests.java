@@ -0,0 +1,93 @@
+package com.project.dormitory.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes against two embedded H2 databases, each holding a row that names it.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primary, replica, new ReadYourWrites(WINDOW_MILLIS, 1000)));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.unbind();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void writeTransactionsAndWorkOutsideTransactionsUseThePrimary() {
+        assertEquals("primary", writeTransaction.execute(status -> whichDatabase()));
+        assertEquals("primary", whichDatabase());
+    }
+
+    @Test
+    void sessionReadsItsOwnWritesFromThePrimary() {
+        ReadYourWrites.bind("s:1");
+        writeTransaction.executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE marker SET writes = writes + 1"));
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> whichDatabase()));
+
+        ReadYourWrites.bind("s:2");
+        assertEquals("replica", readOnlyTransaction.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void readsWithoutASessionStayOnTheReplicaAfterAWrite() {
+        writeTransaction.executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE marker SET writes = writes + 1"));
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> whichDatabase()));
+    }
+
+    private String whichDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        new JdbcTemplate(database).execute("CREATE TABLE marker (name VARCHAR(16), writes INT)");
+        new JdbcTemplate(database).update("INSERT INTO marker VALUES (?, 0)", name);
+        return database;
+    }
+}
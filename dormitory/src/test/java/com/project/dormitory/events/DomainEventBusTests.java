@@ -0,0 +1,171 @@
+package com.project.dormitory.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.dormitory.model.CheckInOutStatus;
+import com.project.dormitory.model.ComplaintStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The bus on a ring much smaller than the number of events, so producers wrap it
+ * many times and have to wait on the subscribers.
+ */
+class DomainEventBusTests {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 5_000;
+
+    private DomainEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void deliversEveryEventInOrderToEachSubscriber() throws Exception {
+        Recorder<DomainEvent> all = new Recorder<>("all", DomainEvent.class);
+        Recorder<ComplaintChanged> complaints = new Recorder<>("complaints", ComplaintChanged.class);
+        bus = new DomainEventBus(List.of(all, complaints), new SimpleMeterRegistry(), 64, 16, 5_000);
+        bus.start();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                    bus.publish(i % 2 == 0
+                        ? new CheckInOutChanged(i, producer, CheckInOutStatus.PENDING, true)
+                        : new ComplaintChanged(i, producer, ComplaintStatus.PENDING, true));
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        awaitCaughtUp("all");
+        awaitCaughtUp("complaints");
+
+        assertEquals(PRODUCERS * EVENTS_PER_PRODUCER, all.events.size());
+        assertEquals(PRODUCERS * EVENTS_PER_PRODUCER / 2, complaints.events.size());
+        assertTrue(all.largestBatch <= 16);
+        // Each producer's events arrive in the order it published them
+        long[] lastId = new long[PRODUCERS];
+        Arrays.fill(lastId, -1);
+        for (DomainEvent event : all.events) {
+            long producer = event instanceof CheckInOutChanged c ? c.studentId() : ((ComplaintChanged) event).studentId();
+            long id = event instanceof CheckInOutChanged c ? c.id() : ((ComplaintChanged) event).id();
+            assertEquals(lastId[(int) producer] + 1, id);
+            lastId[(int) producer] = id;
+        }
+    }
+
+    @Test
+    void holdsEventsUntilTheTransactionCommits() throws Exception {
+        Recorder<DomainEvent> all = new Recorder<>("all", DomainEvent.class);
+        bus = new DomainEventBus(List.of(all), new SimpleMeterRegistry(), 64, 16, 5_000);
+        bus.start();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bus.publish(new AnnouncementChanged(1, 1, false));
+            TimeUnit.MILLISECONDS.sleep(50);
+            assertTrue(all.events.isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        awaitCaughtUp("all");
+        assertEquals(List.of(new AnnouncementChanged(1, 1, false)), all.events);
+    }
+
+    @Test
+    void dropsEventsOnceAStuckSubscriberFillsTheRing() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        DomainEventSubscriber<DomainEvent> stuck = new DomainEventSubscriber<>() {
+            @Override
+            public Class<DomainEvent> eventType() {
+                return DomainEvent.class;
+            }
+
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        bus = new DomainEventBus(List.of(stuck), meterRegistry, 4, 16, 20);
+        bus.start();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            bus.publish(new AnnouncementChanged(i, 1, false));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Slots are only freed once a batch is handled, so the ring's 4 get through and the rest each wait 20 ms
+        assertEquals(6, meterRegistry.get("domain.events.overflow").functionCounter().count());
+        assertTrue(elapsedMillis < 2_000, "publishing took " + elapsedMillis + " ms");
+    }
+
+    private void awaitCaughtUp(String subscriber) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (bus.lag(subscriber) > 0) {
+            assertTrue(System.nanoTime() < deadline, subscriber + " did not catch up");
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    private static final class Recorder<E extends DomainEvent> implements DomainEventSubscriber<E> {
+        private final String name;
+        private final Class<E> type;
+        // Only written by the subscriber's consumer thread
+        final List<E> events = Collections.synchronizedList(new ArrayList<>());
+        volatile int largestBatch;
+
+        Recorder(String name, Class<E> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public Class<E> eventType() {
+            return type;
+        }
+
+        @Override
+        public void onEvents(List<E> batch) {
+            largestBatch = Math.max(largestBatch, batch.size());
+            events.addAll(batch);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
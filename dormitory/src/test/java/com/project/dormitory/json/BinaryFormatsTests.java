@@ -0,0 +1,76 @@
+package com.project.dormitory.json;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenService;
+
+/**
+ * The Accept header picks the encoding of both buffered (converter) and streamed
+ * (JsonArrayStreamer) responses.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:formats;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.sql.init.mode=never"
+})
+@AutoConfigureMockMvc
+class BinaryFormatsTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionTokenService tokenService;
+
+    @Test
+    void streamsCheckInOutsAsCbor() throws Exception {
+        byte[] body = mockMvc.perform(managerGet("/checkinout").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+        assertTrue(new CBORMapper().readTree(body).isArray());
+    }
+
+    @Test
+    void writesBufferedResponsesAsSmile() throws Exception {
+        byte[] body = mockMvc.perform(managerGet("/batch?part=rooms").accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(SMILE))
+            .andReturn().getResponse().getContentAsByteArray();
+        JsonNode rooms = new SmileMapper().readTree(body).get("rooms");
+        assertTrue(rooms.get("body").isArray());
+    }
+
+    @Test
+    void prefersJsonWhenAnythingGoes() throws Exception {
+        mockMvc.perform(managerGet("/checkinout").accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private MockHttpServletRequestBuilder managerGet(String path) {
+        return get("/api/manager/1" + path)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(1L, SessionPrincipal.MANAGER, 101L));
+    }
+}
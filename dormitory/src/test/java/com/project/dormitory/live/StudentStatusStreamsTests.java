@@ -0,0 +1,145 @@
+package com.project.dormitory.live;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.dormitory.events.CheckInOutChanged;
+import com.project.dormitory.model.CheckInOutStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The registry stays within its connection caps however many streams are opened, and a
+ * slow or dead client never holds up the bus.
+ */
+class StudentStatusStreamsTests {
+
+    @Test
+    void newTabReplacesTheOldestBeyondThePerStudentCap() {
+        StudentStatusStreams streams = streams(100, 2);
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(streams.open(1));
+        }
+        assertEquals(2, streams.connections());
+        streams.open(2);
+        assertEquals(3, streams.connections());
+    }
+
+    @Test
+    void refusesStreamsOnceFull() {
+        StudentStatusStreams streams = streams(3, 1);
+        for (long studentId = 1; studentId <= 3; studentId++) {
+            assertNotNull(streams.open(studentId));
+        }
+        assertNull(streams.open(4));
+        assertEquals(3, streams.connections());
+
+        // A replaced tab frees its slot, so the student's new tab still fits
+        assertNotNull(streams.open(1));
+        assertEquals(3, streams.connections());
+    }
+
+    @Test
+    void ignoresUpdatesForStudentsWithoutAStream() {
+        StudentStatusStreams streams = streams(10, 1);
+        streams.open(1);
+        streams.onEvents(List.of(new CheckInOutChanged(7, 2, CheckInOutStatus.APPROVED, false)));
+        assertEquals(1, streams.connections());
+    }
+
+    @Test
+    void closesAStreamTooSlowToKeepUpWithoutBlockingTheBus() throws Exception {
+        CountDownLatch socket = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StudentStatusStreams streams = new StudentStatusStreams(meterRegistry, 10, 1, 60_000, 2, 1, 60_000) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return new ClientEmitter(timeoutMillis, () -> socket.await());
+            }
+        };
+        try {
+            streams.open(1);
+            long start = System.nanoTime();
+            for (long id = 1; id <= 5; id++) {
+                streams.onEvents(List.of(new CheckInOutChanged(id, 1, CheckInOutStatus.APPROVED, false)));
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+            // With one update stuck on the socket the queue of two fills before the fifth
+            assertEquals(0, streams.connections());
+            assertEquals(1, meterRegistry.get("dormitory.live.slow").counter().count());
+        } finally {
+            socket.countDown();
+            streams.destroy();
+        }
+    }
+
+    @Test
+    void heartbeatDropsStreamsWhoseClientWentAway() throws Exception {
+        StudentStatusStreams streams = new StudentStatusStreams(new SimpleMeterRegistry(), 10, 1, 60_000, 8, 1, 20) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return new ClientEmitter(timeoutMillis, () -> {
+                    throw new IOException("Broken pipe");
+                });
+            }
+        };
+        try {
+            streams.open(1);
+            assertEquals(1, streams.connections());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (streams.connections() > 0) {
+                assertTrue(System.nanoTime() < deadline, "dead stream was not dropped");
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        } finally {
+            streams.destroy();
+        }
+    }
+
+    private static StudentStatusStreams streams(int maxConnections, int maxPerStudent) {
+        return new StudentStatusStreams(new SimpleMeterRegistry(), maxConnections, maxPerStudent, 60_000, 8, 1, 60_000);
+    }
+
+    private interface Socket {
+        void write() throws Exception;
+    }
+
+    /**
+     * Lets the stream's opening comment through and hands every later send to the socket.
+     */
+    private static final class ClientEmitter extends SseEmitter {
+        private final Socket socket;
+        private final AtomicInteger sends = new AtomicInteger();
+
+        ClientEmitter(long timeoutMillis, Socket socket) {
+            super(timeoutMillis);
+            this.socket = socket;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sends.getAndIncrement() == 0) {
+                return;
+            }
+            try {
+                socket.write();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.dormitory.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.project.dormitory.dataset.DatasetGenerator;
+import com.project.dormitory.dataset.DatasetSpec;
+import com.project.dormitory.dataset.DatasetSummary;
+import com.project.dormitory.dataset.JdbcDatasetSink;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenService;
+
+/**
+ * Statement budgets for the hot read endpoints. Each dormitory holds far more rooms and
+ * students than any budget, so an N+1 (a lazy Room.students or Student.roommate per row)
+ * blows through it and fails the build.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.sql.init.mode=never"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointStatementBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SessionTokenService tokenService;
+
+    private DatasetSummary dataset;
+
+    @BeforeAll
+    void seed() {
+        DatasetSpec spec = new DatasetSpec();
+        spec.setDormitories(2);
+        spec.setRoomsPerDorm(80);
+        spec.setStudents(240);
+        spec.setDormSkew(0);
+        spec.setCheckInOutsPerStudent(3);
+        spec.setComplaintsPerStudent(2);
+        spec.setAnnouncementsPerDorm(10);
+        dataset = new DatasetGenerator(spec, "unused").generate(new JdbcDatasetSink(jdbcTemplate, spec.getBatchSize()));
+    }
+
+    @Test
+    void managerDashboard() throws Exception {
+        perform(managerGet("/dashboard"), 8);
+    }
+
+    @Test
+    void managerRooms() throws Exception {
+        perform(managerGet("/rooms"), 6);
+    }
+
+    @Test
+    void managerRoomsWithFieldsSelectsOnlyThoseFields() throws Exception {
+        mockMvc.perform(managerGet("/rooms?fields=roomNum,occupancy"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].roomNum").exists())
+            .andExpect(jsonPath("$[0].occupancy").exists())
+            .andExpect(jsonPath("$[0].floor").doesNotExist())
+            .andExpect(jsonPath("$[0].students").doesNotExist())
+            .andExpect(SqlStatementBudget.atMost(1));
+        mockMvc.perform(managerGet("/rooms?fields=roomNum,students"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void managerPendingCheckInOuts() throws Exception {
+        perform(managerGet("/checkinout/pending"), 6);
+    }
+
+    @Test
+    void studentDashboard() throws Exception {
+        perform(studentGet("/dashboard"), 6);
+    }
+
+    @Test
+    void studentRoom() throws Exception {
+        perform(studentGet("/room"), 4);
+    }
+
+    @Test
+    void managerBatchCountsStatementsOfEveryPart() throws Exception {
+        MvcResult result = mockMvc.perform(managerGet("/batch?part=dashboard,checkinout"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dashboard.status").value(200))
+            .andExpect(jsonPath("$.checkinout.status").value(200))
+            .andExpect(SqlStatementBudget.atMost(9))
+            .andReturn();
+        // Parts run on pool threads but count towards the request
+        assertTrue(SqlStatementBudget.countsOf(result).getStatements() >= 2);
+    }
+
+    @Test
+    void reportsStatementsInServerTiming() throws Exception {
+        MvcResult result = mockMvc.perform(studentGet("/room"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(ResponseTimingAdvice.SERVER_TIMING))
+            .andReturn();
+        assertTrue(result.getResponse().getHeader(ResponseTimingAdvice.SERVER_TIMING).startsWith("sql;desc=\""));
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andExpect(SqlStatementBudget.atMost(budget));
+    }
+
+    private MockHttpServletRequestBuilder managerGet(String path) {
+        long dormId = dataset.dormId(0);
+        long managerId = dataset.managerIdOfDorm(dormId);
+        return get("/api/manager/" + managerId + path)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(managerId, SessionPrincipal.MANAGER, dormId));
+    }
+
+    private MockHttpServletRequestBuilder studentGet(String path) {
+        long studentId = dataset.assignedStudentId(0);
+        return get("/api/student/" + studentId + path)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(studentId, SessionPrincipal.STUDENT, null));
+    }
+}
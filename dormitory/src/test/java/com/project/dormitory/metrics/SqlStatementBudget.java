@@ -0,0 +1,34 @@
+package com.project.dormitory.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc matchers over the SQL a request ran, as counted by SqlStatementCounter:
+ *
+ *   mockMvc.perform(get(...)).andExpect(SqlStatementBudget.atMost(4));
+ *
+ * The count covers the whole request, lazy loads during serialization included.
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            SqlStatementCounter.Counts counts = countsOf(result);
+            assertTrue(counts.getStatements() <= statements, () -> result.getRequest().getMethod() + " "
+                + result.getRequest().getRequestURI() + " ran " + counts + ", budget is " + statements + " statements");
+        };
+    }
+
+    public static SqlStatementCounter.Counts countsOf(MvcResult result) {
+        Object counts = result.getRequest().getAttribute(SqlStatementCounter.REQUEST_ATTRIBUTE);
+        assertNotNull(counts, () -> result.getRequest().getRequestURI() + " was not counted, is it under /api?");
+        return (SqlStatementCounter.Counts) counts;
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.dormitory.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Clients keep sending and receiving the strings they always did; only the column holds codes.
+ */
+class CodedEnumTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parsesEverySpellingInUse() {
+        assertEquals(ComplaintStatus.IN_PROGRESS, ComplaintStatus.fromLabel("IN PROGRESS"));
+        assertEquals(ComplaintStatus.IN_PROGRESS, ComplaintStatus.fromLabel("IN_PROGRESS"));
+        assertEquals(CheckInOutType.CHECK_IN, CheckInOutType.fromLabel("Check-in"));
+        assertEquals(CheckInOutType.CHECK_IN, CheckInOutType.fromLabel("CHECK_IN"));
+        assertEquals(ServiceType.WIFI, ServiceType.fromLabel("Wi-Fi"));
+        assertEquals(PriorityLevel.HIGH, PriorityLevel.fromLabel("HIGH"));
+        assertThrows(IllegalArgumentException.class, () -> CheckInOutStatus.fromLabel("MAYBE"));
+    }
+
+    @Test
+    void writesLabelsAndStoresCodes() throws Exception {
+        ComplaintRepair complaint = objectMapper.readValue(
+            "{\"serviceType\":\"Plumbing\",\"priorityLvl\":\"medium\",\"status\":\"IN PROGRESS\"}", ComplaintRepair.class);
+        assertEquals("\"IN PROGRESS\"", objectMapper.writeValueAsString(complaint.getStatus()));
+        assertEquals((byte) 2, new ComplaintStatus.JpaConverter().convertToDatabaseColumn(complaint.getStatus()));
+        assertEquals(PriorityLevel.MEDIUM, new PriorityLevel.JpaConverter().convertToEntityAttribute((byte) 2));
+        assertEquals(ServiceType.PLUMBING, complaint.getServiceType());
+    }
+}
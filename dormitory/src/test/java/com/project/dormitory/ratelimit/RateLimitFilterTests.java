@@ -0,0 +1,90 @@
+package com.project.dormitory.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenFilter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Limited routes answer 429 with Retry-After once their bucket is empty, however the
+ * path is spelled.
+ */
+class RateLimitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(new RateLimiter(new MockEnvironment()
+        .withProperty("dormitory.rate-limit.checkinout.per-user", "2")
+        .withProperty("dormitory.rate-limit.checkinout.per-address", "0")
+        .withProperty("dormitory.rate-limit.service-request.per-user", "0")
+        .withProperty("dormitory.rate-limit.service-request.per-address", "1"), meterRegistry));
+
+    @Test
+    void answers429WithRetryAfterOnceTheUserIsOverTheLimit() throws Exception {
+        assertEquals(200, post("/api/student/1/checkinout", 1).getStatus());
+        assertEquals(200, post("/api/student/1/checkinout", 1).getStatus());
+
+        MockHttpServletResponse throttled = post("/api/student/1/checkinout", 1);
+        assertEquals(429, throttled.getStatus());
+        // 2 a minute is one token every 30 s
+        long retryAfter = Long.parseLong(throttled.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(30, retryAfter, 1);
+        assertEquals(1, meterRegistry.get("dormitory.rate.limit.throttled")
+            .tag("route", "checkinout").tag("key", "user").counter().count());
+
+        // Another student has a bucket of their own
+        assertEquals(200, post("/api/student/2/checkinout", 2).getStatus());
+    }
+
+    @Test
+    void limitsEncodedAndParameterisedSpellingsOfARoute() throws Exception {
+        assertEquals(200, post("/api/student/1/service/request", 1).getStatus());
+        assertEquals(429, post("/api/student/1/service/%72equest", 1).getStatus());
+        assertEquals(429, post("/api/student/1/service;x=1/request", 1).getStatus());
+        assertEquals(429, post("/api/student/1//service/request", 1).getStatus());
+    }
+
+    @Test
+    void leavesReadsAndOtherRoutesAlone() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/student/1/checkinout");
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/student/1/checkinout/cancel"),
+            new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void roundsTheRetryAfterUpToWholeSeconds() {
+        assertEquals(1, RateLimiter.retryAfterSeconds(1));
+        assertEquals(1, RateLimiter.retryAfterSeconds(1000));
+        assertEquals(2, RateLimiter.retryAfterSeconds(1001));
+    }
+
+    private MockHttpServletResponse post(String uri, long userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr("10.0.0.1");
+        request.setAttribute(SessionTokenFilter.PRINCIPAL, new SessionPrincipal(userId, SessionPrincipal.STUDENT, null));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        if (response.getStatus() == 429) {
+            assertNull(chain.getRequest());
+        }
+        return response;
+    }
+}
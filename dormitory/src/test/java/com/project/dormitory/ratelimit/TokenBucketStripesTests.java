@@ -0,0 +1,101 @@
+package com.project.dormitory.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Buckets on a clock the test moves by hand.
+ */
+class TokenBucketStripesTests {
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+
+    @Test
+    void startsFullAndRefillsAtThePerMinuteRate() {
+        TokenBucketStripes buckets = new TokenBucketStripes(16, 60, nanos::get);
+        for (int i = 0; i < 60; i++) {
+            assertEquals(0, buckets.tryAcquire(7));
+        }
+        // 60 per minute is one token a second
+        assertEquals(1000, buckets.tryAcquire(7));
+
+        advanceMillis(400);
+        assertEquals(600, buckets.tryAcquire(7));
+        advanceMillis(600);
+        assertEquals(0, buckets.tryAcquire(7));
+        assertEquals(1000, buckets.tryAcquire(7));
+
+        // A long pause refills to capacity, not beyond
+        advanceMillis(TimeUnit.MINUTES.toMillis(10));
+        for (int i = 0; i < 60; i++) {
+            assertEquals(0, buckets.tryAcquire(7));
+        }
+        assertTrue(buckets.tryAcquire(7) > 0);
+    }
+
+    @Test
+    void frequentCallersStillGetTheFractionalRefill() {
+        TokenBucketStripes buckets = new TokenBucketStripes(16, 1, nanos::get);
+        assertEquals(0, buckets.tryAcquire(7));
+        // Polling every second must not keep resetting the one-a-minute refill
+        for (int second = 1; second < 60; second++) {
+            advanceMillis(1000);
+            assertTrue(buckets.tryAcquire(7) > 0);
+        }
+        advanceMillis(1000);
+        assertEquals(0, buckets.tryAcquire(7));
+    }
+
+    @Test
+    void keysOnOtherStripesHaveTheirOwnBucket() {
+        TokenBucketStripes buckets = new TokenBucketStripes(1 << 12, 1, nanos::get);
+        assertEquals(0, buckets.tryAcquire(1));
+        assertTrue(buckets.tryAcquire(1) > 0);
+        assertEquals(0, buckets.tryAcquire(2));
+    }
+
+    @Test
+    void contendedStripeHandsOutExactlyItsCapacity() throws Exception {
+        // One stripe, so every thread races on the same CAS
+        TokenBucketStripes buckets = new TokenBucketStripes(1, 500, nanos::get);
+        int threads = 8;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long key = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 200; i++) {
+                    if (buckets.tryAcquire(key) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(500, granted.get());
+    }
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.dormitory.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.dormitory.dataset.DatasetTable;
+import com.project.dormitory.dataset.JdbcDatasetSink;
+import com.project.dormitory.model.CheckInOut;
+import com.project.dormitory.model.CheckInOutStatus;
+import com.project.dormitory.model.CheckInOutType;
+import com.project.dormitory.model.ComplaintRepair;
+import com.project.dormitory.model.ComplaintStatus;
+import com.project.dormitory.model.Student;
+import com.project.dormitory.startup.IdGeneratorSeeder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pooled ids let Hibernate batch the inserts, and pick up after ids taken by bulk-loaded rows.
+ */
+@DataJpaTest
+@Import(IdGeneratorSeeder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PooledIdTests {
+
+    private static final long STUDENT_ID = 6731500000L;
+    private static final int ROWS = 120;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentRepo studentRepository;
+
+    @Autowired
+    private CheckInOutRepo checkInOutRepository;
+
+    @Autowired
+    private ComplaintRepairRepo complaintRepairRepository;
+
+    @Autowired
+    private IdGeneratorSeeder idGeneratorSeeder;
+
+    @Test
+    void batchesInsertsAfterBulkLoadedIds() {
+        Student student = saveStudent();
+        // As if the dataset generator had loaded check_in_out rows 1..500
+        new JdbcDatasetSink(jdbcTemplate, 100).idsUsed(DatasetTable.CHECK_IN_OUT, 500);
+
+        List<CheckInOut> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            CheckInOut row = new CheckInOut();
+            row.setStudent(student);
+            row.setType(CheckInOutType.CHECK_IN);
+            row.setStatus(CheckInOutStatus.PENDING);
+            row.setDate(LocalDate.of(2024, 8, 1).plusDays(i));
+            rows.add(row);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<CheckInOut> saved = checkInOutRepository.saveAll(rows);
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(saved.stream().allMatch(row -> row.getId() > 500));
+        // Row by row would take one statement per row plus the student lookups
+        assertTrue(statements < ROWS / 4);
+    }
+
+    @Test
+    void seedsMissingSegmentsAfterExistingRows() {
+        Student student = saveStudent();
+        // A database whose schema came from ddl-auto, with rows from before pooled ids
+        jdbcTemplate.update("DELETE FROM id_generator WHERE sequence_name = 'complaint_repair'");
+        jdbcTemplate.update("INSERT INTO complaint_repair (id, stu_id) VALUES (900, ?)", STUDENT_ID);
+        idGeneratorSeeder.seed();
+
+        ComplaintRepair complaint = new ComplaintRepair();
+        complaint.setStudent(student);
+        complaint.setStatus(ComplaintStatus.PENDING);
+        assertTrue(complaintRepairRepository.save(complaint).getId() > 900);
+    }
+
+    private Student saveStudent() {
+        Student student = new Student();
+        student.setId(STUDENT_ID);
+        student.setName("Somchai");
+        return studentRepository.save(student);
+    }
+}
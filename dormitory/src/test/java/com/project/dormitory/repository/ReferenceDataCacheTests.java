@@ -0,0 +1,128 @@
+package com.project.dormitory.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.dormitory.model.Dormitory;
+import com.project.dormitory.model.DormitoryManager;
+import com.project.dormitory.model.Room;
+import com.project.dormitory.model.RoomId;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL a manager dashboard request spends on reference data (manager ->
+ * dormitory, room lists, a room by id), cold and with the second-level and query
+ * caches warm. Runs without a surrounding transaction so every repository call gets
+ * its own session, as a real request would.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceDataCacheTests {
+
+    private static final long DORM_ID = 101L;
+    private static final long MANAGER_ID = 1L;
+    private static final int ROOMS = 20;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DormitoryManagerRepo managerRepository;
+
+    @Autowired
+    private RoomRepo roomRepository;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Dormitory dormitory = new Dormitory();
+        dormitory.setId(DORM_ID);
+        dormitory.setBuildingName("lamduan");
+
+        DormitoryManager manager = new DormitoryManager();
+        manager.setId(MANAGER_ID);
+        manager.setName("Somchai");
+        manager.setDormitory(dormitory);
+        managerRepository.save(manager);
+
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = new Room();
+            room.setRoomNum(String.valueOf(100 + i));
+            room.setDormitory(dormitory);
+            room.setOccupancy(i % 3);
+            roomRepository.save(room);
+        }
+
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        roomRepository.deleteAll();
+        managerRepository.deleteAll(); // cascades to the dormitory
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void warmCacheServesDashboardReferenceDataWithoutSql() {
+        dashboardRequest();
+        long cold = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        dashboardRequest();
+        long warm = statistics.getPrepareStatementCount();
+
+        assertTrue(cold > 0);
+        assertEquals(0, warm);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+    }
+
+    @Test
+    void savingARoomInvalidatesCachedRoomQueries() {
+        dashboardRequest();
+
+        Room room = roomRepository.findById(new RoomId("100", DORM_ID)).orElseThrow();
+        room.setOccupancy(2);
+        roomRepository.save(room);
+
+        statistics.clear();
+        long available = roomRepository.findByDormitoryIdAndOccupacyLessThan(DORM_ID, 2).size();
+
+        assertEquals(roomsWithOccupancyBelowTwo() - 1, available);
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+    }
+
+    private void dashboardRequest() {
+        long dormId = managerRepository.findDormitoryIdByManagerId(MANAGER_ID).orElseThrow();
+        roomRepository.findByDormitoryIdAndOccupacyLessThan(dormId, 2);
+        roomRepository.findByDormitoryId(dormId);
+        roomRepository.findById(new RoomId("100", dormId)).orElseThrow();
+    }
+
+    private static long roomsWithOccupancyBelowTwo() {
+        long count = 0;
+        for (int i = 0; i < ROOMS; i++) {
+            if (i % 3 < 2) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.dormitory.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.project.dormitory.model.Dormitory;
+import com.project.dormitory.model.Room;
+import com.project.dormitory.model.Student;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Each Student use case must load in a single statement and must not pull in
+ * associations outside its fetch plan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StudentFetchPlanTests {
+
+    private static final long DORM_ID = 101L;
+    private static final long MARY = 6731503001L;
+    private static final long JANE = 6731503010L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StudentRepo studentRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Dormitory dormitory = new Dormitory();
+        dormitory.setId(DORM_ID);
+        dormitory.setBuildingName("lamduan");
+        entityManager.persist(dormitory);
+
+        Room room = new Room();
+        room.setRoomNum("101");
+        room.setDormitory(dormitory);
+        room.setOccupancy(2);
+        entityManager.persist(room);
+
+        Student jane = student(JANE, "Jane", room);
+        entityManager.persist(jane);
+        Student mary = student(MARY, "Mary", room);
+        mary.setRoommate(jane);
+        entityManager.persist(mary);
+        jane.setRoommate(mary);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void loginLoadsOnlyTheStudentRow() {
+        Student student = studentRepository.findLoginById(MARY).orElseThrow();
+
+        assertEquals("Mary", student.getName());
+        assertFalse(Hibernate.isInitialized(student.getRoom()));
+        assertFalse(Hibernate.isInitialized(student.getRoommate()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void roomInfoLoadsRoomDormitoryAndRoommateTogether() {
+        Student student = studentRepository.findRoomInfoById(MARY).orElseThrow();
+
+        assertEquals(DORM_ID, student.getRoom().getDormitory().getId());
+        assertEquals(2, student.getRoom().getStudents().size());
+        assertEquals("Jane", student.getRoommate().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void dashboardLoadsRoomAndRoommatesInOneStatement() {
+        Student student = studentRepository.findDashboardById(MARY).orElseThrow();
+
+        assertEquals(DORM_ID, student.getRoom().getDormitory().getId());
+        assertEquals(2, student.getRoom().getStudents().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void listLoadsRoomsWithoutRoommateChains() {
+        List<Student> students = studentRepository.findByRoomDormitoryId(DORM_ID);
+
+        assertEquals(2, students.size());
+        for (Student student : students) {
+            assertTrue(Hibernate.isInitialized(student.getRoom()));
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static Student student(long id, String name, Room room) {
+        Student student = new Student();
+        student.setId(id);
+        student.setName(name);
+        student.setRoom(room);
+        return student;
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.dormitory.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.project.dormitory.model.AvailableStudentsResponse;
+import com.project.dormitory.model.Student;
+import com.project.dormitory.service.StudentService;
+
+/**
+ * The available-students page follows its cursor to the end, treats the name prefix
+ * as plain text and counts what its filters match.
+ */
+@DataJpaTest
+class UnassignedStudentPageTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StudentRepo studentRepository;
+
+    private StudentService studentService;
+
+    @BeforeEach
+    void setUp() {
+        String[] names = {"Ann", "Anna", "A_ne", "A%x", "Bob"};
+        for (int i = 0; i < names.length; i++) {
+            Student student = new Student();
+            student.setId(100L + i);
+            student.setName(names[i]);
+            entityManager.persist(student);
+        }
+        entityManager.flush();
+        studentService = new StudentService(studentRepository, null);
+    }
+
+    @Test
+    void followsTheCursorToTheLastPage() {
+        AvailableStudentsResponse first = studentService.getStudentsWithoutRoom(null, 2, null, null);
+        AvailableStudentsResponse second = studentService.getStudentsWithoutRoom(first.getNextCursor(), 2, null, null);
+        AvailableStudentsResponse last = studentService.getStudentsWithoutRoom(second.getNextCursor(), 2, null, null);
+
+        assertEquals(List.of(100L, 101L), ids(first));
+        assertEquals(List.of(102L, 103L), ids(second));
+        assertEquals(List.of(104L), ids(last));
+        assertEquals(null, last.getNextCursor());
+    }
+
+    @Test
+    void matchesWildcardsInThePrefixLiterally() {
+        assertEquals(List.of(102L), ids(studentService.getStudentsWithoutRoom(null, 10, null, "A_")));
+        assertEquals(List.of(103L), ids(studentService.getStudentsWithoutRoom(null, 10, null, "A%")));
+        assertEquals(List.of(100L, 101L), ids(studentService.getStudentsWithoutRoom(null, 10, null, "An")));
+    }
+
+    @Test
+    void countsTheStudentsTheFiltersMatch() {
+        AvailableStudentsResponse filtered = studentService.getStudentsWithoutRoom(null, 1, null, "An");
+        assertEquals(2L, filtered.getTotalMatching());
+        assertEquals(5L, filtered.getTotalUnassigned());
+
+        AvailableStudentsResponse unfiltered = studentService.getStudentsWithoutRoom(null, 1, " ", null);
+        assertEquals(5L, unfiltered.getTotalMatching());
+        assertEquals(0L, studentService.getStudentsWithoutRoom(null, 1, "Law", "An").getTotalMatching());
+    }
+
+    private static List<Long> ids(AvailableStudentsResponse response) {
+        return response.getStudents().stream().map(Student::getId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.dormitory.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs the advisor in strict mode, so a repository query added without its index fails
+ * the context, and checks it notices an index going missing.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:indexes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.sql.init.mode=never",
+    "dormitory.index-advisor.enabled=true",
+    "dormitory.index-advisor.strict=true"
+})
+class IndexAdvisorTests {
+
+    @Autowired
+    private IndexAdvisor indexAdvisor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryHasAnIndex() throws Exception {
+        assertTrue(indexAdvisor.missingIndexes().isEmpty());
+    }
+
+    @Test
+    void derivesAdviceFromJpqlJoins() {
+        IndexAdvice advice = indexAdvisor.advise().stream()
+            .filter(a -> a.getSources().contains("CheckInOutRepo.findByDormitoryId"))
+            .filter(a -> a.getTable().equals("check_in_out"))
+            .findFirst().orElseThrow();
+        assertEquals(List.of("stu_id", "date"), advice.getColumns());
+    }
+
+    @Test
+    void resolvesAssociationsOnAnIdClass() {
+        // Room.dormitory is part of Room's @IdClass key, dormitory.id stops at room.dorm_id
+        IndexAdvice advice = indexAdvisor.advise().stream()
+            .filter(a -> a.getSources().contains("RoomRepo.findByDormitoryIdAndOccupacyLessThan"))
+            .findFirst().orElseThrow();
+        assertEquals("room", advice.getTable());
+        assertEquals(List.of("dorm_id", "occupacy"), advice.getColumns());
+    }
+
+    @Test
+    void reportsDroppedIndexWithItsQueries() throws Exception {
+        jdbcTemplate.execute("DROP INDEX idx_check_in_out_status_date");
+        try {
+            List<IndexAdvice> missing = indexAdvisor.missingIndexes();
+            assertEquals(1, missing.size());
+            assertEquals("CREATE INDEX idx_check_in_out_status_date ON check_in_out (status, date);", missing.get(0).toDdl());
+            assertTrue(missing.get(0).getSources().contains("CheckInOutRepo.findByStatusOrderByDateDesc"));
+            assertTrue(missing.get(0).getSources().contains("CheckInOutRepo.countByStatus"));
+        } finally {
+            jdbcTemplate.execute("CREATE INDEX idx_check_in_out_status_date ON check_in_out (status, date)");
+        }
+    }
+}
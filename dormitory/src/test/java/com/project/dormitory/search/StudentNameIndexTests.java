@@ -0,0 +1,103 @@
+package com.project.dormitory.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.dormitory.repository.StudentRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Writes that land while the index is rebuilt are kept, and an index that ran over its
+ * budget comes back once the names fit again.
+ */
+class StudentNameIndexTests {
+
+    @Test
+    void replaysWritesMadeDuringARebuild() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StudentNameIndex index = new StudentNameIndex(repo(() -> {
+            reading.countDown();
+            await(release);
+            return rows(1L, "John Smith", 2L, "Jane Doe");
+        }), new SimpleMeterRegistry(), 1 << 20, 60_000);
+        try {
+            Thread rebuild = new Thread(index::rebuild);
+            rebuild.start();
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+            // Committed after the read started, so the rows above predate them
+            index.put(3L, "Johanna Lee");
+            index.put(1L, "John Smythe");
+            index.remove(2L);
+            release.countDown();
+            rebuild.join(5_000);
+
+            assertTrue(index.isAvailable());
+            assertEquals(List.of(1L, 3L), index.search("jo", 10));
+            assertEquals(List.of(1L), index.search("smythe", 10));
+            assertEquals(List.of(), index.search("smith", 10));
+            assertEquals(List.of(), index.search("jane", 10));
+        } finally {
+            index.destroy();
+        }
+    }
+
+    @Test
+    void retriesARebuildThatRanOverBudget() throws Exception {
+        List<Object[]> table = new ArrayList<>(rows(1L, "John Smith", 2L, "Jane Doe", 3L, "Johanna Lee"));
+        StudentNameIndex index = new StudentNameIndex(repo(() -> List.copyOf(table)),
+            new SimpleMeterRegistry(), 700, 50);
+        try {
+            index.rebuild();
+            assertFalse(index.isAvailable());
+
+            table.subList(1, 3).clear();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!index.isAvailable()) {
+                assertTrue(System.nanoTime() < deadline, "index was not rebuilt");
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+            assertEquals(List.of(1L), index.search("john", 10));
+        } finally {
+            index.destroy();
+        }
+    }
+
+    private static StudentRepo repo(Supplier<List<Object[]>> idsAndNames) {
+        return (StudentRepo) Proxy.newProxyInstance(StudentRepo.class.getClassLoader(),
+            new Class<?>[] {StudentRepo.class}, (proxy, method, args) -> {
+                if (method.getName().equals("findAllIdAndName")) {
+                    return idsAndNames.get();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private static List<Object[]> rows(Object... idsAndNames) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < idsAndNames.length; i += 2) {
+            rows.add(new Object[] {idsAndNames[i], idsAndNames[i + 1]});
+        }
+        return rows;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.dormitory.security;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * A login storm is turned away right away instead of parking request threads.
+ */
+class CredentialVerifierTests {
+
+    @Test
+    void rejectsRightAwayOnceTheQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHasher slowHasher = new PasswordHasher(4) {
+            @Override
+            public boolean matches(String rawPassword, String stored) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        CredentialVerifier verifier = new CredentialVerifier(slowHasher, 1, 1, 60_000, 0, 1);
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            // One check running and one queued
+            clients.submit(() -> verifier.verify("student:1", "secret", "secret"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            clients.submit(() -> verifier.verify("student:2", "secret", "secret"));
+            TimeUnit.MILLISECONDS.sleep(50);
+
+            long start = System.nanoTime();
+            assertThrows(LoginOverloadedException.class, () -> verifier.verify("student:3", "secret", "secret"));
+            assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+            verifier.destroy();
+        }
+    }
+
+    @Test
+    void givesUpAfterTheVerifyTimeout() {
+        PasswordHasher stuckHasher = new PasswordHasher(4) {
+            @Override
+            public boolean matches(String rawPassword, String stored) {
+                try {
+                    TimeUnit.SECONDS.sleep(30);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        CredentialVerifier verifier = new CredentialVerifier(stuckHasher, 1, 0, 100, 0, 1);
+        try {
+            long start = System.nanoTime();
+            assertThrows(LoginOverloadedException.class, () -> verifier.verify("student:1", "secret", "secret"));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        } finally {
+            verifier.destroy();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.dormitory.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * The filter guards every path Spring MVC would route to a student, manager or import
+ * handler, however the path is spelled.
+ */
+class SessionTokenFilterTests {
+
+    private static final long MANAGER_ID = 5;
+    private static final long STUDENT_ID = 6731503001L;
+
+    private final SessionTokenService tokens =
+        new SessionTokenService(Base64.getEncoder().encodeToString(new byte[32]), 12);
+    private final SessionTokenFilter filter = new SessionTokenFilter(tokens);
+
+    @Test
+    void passesTheOwnerWithItsPrincipal() throws Exception {
+        MockHttpServletRequest request = request("/api/manager/5/rooms", managerToken());
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = run(request, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(MANAGER_ID, ((SessionPrincipal) request.getAttribute(SessionTokenFilter.PRINCIPAL)).getUserId());
+    }
+
+    @Test
+    void rejectsMissingTamperedAndExpiredTokens() throws Exception {
+        assertEquals(401, run(request("/api/manager/5/rooms", null)).getStatus());
+        assertEquals(401, run(request("/api/manager/5/rooms", managerToken() + "x")).getStatus());
+
+        SessionTokenService expiring = new SessionTokenService(Base64.getEncoder().encodeToString(new byte[32]), -1);
+        String expired = expiring.issue(MANAGER_ID, SessionPrincipal.MANAGER, 101L);
+        assertEquals(401, run(request("/api/manager/5/rooms", expired)).getStatus());
+    }
+
+    @Test
+    void rejectsTheWrongRoleAndSomeoneElsesId() throws Exception {
+        assertEquals(403, run(request("/api/manager/" + STUDENT_ID + "/rooms", studentToken())).getStatus());
+        assertEquals(403, run(request("/api/student/5/dashboard", managerToken())).getStatus());
+        assertEquals(403, run(request("/api/import/students", studentToken())).getStatus());
+
+        assertEquals(403, run(request("/api/manager/6/rooms", managerToken())).getStatus());
+        assertEquals(403, run(request("/api/student/" + (STUDENT_ID + 1) + "/dashboard", studentToken())).getStatus());
+    }
+
+    @Test
+    void guardsEncodedAndParameterisedSpellingsOfAPath() throws Exception {
+        String[] spellings = {
+            "/api/%6Danager/5/rooms",
+            "/api/manager;x=1/5/rooms",
+            "/api//manager/5/rooms",
+            "/api/x/../manager/5/rooms",
+        };
+        for (String path : spellings) {
+            assertEquals(401, run(request(path, null)).getStatus(), path);
+            assertEquals(403, run(request(path, studentToken())).getStatus(), path);
+        }
+        // The id segment is read after decoding too
+        assertEquals(403, run(request("/api/manager/%36/rooms", managerToken())).getStatus());
+        assertEquals(200, run(request("/api/manager/%35;v=1/rooms", managerToken())).getStatus());
+    }
+
+    @Test
+    void leavesOtherPathsAlone() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        run(request("/api/auth/login", null), chain);
+        assertNotNull(chain.getRequest());
+        assertNull(chain.getRequest().getAttribute(SessionTokenFilter.PRINCIPAL));
+    }
+
+    private String managerToken() {
+        return tokens.issue(MANAGER_ID, SessionPrincipal.MANAGER, 101L);
+    }
+
+    private String studentToken() {
+        return tokens.issue(STUDENT_ID, SessionPrincipal.STUDENT, null);
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (token != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws Exception {
+        return run(request, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.dormitory.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Only tokens this service signed, unchanged and unexpired, yield a principal.
+ */
+class SessionTokenServiceTests {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final SessionTokenService tokens = new SessionTokenService(SECRET, 12);
+
+    @Test
+    void verifiesWhatItIssued() {
+        SessionPrincipal manager = tokens.verify(tokens.issue(5, SessionPrincipal.MANAGER, 101L));
+        assertTrue(manager.isManager());
+        assertEquals(5, manager.getUserId());
+        assertEquals(101L, manager.getDormitoryId());
+
+        SessionPrincipal student = tokens.verify(tokens.issue(6731503001L, SessionPrincipal.STUDENT, null));
+        assertEquals(SessionPrincipal.STUDENT, student.getRole());
+        assertEquals(6731503001L, student.getUserId());
+        assertNull(student.getDormitoryId());
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        String token = tokens.issue(6731503001L, SessionPrincipal.STUDENT, null);
+        // Promoting the role, changing the user or flipping a signature char all break the MAC
+        assertNull(tokens.verify("m" + token.substring(1)));
+        assertNull(tokens.verify(token.replace("6731503001", "6731503002")));
+        // Not the last char: its low bits are padding, so some changes decode to the same MAC
+        int flip = token.length() - 2;
+        char changed = token.charAt(flip) == 'A' ? 'B' : 'A';
+        assertNull(tokens.verify(token.substring(0, flip) + changed + token.substring(flip + 1)));
+        assertNull(tokens.verify(token.substring(0, token.length() - 1)));
+        assertNull(tokens.verify("not a token"));
+        assertNull(tokens.verify(""));
+        assertNull(tokens.verify(null));
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKey() {
+        SessionTokenService other = new SessionTokenService(Base64.getEncoder().encodeToString(new byte[] {
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+            17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32}), 12);
+        assertNull(tokens.verify(other.issue(5, SessionPrincipal.MANAGER, 101L)));
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        SessionTokenService expiring = new SessionTokenService(SECRET, -1);
+        assertNull(expiring.verify(expiring.issue(5, SessionPrincipal.MANAGER, 101L)));
+    }
+}
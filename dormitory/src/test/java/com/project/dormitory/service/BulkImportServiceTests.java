@@ -0,0 +1,182 @@
+package com.project.dormitory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.project.dormitory.importer.ImportType;
+import com.project.dormitory.model.ImportReport;
+import com.project.dormitory.security.PasswordHasher;
+import com.project.dormitory.security.SessionPrincipal;
+import com.project.dormitory.security.SessionTokenService;
+
+/**
+ * CSV imports commit chunk by chunk, resume from their checkpoint, isolate bad rows and
+ * never store a plaintext password.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:imports;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.sql.init.mode=never",
+    "dormitory.import.chunk-size=3",
+    "dormitory.password.bcrypt-strength=4"
+})
+@AutoConfigureMockMvc
+class BulkImportServiceTests {
+
+    private static final long FIRST_ID = 6731500000L;
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SessionTokenService tokenService;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM student");
+        jdbcTemplate.update("DELETE FROM import_checkpoint");
+    }
+
+    @Test
+    void storesPasswordsHashed() throws Exception {
+        String stored = passwordHasher.hash("kept");
+        ImportReport report = bulkImportService.importCsv("hashes", ImportType.STUDENT,
+            new StringReader("id,name,password\n"
+                + FIRST_ID + ",Anan,secret\n"
+                + (FIRST_ID + 1) + ",Benja," + stored + "\n"
+                + (FIRST_ID + 2) + ",Chai,\n"));
+
+        assertEquals(3, report.getRowsImported());
+        List<String> passwords = jdbcTemplate.queryForList("SELECT password FROM student ORDER BY id", String.class);
+        assertTrue(PasswordHasher.isHashed(passwords.get(0)));
+        assertTrue(passwordHasher.matches("secret", passwords.get(0)));
+        // An exported hash is kept, not hashed again
+        assertEquals(stored, passwords.get(1));
+        assertEquals(null, passwords.get(2));
+    }
+
+    @Test
+    void resumesAfterTheLastCommittedChunk() throws Exception {
+        String csv = students(7);
+        // The upload breaks off after line 6: lines 2-4 are one committed chunk, 5-6 are lost
+        int cut = nthLineEnd(csv, 6);
+        assertThrows(IOException.class,
+            () -> bulkImportService.importCsv("resume", ImportType.STUDENT, failingAfter(csv.substring(0, cut))));
+        assertEquals(3, studentCount());
+        assertEquals(4L, bulkImportService.getProgress("resume").getLinesRead());
+
+        ImportReport report = bulkImportService.importCsv("resume", ImportType.STUDENT, new StringReader(csv));
+
+        assertEquals(3, report.getRowsSkipped());
+        assertEquals(7, report.getRowsImported());
+        assertEquals(0, report.getRowsRejected());
+        assertTrue(report.isFinished());
+        assertEquals(7, studentCount());
+    }
+
+    @Test
+    void retriesAFailedBatchRowByRow() throws Exception {
+        jdbcTemplate.update("INSERT INTO student (id, name) VALUES (?, 'Existing')", FIRST_ID + 1);
+
+        ImportReport report = bulkImportService.importCsv("fallback", ImportType.STUDENT, new StringReader(students(3)));
+
+        assertEquals(2, report.getRowsImported());
+        assertEquals(1, report.getRowsRejected());
+        assertEquals(3, report.getErrors().get(0).getLine());
+        assertEquals(3, studentCount());
+    }
+
+    @Test
+    void capsTheReportedErrors() throws Exception {
+        StringBuilder csv = new StringBuilder("id,name\n");
+        for (int i = 0; i < 510; i++) {
+            csv.append("not-a-number,Anan\n");
+        }
+
+        ImportReport report = bulkImportService.importCsv("errors", ImportType.STUDENT, new StringReader(csv.toString()));
+
+        assertEquals(510, report.getRowsRejected());
+        assertEquals(500, report.getErrors().size());
+    }
+
+    @Test
+    void onlyManagersMayImport() throws Exception {
+        mockMvc.perform(upload(null)).andExpect(status().isUnauthorized());
+        mockMvc.perform(upload(tokenService.issue(FIRST_ID, SessionPrincipal.STUDENT, null)))
+            .andExpect(status().isForbidden());
+        assertEquals(0, studentCount());
+
+        mockMvc.perform(upload(tokenService.issue(1L, SessionPrincipal.MANAGER, 101L))).andExpect(status().isOk());
+        assertEquals(2, studentCount());
+    }
+
+    private MockHttpServletRequestBuilder upload(String token) {
+        MockHttpServletRequestBuilder request = post("/api/import/student").contentType("text/csv").content(students(2));
+        return token != null ? request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token) : request;
+    }
+
+    private int studentCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student", Integer.class);
+    }
+
+    private static String students(int count) {
+        StringBuilder csv = new StringBuilder("id,name,major\n");
+        for (int i = 0; i < count; i++) {
+            csv.append(FIRST_ID + i).append(",Student ").append(i).append(",Law\n");
+        }
+        return csv.toString();
+    }
+
+    private static int nthLineEnd(String text, int lines) {
+        int end = -1;
+        for (int i = 0; i < lines; i++) {
+            end = text.indexOf('\n', end + 1);
+        }
+        return end + 1;
+    }
+
+    // Serves text, then fails like a dropped connection instead of reaching the end
+    private static Reader failingAfter(String text) {
+        return new FilterReader(new StringReader(text)) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read < 0) {
+                    throw new IOException("Connection reset");
+                }
+                return read;
+            }
+        };
+    }
+}
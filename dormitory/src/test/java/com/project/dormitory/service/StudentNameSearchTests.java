@@ -0,0 +1,98 @@
+package com.project.dormitory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.dormitory.model.Student;
+import com.project.dormitory.repository.StudentRepo;
+import com.project.dormitory.search.StudentNameIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * A name search answers the same whether the index serves it or, over its memory
+ * budget, the database does.
+ */
+class StudentNameSearchTests {
+
+    private static final List<Student> TABLE = List.of(
+        student(4L, "Somchai Srisuk"),
+        student(1L, "John Smith"),
+        student(2L, "Bojo Small"),
+        student(3L, "Mary-Jo Smythe"));
+
+    @Test
+    void fallbackMatchesTokenPrefixesLikeTheIndex() {
+        StudentNameIndex index = new StudentNameIndex(repo(), new SimpleMeterRegistry(), 1 << 20, 60_000);
+        StudentNameIndex overBudget = new StudentNameIndex(repo(), new SimpleMeterRegistry(), 1, 60_000);
+        try {
+            index.rebuild();
+            assertTrue(index.isAvailable());
+            assertFalse(overBudget.isAvailable());
+            StudentService indexed = new StudentService(repo(), index);
+            StudentService fallback = new StudentService(repo(), overBudget);
+
+            for (String query : List.of("jo sm", "JO", "smy", "ohn", "s", "mary jo", "jo-sm", " ")) {
+                assertEquals(ids(indexed.searchStudentsByName(query)), ids(fallback.searchStudentsByName(query)),
+                    query);
+            }
+            // Bojo only contains "jo" and "ohn" is inside John, neither starts a token
+            assertEquals(List.of(1L, 3L), ids(fallback.searchStudentsByName("jo sm")));
+            assertEquals(List.of(), ids(fallback.searchStudentsByName("ohn")));
+        } finally {
+            index.destroy();
+            overBudget.destroy();
+        }
+    }
+
+    // The rows plus what the SQL behind each finder returns, case-insensitive like MySQL
+    private static StudentRepo repo() {
+        return (StudentRepo) Proxy.newProxyInstance(StudentRepo.class.getClassLoader(),
+            new Class<?>[] {StudentRepo.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findAllIdAndName": {
+                        List<Object[]> rows = new ArrayList<>();
+                        TABLE.forEach(student -> rows.add(new Object[] {student.getId(), student.getName()}));
+                        return rows;
+                    }
+                    case "findAllById": {
+                        Iterable<?> ids = (Iterable<?>) args[0];
+                        List<Student> found = new ArrayList<>();
+                        TABLE.forEach(student -> ids.forEach(id -> {
+                            if (id.equals(student.getId())) {
+                                found.add(student);
+                            }
+                        }));
+                        return found;
+                    }
+                    case "findByNameContaining": {
+                        String part = ((String) args[0]).toLowerCase(Locale.ROOT);
+                        return TABLE.stream()
+                            .filter(student -> student.getName().toLowerCase(Locale.ROOT).contains(part))
+                            .toList();
+                    }
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private static List<Long> ids(List<Student> students) {
+        return students.stream().map(Student::getId).toList();
+    }
+
+    private static Student student(Long id, String name) {
+        Student student = new Student();
+        student.setId(id);
+        student.setName(name);
+        return student;
+    }
+}
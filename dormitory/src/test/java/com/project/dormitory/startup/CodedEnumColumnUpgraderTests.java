@@ -0,0 +1,104 @@
+package com.project.dormitory.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * A database left with string enum columns by ddl-auto=update is converted once, in the
+ * default profile too.
+ */
+class CodedEnumColumnUpgraderTests {
+
+    private final SingleConnectionDataSource dataSource =
+        new SingleConnectionDataSource("jdbc:h2:mem:legacy-enums;MODE=MySQL", true);
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final CodedEnumColumnUpgrader upgrader = new CodedEnumColumnUpgrader(jdbcTemplate, h2Script());
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    void convertsLabelsToCodesOnce() {
+        jdbcTemplate.execute("CREATE TABLE check_in_out (id BIGINT PRIMARY KEY, type VARCHAR(255), status VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE complaint_repair (id BIGINT PRIMARY KEY, service_type VARCHAR(255), "
+            + "priority_lvl VARCHAR(255), status VARCHAR(255))");
+        jdbcTemplate.update("INSERT INTO check_in_out VALUES (1, 'Check-in', 'PENDING'), (2, 'check_out', 'approved')");
+        jdbcTemplate.update("INSERT INTO complaint_repair VALUES "
+            + "(1, 'Wi-Fi', 'High', 'IN PROGRESS'), (2, 'Gardening', 'low', 'Resolved')");
+
+        assertTrue(upgrader.upgrade());
+
+        assertEquals(List.of("1:1", "2:2"), rows("SELECT type, status FROM check_in_out ORDER BY id"));
+        assertEquals(List.of("4:3:2", "6:1:3"),
+            rows("SELECT service_type, priority_lvl, status FROM complaint_repair ORDER BY id"));
+        assertFalse(upgrader.upgrade());
+        assertEquals(List.of("1:1", "2:2"), rows("SELECT type, status FROM check_in_out ORDER BY id"));
+    }
+
+    @Test
+    void leavesCodedColumnsAlone() {
+        jdbcTemplate.execute("CREATE TABLE check_in_out (id BIGINT PRIMARY KEY, type TINYINT, status TINYINT)");
+        jdbcTemplate.execute("CREATE TABLE complaint_repair (id BIGINT PRIMARY KEY, service_type TINYINT, "
+            + "priority_lvl TINYINT, status TINYINT)");
+        assertFalse(upgrader.upgrade());
+    }
+
+    @Test
+    void refusesAHalfConvertedSchema() {
+        jdbcTemplate.execute("CREATE TABLE check_in_out (id BIGINT PRIMARY KEY, type TINYINT, status TINYINT)");
+        jdbcTemplate.execute("CREATE TABLE complaint_repair (id BIGINT PRIMARY KEY, service_type VARCHAR(255), "
+            + "priority_lvl VARCHAR(255), status VARCHAR(255))");
+        assertThrows(IllegalStateException.class, upgrader::upgrade);
+    }
+
+    // V3 itself, with each multi-column ALTER split up because H2 takes one MODIFY per statement
+    private static ByteArrayResource h2Script() {
+        String script;
+        try {
+            script = new ClassPathResource(CodedEnumColumnUpgrader.SCRIPT).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Matcher alter = Pattern.compile("ALTER TABLE (\\w+)\\s+([^;]+);").matcher(script);
+        StringBuilder split = new StringBuilder();
+        while (alter.find()) {
+            StringBuilder statements = new StringBuilder();
+            for (String modify : alter.group(2).split(",")) {
+                statements.append("ALTER TABLE ").append(alter.group(1)).append(' ').append(modify.trim()).append(";\n");
+            }
+            alter.appendReplacement(split, Matcher.quoteReplacement(statements.toString()));
+        }
+        alter.appendTail(split);
+        return new ByteArrayResource(split.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> rows(String sql) {
+        return jdbcTemplate.query(sql, (resultSet, i) -> {
+            String[] values = new String[resultSet.getMetaData().getColumnCount()];
+            for (int c = 0; c < values.length; c++) {
+                values[c] = resultSet.getString(c + 1);
+            }
+            return String.join(":", Arrays.asList(values));
+        });
+    }
+}